@@ -0,0 +1,132 @@
+package io.github.sanvew.tg.init.data.audit;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Command line of {@link InitDataAudit}.
+ */
+final class AuditOptions {
+    static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java -jar init-data-audit.jar [options] <file>",
+            "",
+            "Validates the initData found in every line of <file> and prints aggregate statistics.",
+            "",
+            "Options:",
+            "  --bot-token-file <path>  file with the bot tokens, one per line, the primary one first;",
+            "                           lines starting with '#' are ignored (default: $" + InitDataAudit.BOT_TOKEN_ENV + ")",
+            "  --marker <text>          initData starts right after <text> in a line and ends at whitespace or",
+            "                           a quote, e.g. --marker 'initData=' (default: the whole line is initData)",
+            "  --expires-in <duration>  count initData older than this as EXPIRED, in seconds or ISO-8601,",
+            "                           e.g. 86400 or PT24H (default: not checked)",
+            "  --now <epoch seconds>    reference time for --expires-in and the auth_date age (default: now)",
+            "  --limits                 count initData exceeding the default input limits (8 KiB, 32 pairs,",
+            "                           4 KiB per value) as MALFORMED (default: not checked)",
+            "  --threads <n>            number of worker threads (default: number of processors)",
+            "  --chunk-size <MiB>       size of the file chunks processed in parallel (default: 64)",
+            "  --help                   print this message"
+    );
+    static final long DEFAULT_CHUNK_SIZE = 64L << 20;
+    static final int MAX_THREADS = 1024;
+
+    Path file;
+    Path botTokenFile;
+    byte[] marker;
+    Duration expiresIn;
+    Long now;
+    boolean limits;
+    int threads = Runtime.getRuntime().availableProcessors();
+    long chunkSize = DEFAULT_CHUNK_SIZE;
+    boolean help;
+
+    /**
+     * @throws IllegalArgumentException if {@code args} are malformed; the message is meant for the user
+     */
+    static AuditOptions parse(String[] args) {
+        final AuditOptions options = new AuditOptions();
+        for (int i = 0; i < args.length; i++) {
+            final String arg = args[i];
+            switch (arg) {
+                case "-h":
+                case "--help":
+                    options.help = true;
+                    return options;
+                case "--bot-token-file":
+                    options.botTokenFile = Paths.get(value(args, ++i, arg));
+                    break;
+                case "--marker":
+                    options.marker = value(args, ++i, arg).getBytes(StandardCharsets.UTF_8);
+                    if (options.marker.length == 0) {
+                        throw new IllegalArgumentException("Option " + arg + " must not be empty");
+                    }
+                    break;
+                case "--expires-in":
+                    options.expiresIn = duration(value(args, ++i, arg), arg);
+                    break;
+                case "--now":
+                    options.now = number(value(args, ++i, arg), arg, 0, Long.MAX_VALUE);
+                    break;
+                case "--limits":
+                    options.limits = true;
+                    break;
+                case "--threads":
+                    options.threads = (int) number(value(args, ++i, arg), arg, 1, MAX_THREADS);
+                    break;
+                case "--chunk-size":
+                    options.chunkSize = number(value(args, ++i, arg), arg, 1, FileChunks.MAX_CHUNK_SIZE >> 20) << 20;
+                    break;
+                default:
+                    if (arg.startsWith("-")) {
+                        throw new IllegalArgumentException("Unknown option " + arg);
+                    }
+                    if (options.file != null) {
+                        throw new IllegalArgumentException("Only one file can be audited, got " + options.file + " and " + arg);
+                    }
+                    options.file = Paths.get(arg);
+            }
+        }
+        if (options.file == null) {
+            throw new IllegalArgumentException("File to audit is not provided");
+        }
+        return options;
+    }
+
+    private static String value(String[] args, int idx, String option) {
+        if (idx >= args.length) {
+            throw new IllegalArgumentException("Option " + option + " requires a value");
+        }
+        return args[idx];
+    }
+
+    private static long number(String value, String option, long min, long max) {
+        final long number;
+        try {
+            number = Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Option " + option + " must be a number, got " + value);
+        }
+        if (number < min || number > max) {
+            throw new IllegalArgumentException(
+                    "Option " + option + " must be in range [" + min + ", " + max + "], got " + value);
+        }
+        return number;
+    }
+
+    private static Duration duration(String value, String option) {
+        final Duration duration;
+        try {
+            duration = value.startsWith("P") || value.startsWith("p")
+                    ? Duration.parse(value)
+                    : Duration.ofSeconds(Long.parseLong(value));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Option " + option + " must be a duration, got " + value);
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Option " + option + " must be positive, got " + value);
+        }
+        return duration;
+    }
+}
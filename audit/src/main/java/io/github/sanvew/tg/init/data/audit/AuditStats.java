@@ -0,0 +1,130 @@
+package io.github.sanvew.tg.init.data.audit;
+
+import io.github.sanvew.tg.init.data.ValidationStatus;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Counters collected while auditing a file: validation results per {@link ValidationStatus}, the age of
+ * {@code auth_date} of the valid payloads and their distinct users.
+ * <p>
+ * Not thread-safe: each chunk is counted into its own instance, and the instances are combined with
+ * {@link #merge(AuditStats)}.
+ */
+final class AuditStats {
+    /** Upper bounds (exclusive) of the {@code auth_date} age buckets, in seconds; the last bucket is unbounded. */
+    static final long[] AGE_BOUNDS = {60, 60 * 60, 24 * 60 * 60, 7 * 24 * 60 * 60, 30 * 24 * 60 * 60};
+    static final String[] AGE_LABELS = {"< 1 minute", "< 1 hour", "< 1 day", "< 7 days", "< 30 days", ">= 30 days"};
+
+    private static final ValidationStatus[] STATUSES = ValidationStatus.values();
+
+    long lines;
+    /** Lines without {@code initData}: blank ones or, with a marker set, lines not containing it. */
+    long skipped;
+    final long[] statuses = new long[STATUSES.length];
+    /** Valid payloads whose {@code auth_date} or {@code user} couldn't be parsed. */
+    long unparseable;
+    /** Valid payloads with {@code auth_date} later than the reference time. */
+    long future;
+    final long[] ages = new long[AGE_BOUNDS.length + 1];
+    long minAuthDate = Long.MAX_VALUE;
+    long maxAuthDate = Long.MIN_VALUE;
+    final LongHashSet users = new LongHashSet();
+
+    void status(ValidationStatus status) {
+        statuses[status.ordinal()]++;
+    }
+
+    long count(ValidationStatus status) {
+        return statuses[status.ordinal()];
+    }
+
+    /**
+     * Counts {@code authDate} into its age bucket relative to {@code now}, both in epoch seconds.
+     */
+    void authDate(long authDate, long now) {
+        minAuthDate = Math.min(minAuthDate, authDate);
+        maxAuthDate = Math.max(maxAuthDate, authDate);
+        final long age = now - authDate;
+        if (age < 0) {
+            future++;
+            return;
+        }
+        int bucket = 0;
+        while (bucket < AGE_BOUNDS.length && age >= AGE_BOUNDS[bucket]) {
+            bucket++;
+        }
+        ages[bucket]++;
+    }
+
+    void merge(AuditStats other) {
+        lines += other.lines;
+        skipped += other.skipped;
+        for (int i = 0; i < statuses.length; i++) {
+            statuses[i] += other.statuses[i];
+        }
+        unparseable += other.unparseable;
+        future += other.future;
+        for (int i = 0; i < ages.length; i++) {
+            ages[i] += other.ages[i];
+        }
+        minAuthDate = Math.min(minAuthDate, other.minAuthDate);
+        maxAuthDate = Math.max(maxAuthDate, other.maxAuthDate);
+        users.addAll(other.users);
+    }
+
+    /**
+     * Prints the report.
+     *
+     * @param bytes size of the audited file
+     * @param elapsed time the audit took
+     */
+    void print(PrintStream out, long bytes, Duration elapsed) {
+        final long checked = lines - skipped;
+        final long valid = count(ValidationStatus.VALID);
+
+        out.println("Lines");
+        row(out, "total", lines, lines);
+        row(out, "without initData", skipped, lines);
+        row(out, "checked", checked, lines);
+
+        out.println();
+        out.println("Validation");
+        row(out, "valid", valid, checked);
+        if (unparseable > 0) {
+            row(out, "  unparseable", unparseable, checked);
+        }
+        row(out, "invalid", checked - valid, checked);
+        for (ValidationStatus status : STATUSES) {
+            if (!status.isValid()) {
+                row(out, "  " + status.name(), count(status), checked);
+            }
+        }
+
+        out.println();
+        out.println("auth_date age of valid initData");
+        row(out, "in the future", future, valid);
+        for (int i = 0; i < ages.length; i++) {
+            row(out, AGE_LABELS[i], ages[i], valid);
+        }
+        if (minAuthDate <= maxAuthDate) {
+            out.printf(Locale.ROOT, "  %-20s %d .. %d%n", "range", minAuthDate, maxAuthDate);
+        }
+
+        out.println();
+        out.println("Users");
+        out.printf(Locale.ROOT, "  %-20s %,15d%n", "distinct", users.size());
+
+        final double seconds = Math.max(elapsed.toNanos(), 1) / 1e9;
+        out.println();
+        out.printf(Locale.ROOT, "%,d bytes in %.2f s: %,.0f lines/s, %.1f MiB/s%n",
+                bytes, seconds, lines / seconds, bytes / seconds / (1 << 20));
+    }
+
+    private static void row(PrintStream out, String label, long count, long total) {
+        final double percent = total > 0 ? 100.0 * count / total : 0;
+        out.printf(Locale.ROOT, "  %-20s %,15d %6.2f%%%n", label, count, percent);
+    }
+}
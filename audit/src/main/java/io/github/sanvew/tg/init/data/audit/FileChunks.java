@@ -0,0 +1,100 @@
+package io.github.sanvew.tg.init.data.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a file into byte ranges which end on line boundaries, so every range can be memory-mapped and scanned
+ * by its own thread without a line being cut between two of them.
+ */
+final class FileChunks {
+    /** Upper bound of a single mapping, see {@link FileChannel#map(FileChannel.MapMode, long, long)}. */
+    static final long MAX_CHUNK_SIZE = Integer.MAX_VALUE;
+
+    private static final int PROBE_LENGTH = 8192;
+
+    private FileChunks() {}
+
+    /**
+     * @param channel file to split
+     * @param chunkSize target size of a chunk in bytes; a chunk is extended up to the end of the line it stops in
+     * @return consecutive chunks covering the whole file, empty for an empty file
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive or exceeds {@link #MAX_CHUNK_SIZE}
+     * @throws IOException if the file can't be read, or a line is too long to fit a chunk
+     */
+    static List<Chunk> split(FileChannel channel, long chunkSize) throws IOException {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException(
+                    "Argument \"chunkSize\" must be in range [1, " + MAX_CHUNK_SIZE + "], got " + chunkSize);
+        }
+
+        final long size = channel.size();
+        final List<Chunk> chunks = new ArrayList<>();
+        final ByteBuffer probe = ByteBuffer.allocate(PROBE_LENGTH);
+        long start = 0;
+        while (start < size) {
+            // search from the last byte of the chunk, which ends the chunk if it is '\n' itself
+            final long end = lineEnd(channel, Math.min(size, start + chunkSize) - 1, size, probe);
+            if (end - start > MAX_CHUNK_SIZE) {
+                throw new IOException("Line starting before offset " + (start + chunkSize) + " is too long");
+            }
+            chunks.add(new Chunk(start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * @return offset right after the first {@code '\n'} at or after {@code offset}, or {@code size} if there is none
+     */
+    private static long lineEnd(FileChannel channel, long offset, long size, ByteBuffer probe) throws IOException {
+        long position = offset;
+        while (position < size) {
+            probe.clear();
+            final int read = channel.read(probe, position);
+            if (read <= 0) {
+                return size;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Byte range {@code [start, end)} of a file.
+     */
+    static final class Chunk {
+        final long start;
+        final long end;
+
+        Chunk(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        long length() {
+            return end - start;
+        }
+
+        MappedByteBuffer map(FileChannel channel) throws IOException {
+            return channel.map(FileChannel.MapMode.READ_ONLY, start, length());
+        }
+
+        @Override
+        public String toString() {
+            return "Chunk{" +
+                    "start=" + start +
+                    ", end=" + end +
+                    '}';
+        }
+    }
+}
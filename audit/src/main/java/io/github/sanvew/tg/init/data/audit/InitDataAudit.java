@@ -0,0 +1,319 @@
+package io.github.sanvew.tg.init.data.audit;
+
+import io.github.sanvew.tg.init.data.BotKeys;
+import io.github.sanvew.tg.init.data.FileBotKeySource;
+import io.github.sanvew.tg.init.data.InitDataLimits;
+import io.github.sanvew.tg.init.data.InitDataValidator;
+import io.github.sanvew.tg.init.data.ValidationStatus;
+import io.github.sanvew.tg.init.data.exception.AuthDateInvalidException;
+import io.github.sanvew.tg.init.data.exception.AuthDateMissingException;
+import io.github.sanvew.tg.init.data.exception.ExpiredException;
+import io.github.sanvew.tg.init.data.exception.JsonParseException;
+import io.github.sanvew.tg.init.data.exception.JsonPropertyMissingException;
+import io.github.sanvew.tg.init.data.exception.ReplayGuardFullException;
+import io.github.sanvew.tg.init.data.exception.ReplayedException;
+import io.github.sanvew.tg.init.data.exception.SignatureMissingException;
+import io.github.sanvew.tg.init.data.type.InitData;
+import io.github.sanvew.tg.init.data.type.User;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Entry point of {@code init-data-audit.jar}: validates the {@code initData} logged one per line in a file
+ * and prints aggregate statistics, see {@link AuditOptions#USAGE}.
+ * <p>
+ * The file is split into chunks ending on line boundaries ({@link FileChunks}); each chunk is memory-mapped and
+ * scanned by one of the worker threads into its own {@link AuditStats}, so the workers share nothing but the
+ * thread-safe {@link InitDataValidator}. Every payload is tokenized once and validated with
+ * {@link InitDataValidator#validateAndParse(String, Set, boolean, io.github.sanvew.tg.init.data.json.parser.InitDataJsonTypesParser)},
+ * which parses only {@code auth_date} and {@code user} of the valid ones, to count the age and distinct users.
+ */
+public final class InitDataAudit {
+    static final String BOT_TOKEN_ENV = "TELEGRAM_BOT_TOKEN";
+
+    private static final Set<InitData.Param> PARSED_PARAMS = EnumSet.of(InitData.Param.USER);
+    private static final int BLOCK_LENGTH = 64 * 1024;
+
+    private final InitDataValidator validator;
+    private final byte[] marker;
+    private final long now;
+
+    /**
+     * @param limits optional input limits, rejecting oversized payloads as {@link ValidationStatus#MALFORMED}
+     *               before they are decoded
+     */
+    InitDataAudit(BotKeys keys, byte[] marker, Duration expiresIn, Clock clock, InitDataLimits limits) {
+        this.validator = new InitDataValidator(keys, expiresIn, clock, null, null, null, limits);
+        this.marker = marker;
+        this.now = clock.instant().getEpochSecond();
+    }
+
+    public static void main(String[] args) {
+        final int status = run(args, System.getenv(), System.out, System.err);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * @return process exit status: {@code 0} on success, {@code 1} if a file can't be read,
+     *         {@code 2} if the command line is malformed
+     */
+    static int run(String[] args, Map<String, String> env, PrintStream out, PrintStream err) {
+        final AuditOptions options;
+        final BotKeys keys;
+        try {
+            options = AuditOptions.parse(args);
+            if (options.help) {
+                out.println(AuditOptions.USAGE);
+                return 0;
+            }
+            keys = keysOf(options, env);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println();
+            err.println(AuditOptions.USAGE);
+            return 2;
+        } catch (UncheckedIOException e) {
+            err.println("Failed to read bot tokens: " + e.getCause());
+            return 1;
+        }
+
+        final Clock clock = options.now != null
+                ? Clock.fixed(Instant.ofEpochSecond(options.now), ZoneOffset.UTC)
+                : Clock.systemUTC();
+        final InitDataAudit audit = new InitDataAudit(
+                keys, options.marker, options.expiresIn, clock, options.limits ? InitDataLimits.DEFAULT : null
+        );
+        final long started = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(options.file, StandardOpenOption.READ)) {
+            final AuditStats stats = audit.audit(channel, options.chunkSize, options.threads);
+            stats.print(out, channel.size(), Duration.ofNanos(System.nanoTime() - started));
+            return 0;
+        } catch (IOException e) {
+            err.println("Failed to read " + options.file + ": " + e);
+            return 1;
+        }
+    }
+
+    private static BotKeys keysOf(AuditOptions options, Map<String, String> env) {
+        if (options.botTokenFile != null) {
+            try (FileBotKeySource source = new FileBotKeySource(options.botTokenFile)) {
+                return source.current();
+            }
+        }
+        final String botToken = env.get(BOT_TOKEN_ENV);
+        if (botToken == null || botToken.isBlank()) {
+            throw new IllegalArgumentException("Bot token is not provided: set --bot-token-file or $" + BOT_TOKEN_ENV);
+        }
+        return new BotKeys(botToken.strip());
+    }
+
+    /**
+     * Audits the whole file, one chunk per task.
+     */
+    AuditStats audit(FileChannel channel, long chunkSize, int threads) throws IOException {
+        final List<FileChunks.Chunk> chunks = FileChunks.split(channel, chunkSize);
+        final AuditStats total = new AuditStats();
+        if (chunks.isEmpty()) {
+            return total;
+        }
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, chunks.size()), runnable -> {
+            final Thread thread = new Thread(runnable, "init-data-audit-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final CompletionService<AuditStats> completion = new ExecutorCompletionService<>(executor);
+            for (FileChunks.Chunk chunk : chunks) {
+                completion.submit(() -> audit(chunk.map(channel)));
+            }
+            // merge in completion order, so finished chunks don't wait for a slow one before them
+            for (int i = 0; i < chunks.size(); i++) {
+                total.merge(completion.take().get());
+            }
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Audits every line of {@code chunk}; the last line may lack the trailing {@code '\n'}.
+     * <p>
+     * The chunk is copied block by block into a heap array, which is scanned much faster than reading
+     * the mapping byte by byte; lines are audited in place, only a line crossing a block boundary is copied.
+     */
+    AuditStats audit(ByteBuffer chunk) {
+        final AuditStats stats = new AuditStats();
+        final byte[] block = new byte[BLOCK_LENGTH];
+        byte[] carry = new byte[BLOCK_LENGTH];
+        int carried = 0;
+        while (chunk.hasRemaining()) {
+            final int read = Math.min(block.length, chunk.remaining());
+            chunk.get(block, 0, read);
+            int lineStart = 0;
+            for (int i = 0; i < read; i++) {
+                if (block[i] != '\n') {
+                    continue;
+                }
+                if (carried == 0) {
+                    auditLine(block, lineStart, i, stats);
+                } else {
+                    carry = append(carry, carried, block, lineStart, i);
+                    auditLine(carry, 0, carried + i - lineStart, stats);
+                    carried = 0;
+                }
+                lineStart = i + 1;
+            }
+            carry = append(carry, carried, block, lineStart, read);
+            carried += read - lineStart;
+        }
+        if (carried > 0) {
+            auditLine(carry, 0, carried, stats);
+        }
+        return stats;
+    }
+
+    private static byte[] append(byte[] target, int length, byte[] source, int from, int to) {
+        final int required = length + to - from;
+        final byte[] result = required > target.length
+                ? Arrays.copyOf(target, Math.max(required, 2 * target.length))
+                : target;
+        System.arraycopy(source, from, result, length, to - from);
+        return result;
+    }
+
+    /**
+     * Audits the line {@code bytes[from, to)}, without the {@code '\n'}.
+     */
+    private void auditLine(byte[] bytes, int from, int to, AuditStats stats) {
+        stats.lines++;
+        int end = to > from && bytes[to - 1] == '\r' ? to - 1 : to;
+        int start = from;
+        if (marker != null) {
+            final int idx = indexOf(bytes, start, end, marker);
+            if (idx < 0) {
+                stats.skipped++;
+                return;
+            }
+            start = idx + marker.length;
+            int stop = start;
+            while (stop < end && !isDelimiter(bytes[stop])) {
+                stop++;
+            }
+            end = stop;
+        } else {
+            while (start < end && isWhitespace(bytes[start])) {
+                start++;
+            }
+            while (end > start && isWhitespace(bytes[end - 1])) {
+                end--;
+            }
+        }
+        if (start == end) {
+            stats.skipped++;
+            return;
+        }
+
+        final String initData = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+        final InitData parsed;
+        try {
+            parsed = validator.validateAndParse(initData, PARSED_PARAMS, false, null);
+        } catch (JsonParseException | JsonPropertyMissingException e) {
+            // thrown only once the signature holds
+            stats.status(ValidationStatus.VALID);
+            stats.unparseable++;
+            return;
+        } catch (RuntimeException e) {
+            stats.status(statusOf(e));
+            return;
+        }
+        if (parsed == null) {
+            stats.status(ValidationStatus.BAD_SIGNATURE);
+            return;
+        }
+        stats.status(ValidationStatus.VALID);
+        stats.authDate(parsed.getAuthDate(), now);
+        final User user = parsed.getUser();
+        if (user != null) {
+            stats.users.add(user.getId());
+        }
+    }
+
+    /**
+     * @return status matching the exception thrown by {@link InitDataValidator#validateAndParse}
+     * @throws RuntimeException {@code e} itself if it isn't a validation failure
+     */
+    private static ValidationStatus statusOf(RuntimeException e) {
+        if (e instanceof SignatureMissingException) { return ValidationStatus.SIGNATURE_MISSING; }
+        if (e instanceof AuthDateMissingException) { return ValidationStatus.AUTH_DATE_MISSING; }
+        if (e instanceof AuthDateInvalidException) { return ValidationStatus.AUTH_DATE_INVALID; }
+        if (e instanceof ExpiredException) { return ValidationStatus.EXPIRED; }
+        if (e instanceof ReplayedException) { return ValidationStatus.REPLAYED; }
+        if (e instanceof ReplayGuardFullException) { return ValidationStatus.REPLAY_GUARD_FULL; }
+        if (e instanceof IllegalArgumentException) { return ValidationStatus.MALFORMED; }
+        throw e;
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, byte[] marker) {
+        final int last = to - marker.length;
+        final byte first = marker[0];
+        outer:
+        for (int i = from; i <= last; i++) {
+            if (bytes[i] != first) {
+                continue;
+            }
+            for (int j = 1; j < marker.length; j++) {
+                if (bytes[i + j] != marker[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return isWhitespace(b) || b == '"' || b == '\'';
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+}
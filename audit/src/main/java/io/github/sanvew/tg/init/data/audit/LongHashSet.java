@@ -0,0 +1,122 @@
+package io.github.sanvew.tg.init.data.audit;
+
+/**
+ * Open-addressing set of {@code long} values, used to count distinct user ids without boxing every one of them.
+ * <p>
+ * Not thread-safe: each chunk collects its own set, and the sets are merged with {@link #addAll(LongHashSet)}.
+ */
+final class LongHashSet {
+    private static final int MIN_CAPACITY = 16;
+    // 0 marks a free slot, so the value 0 itself is tracked by a flag
+    private static final long FREE = 0L;
+
+    private long[] slots;
+    private int size;
+    private boolean containsFree;
+
+    LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize number of values the set holds before it has to grow
+     */
+    LongHashSet(int expectedSize) {
+        this.slots = new long[capacityFor(expectedSize)];
+    }
+
+    /**
+     * @return {@code true} if {@code value} wasn't in the set
+     */
+    boolean add(long value) {
+        if (value == FREE) {
+            if (containsFree) {
+                return false;
+            }
+            containsFree = true;
+            size++;
+            return true;
+        }
+        if (insert(slots, value)) {
+            size++;
+            // keep the load factor at or below 1/2
+            if (2 * size > slots.length) {
+                grow();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    boolean contains(long value) {
+        if (value == FREE) {
+            return containsFree;
+        }
+        final int mask = slots.length - 1;
+        for (int idx = index(value, mask); ; idx = (idx + 1) & mask) {
+            final long slot = slots[idx];
+            if (slot == value) {
+                return true;
+            }
+            if (slot == FREE) {
+                return false;
+            }
+        }
+    }
+
+    void addAll(LongHashSet other) {
+        if (other.containsFree) {
+            add(FREE);
+        }
+        for (long value : other.slots) {
+            if (value != FREE) {
+                add(value);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        final long[] grown = new long[slots.length * 2];
+        for (long value : slots) {
+            if (value != FREE) {
+                insert(grown, value);
+            }
+        }
+        slots = grown;
+    }
+
+    private static boolean insert(long[] slots, long value) {
+        final int mask = slots.length - 1;
+        for (int idx = index(value, mask); ; idx = (idx + 1) & mask) {
+            final long slot = slots[idx];
+            if (slot == value) {
+                return false;
+            }
+            if (slot == FREE) {
+                slots[idx] = value;
+                return true;
+            }
+        }
+    }
+
+    private static int index(long value, int mask) {
+        // user ids are mostly sequential, so spread them before taking the low bits
+        final long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Argument \"expectedSize\" must not be negative, got " + expectedSize);
+        }
+        final int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, 2 * expectedSize) - 1) << 1;
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Argument \"expectedSize\" is too large, got " + expectedSize);
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.sanvew.tg.init.data.audit;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditOptionsTest {
+    @Nested
+    class parseTest {
+        @Test
+        void parse_withFileOnly_usesDefaults() {
+            final AuditOptions underTest = AuditOptions.parse(new String[]{"app.log"});
+
+            assertEquals(Paths.get("app.log"), underTest.file);
+            assertNull(underTest.botTokenFile);
+            assertNull(underTest.marker);
+            assertNull(underTest.expiresIn);
+            assertNull(underTest.now);
+            assertFalse(underTest.limits);
+            assertEquals(Runtime.getRuntime().availableProcessors(), underTest.threads);
+            assertEquals(AuditOptions.DEFAULT_CHUNK_SIZE, underTest.chunkSize);
+        }
+
+        @Test
+        void parse_withAllOptions_readsValues() {
+            final AuditOptions underTest = AuditOptions.parse(new String[]{
+                    "--bot-token-file", "tokens", "--marker", "initData=", "--expires-in", "PT24H",
+                    "--now", "1749945600", "--limits", "--threads", "3", "--chunk-size", "8", "app.log"
+            });
+
+            assertEquals(Paths.get("tokens"), underTest.botTokenFile);
+            assertArrayEquals("initData=".getBytes(StandardCharsets.UTF_8), underTest.marker);
+            assertEquals(Duration.ofHours(24), underTest.expiresIn);
+            assertEquals(1749945600L, underTest.now);
+            assertTrue(underTest.limits);
+            assertEquals(3, underTest.threads);
+            assertEquals(8L << 20, underTest.chunkSize);
+            assertEquals(Paths.get("app.log"), underTest.file);
+        }
+
+        @Test
+        void parse_withExpiresInSeconds_readsDuration() {
+            final AuditOptions underTest = AuditOptions.parse(new String[]{"--expires-in", "3600", "app.log"});
+
+            assertEquals(Duration.ofHours(1), underTest.expiresIn);
+        }
+
+        @Test
+        void parse_withHelp_skipsValidation() {
+            assertTrue(AuditOptions.parse(new String[]{"--help"}).help);
+        }
+
+        @Test
+        void parse_withMalformedArguments_throws() {
+            assertThrows(IllegalArgumentException.class, () -> AuditOptions.parse(new String[0]));
+            assertThrows(IllegalArgumentException.class, () -> AuditOptions.parse(new String[]{"a.log", "b.log"}));
+            assertThrows(IllegalArgumentException.class, () -> AuditOptions.parse(new String[]{"--unknown", "a.log"}));
+            assertThrows(IllegalArgumentException.class, () -> AuditOptions.parse(new String[]{"a.log", "--threads"}));
+            assertThrows(IllegalArgumentException.class, () -> AuditOptions.parse(new String[]{"--threads", "0", "a.log"}));
+            assertThrows(IllegalArgumentException.class, () -> AuditOptions.parse(new String[]{"--threads", "x", "a.log"}));
+            assertThrows(IllegalArgumentException.class, () -> AuditOptions.parse(new String[]{"--expires-in", "0", "a.log"}));
+            assertThrows(IllegalArgumentException.class, () -> AuditOptions.parse(new String[]{"--expires-in", "P1X", "a.log"}));
+            assertThrows(IllegalArgumentException.class, () -> AuditOptions.parse(new String[]{"--chunk-size", "4096", "a.log"}));
+            assertThrows(IllegalArgumentException.class, () -> AuditOptions.parse(new String[]{"--marker", "", "a.log"}));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.sanvew.tg.init.data.audit;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileChunksTest {
+    @TempDir
+    Path dir;
+
+    List<FileChunks.Chunk> split(String content, long chunkSize) throws IOException {
+        final Path file = Files.writeString(dir.resolve("log"), content);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return FileChunks.split(channel, chunkSize);
+        }
+    }
+
+    @Nested
+    class splitTest {
+        @Test
+        void split_withEmptyFile_returnsNoChunks() throws IOException {
+            assertTrue(split("", 4).isEmpty());
+        }
+
+        @Test
+        void split_withSmallChunkSize_extendsChunksToLineEnd() throws IOException {
+            final List<FileChunks.Chunk> chunks = split("aaaaa\nbb\ncccccccc\nd", 4);
+
+            assertEquals(3, chunks.size());
+            assertChunk(0, 6, chunks.get(0));
+            assertChunk(6, 18, chunks.get(1));
+            assertChunk(18, 19, chunks.get(2));
+        }
+
+        @Test
+        void split_withChunkEndingOnLineBoundary_keepsNextLineInNextChunk() throws IOException {
+            final List<FileChunks.Chunk> chunks = split("abc\ndef\n", 4);
+
+            assertEquals(2, chunks.size());
+            assertChunk(0, 4, chunks.get(0));
+            assertChunk(4, 8, chunks.get(1));
+        }
+
+        @Test
+        void split_withLargeChunkSize_returnsWholeFile() throws IOException {
+            final List<FileChunks.Chunk> chunks = split("abc\ndef", 1 << 20);
+
+            assertEquals(1, chunks.size());
+            assertChunk(0, 7, chunks.get(0));
+        }
+
+        @Test
+        void split_withLineLongerThanProbe_findsLineEnd() throws IOException {
+            final String longLine = "x".repeat(20_000);
+            final List<FileChunks.Chunk> chunks = split(longLine + "\n" + longLine, 16);
+
+            assertEquals(2, chunks.size());
+            assertChunk(0, 20_001, chunks.get(0));
+            assertChunk(20_001, 40_001, chunks.get(1));
+        }
+
+        @Test
+        void split_mappedChunks_holdWholeLines() throws IOException {
+            final Path file = Files.writeString(dir.resolve("log"), "one\ntwo\nthree\nfour\n");
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final StringBuilder joined = new StringBuilder();
+                for (FileChunks.Chunk chunk : FileChunks.split(channel, 5)) {
+                    final String content = StandardCharsets.UTF_8.decode(chunk.map(channel)).toString();
+                    assertTrue(content.endsWith("\n"), content);
+                    joined.append(content);
+                }
+                assertEquals("one\ntwo\nthree\nfour\n", joined.toString());
+            }
+        }
+
+        @Test
+        void split_withInvalidChunkSize_throws() {
+            assertThrows(IllegalArgumentException.class, () -> split("abc", 0));
+            assertThrows(IllegalArgumentException.class, () -> split("abc", FileChunks.MAX_CHUNK_SIZE + 1));
+        }
+    }
+
+    static void assertChunk(long start, long end, FileChunks.Chunk chunk) {
+        assertEquals(start, chunk.start, chunk::toString);
+        assertEquals(end, chunk.end, chunk::toString);
+    }
+}
@@ -0,0 +1,263 @@
+package io.github.sanvew.tg.init.data.audit;
+
+import io.github.sanvew.tg.init.data.BotKeys;
+import io.github.sanvew.tg.init.data.InitDataLimits;
+import io.github.sanvew.tg.init.data.ValidationStatus;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InitDataAuditTest {
+    static final String STUB_BOT_TOKEN = "123456789:TEST_FAKE_BOT_TOKEN_EXAMPLE123456";
+    static final long STUB_NOW = 1749945600;
+    static final String MARKER = "initData=";
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Writes a log with, in order of appearance: 6 valid payloads of 3 distinct users and various ages,
+     * one with a tampered user, one without hash, one with a forged hash, a blank line and a line without marker.
+     */
+    Path writeLog() throws IOException {
+        final StringBuilder log = new StringBuilder();
+        final long[][] userAges = {{1, 10}, {2, 10}, {1, 120}, {3, 7_200}, {2, 172_800}, {1, 3_000_000}};
+        for (long[] userAge : userAges) {
+            logLine(log, signed(STUB_NOW - userAge[1], userAge[0]));
+        }
+        logLine(log, signed(STUB_NOW, 4).replace("%22id%22%3A4", "%22id%22%3A5"));
+        logLine(log, "auth_date=" + STUB_NOW + "&user=%7B%22id%22%3A6%7D");
+        logLine(log, "user=%7B%22id%22%3A7%7D&hash=" + "0".repeat(64));
+        log.append('\n');
+        log.append("GET /health 200\r\n");
+        return Files.writeString(dir.resolve("app.log"), log);
+    }
+
+    static void logLine(StringBuilder log, String initData) {
+        log.append("2025-06-15T00:00:00Z POST /auth ").append(MARKER).append(initData).append(" status=200\r\n");
+    }
+
+    AuditStats audit(Path file, Duration expiresIn, long chunkSize, int threads) throws IOException {
+        return audit(file, expiresIn, null, chunkSize, threads);
+    }
+
+    AuditStats audit(Path file, Duration expiresIn, InitDataLimits limits, long chunkSize, int threads) throws IOException {
+        final Clock clock = Clock.fixed(Instant.ofEpochSecond(STUB_NOW), ZoneOffset.UTC);
+        final InitDataAudit underTest = new InitDataAudit(
+                new BotKeys(STUB_BOT_TOKEN), MARKER.getBytes(StandardCharsets.UTF_8), expiresIn, clock, limits
+        );
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return underTest.audit(channel, chunkSize, threads);
+        }
+    }
+
+    @Nested
+    class auditTest {
+        @Test
+        void audit_withMixedLog_countsStatusesAgesAndUsers() throws IOException {
+            final AuditStats stats = audit(writeLog(), null, 1 << 20, 2);
+
+            assertEquals(11, stats.lines);
+            assertEquals(2, stats.skipped);
+            assertEquals(6, stats.count(ValidationStatus.VALID));
+            assertEquals(2, stats.count(ValidationStatus.BAD_SIGNATURE));
+            assertEquals(1, stats.count(ValidationStatus.SIGNATURE_MISSING));
+            assertEquals(0, stats.unparseable);
+            assertArrayEquals(new long[]{2, 1, 1, 1, 0, 1}, stats.ages);
+            assertEquals(0, stats.future);
+            assertEquals(STUB_NOW - 3_000_000, stats.minAuthDate);
+            assertEquals(STUB_NOW - 10, stats.maxAuthDate);
+            assertEquals(3, stats.users.size());
+        }
+
+        @Test
+        void audit_withExpiresIn_countsOldPayloadsAsExpired() throws IOException {
+            final AuditStats stats = audit(writeLog(), Duration.ofHours(1), 1 << 20, 2);
+
+            assertEquals(3, stats.count(ValidationStatus.VALID));
+            assertEquals(3, stats.count(ValidationStatus.EXPIRED));
+            assertEquals(2, stats.users.size());
+        }
+
+        @Test
+        void audit_withLimits_countsOversizedPayloadsAsMalformed() throws IOException {
+            final StringBuilder log = new StringBuilder();
+            logLine(log, signed(STUB_NOW, 1));
+            logLine(log, signed(STUB_NOW, 2) + "&start_param=" + "x".repeat(5_000));
+            final Path file = Files.writeString(dir.resolve("oversized.log"), log);
+
+            final AuditStats unlimited = audit(file, null, null, 1 << 20, 1);
+            final AuditStats limited = audit(file, null, InitDataLimits.DEFAULT, 1 << 20, 1);
+
+            assertEquals(1, unlimited.count(ValidationStatus.BAD_SIGNATURE));
+            assertEquals(0, unlimited.count(ValidationStatus.MALFORMED));
+            assertEquals(1, limited.count(ValidationStatus.MALFORMED));
+            assertEquals(1, limited.count(ValidationStatus.VALID));
+        }
+
+        @Test
+        void audit_withSignedMalformedUser_countsValidAndUnparseable() throws IOException {
+            final String user = "{\"first_name\":\"John\"}";
+            final String initData = "auth_date=" + STUB_NOW + "&user=" + encode(user)
+                    + "&hash=" + hmacHex("auth_date=" + STUB_NOW + "\nuser=" + user);
+            final StringBuilder log = new StringBuilder();
+            logLine(log, initData);
+            final Path file = Files.writeString(dir.resolve("user.log"), log);
+
+            final AuditStats stats = audit(file, null, 1 << 20, 1);
+
+            assertEquals(1, stats.count(ValidationStatus.VALID));
+            assertEquals(1, stats.unparseable);
+            assertEquals(0, stats.users.size());
+        }
+
+        @Test
+        void audit_withTinyChunks_matchesSingleChunk() throws IOException {
+            final Path file = writeLog();
+            final AuditStats expected = audit(file, null, 1 << 20, 1);
+
+            final AuditStats actual = audit(file, null, 1, 4);
+
+            assertEquals(expected.lines, actual.lines);
+            assertEquals(expected.skipped, actual.skipped);
+            assertArrayEquals(expected.statuses, actual.statuses);
+            assertArrayEquals(expected.ages, actual.ages);
+            assertEquals(expected.users.size(), actual.users.size());
+        }
+
+        @Test
+        void audit_withLinesCrossingBlocks_auditsEveryLine() throws IOException {
+            final StringBuilder log = new StringBuilder();
+            for (int i = 0; i < 1_000; i++) {
+                logLine(log, signed(STUB_NOW - i, i));
+            }
+            log.append("x".repeat(200_000)).append('\n');
+            logLine(log, signed(STUB_NOW, 1_000));
+            final Path file = Files.writeString(dir.resolve("long.log"), log);
+
+            final AuditStats stats = audit(file, null, 1 << 20, 1);
+
+            assertEquals(1_002, stats.lines);
+            assertEquals(1, stats.skipped);
+            assertEquals(1_001, stats.count(ValidationStatus.VALID));
+            assertEquals(1_001, stats.users.size());
+        }
+
+        @Test
+        void audit_withoutMarker_treatsWholeLineAsInitData() throws IOException {
+            final Path file = Files.writeString(dir.resolve("raw.log"),
+                    signed(STUB_NOW, 1) + "\n  " + signed(STUB_NOW + 60, 2) + "  \n\n" + "garbage");
+            final Clock clock = Clock.fixed(Instant.ofEpochSecond(STUB_NOW), ZoneOffset.UTC);
+            final InitDataAudit underTest = new InitDataAudit(new BotKeys(STUB_BOT_TOKEN), null, null, clock, null);
+
+            final AuditStats stats;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                stats = underTest.audit(channel, 1 << 20, 1);
+            }
+
+            assertEquals(4, stats.lines);
+            assertEquals(1, stats.skipped);
+            assertEquals(2, stats.count(ValidationStatus.VALID));
+            assertEquals(1, stats.count(ValidationStatus.SIGNATURE_MISSING));
+            assertEquals(1, stats.future);
+        }
+    }
+
+    @Nested
+    class runTest {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        int run(Map<String, String> env, String... args) {
+            return InitDataAudit.run(args, env, new PrintStream(out, true), new PrintStream(err, true));
+        }
+
+        @Test
+        void run_withTokenFile_printsReport() throws IOException {
+            final Path tokens = Files.writeString(dir.resolve("tokens"), "# bot\n" + STUB_BOT_TOKEN + "\n");
+            final Path log = writeLog();
+
+            final int status = run(Map.of(), "--bot-token-file", tokens.toString(), "--marker", MARKER,
+                    "--now", Long.toString(STUB_NOW), "--threads", "2", log.toString());
+
+            assertEquals(0, status, err::toString);
+            final String report = out.toString(StandardCharsets.UTF_8);
+            assertTrue(report.matches("(?s).*valid\\s+6\\s+66\\.67%.*"), report);
+            assertTrue(report.matches("(?s).*BAD_SIGNATURE\\s+2\\s.*"), report);
+            assertTrue(report.matches("(?s).*distinct\\s+3\\s.*"), report);
+        }
+
+        @Test
+        void run_withTokenInEnvironment_printsReport() throws IOException {
+            final Path log = writeLog();
+
+            final int status = run(Map.of(InitDataAudit.BOT_TOKEN_ENV, STUB_BOT_TOKEN), "--marker", MARKER, log.toString());
+
+            assertEquals(0, status, err::toString);
+            assertTrue(out.toString(StandardCharsets.UTF_8).contains("distinct"));
+        }
+
+        @Test
+        void run_withoutBotToken_printsUsage() {
+            assertEquals(2, run(Map.of(), "app.log"));
+            assertTrue(err.toString(StandardCharsets.UTF_8).contains("Usage:"));
+        }
+
+        @Test
+        void run_withMissingFile_fails() {
+            assertEquals(1, run(Map.of(InitDataAudit.BOT_TOKEN_ENV, STUB_BOT_TOKEN), dir.resolve("missing").toString()));
+            assertEquals(1, run(Map.of(), "--bot-token-file", dir.resolve("missing").toString(), "app.log"));
+        }
+
+        @Test
+        void run_withHelp_printsUsage() {
+            assertEquals(0, run(Map.of(), "--help"));
+            assertTrue(out.toString(StandardCharsets.UTF_8).contains("Usage:"));
+        }
+    }
+
+    static String signed(long authDate, long userId) {
+        final String user = "{\"id\":" + userId + ",\"first_name\":\"John\"}";
+        final String dataCheckString = "auth_date=" + authDate + "\nuser=" + user;
+        return "auth_date=" + authDate + "&user=" + encode(user) + "&hash=" + hmacHex(dataCheckString);
+    }
+
+    static String encode(String json) {
+        return json.replace("{", "%7B").replace("}", "%7D").replace("\"", "%22").replace(":", "%3A").replace(",", "%2C");
+    }
+
+    static String hmacHex(String dataCheckString) {
+        try {
+            final Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec("WebAppData".getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            final byte[] secretKey = mac.doFinal(STUB_BOT_TOKEN.getBytes(StandardCharsets.UTF_8));
+            mac.init(new SecretKeySpec(secretKey, "HmacSHA256"));
+            final StringBuilder hex = new StringBuilder();
+            for (byte b : mac.doFinal(dataCheckString.getBytes(StandardCharsets.UTF_8))) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.sanvew.tg.init.data.audit;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongHashSetTest {
+    @Nested
+    class addTest {
+        @Test
+        void add_withNewAndRepeatedValues_countsDistinct() {
+            final LongHashSet underTest = new LongHashSet();
+
+            assertTrue(underTest.add(42));
+            assertFalse(underTest.add(42));
+            assertTrue(underTest.add(0));
+            assertFalse(underTest.add(0));
+            assertTrue(underTest.add(-1));
+
+            assertEquals(3, underTest.size());
+            assertTrue(underTest.contains(0));
+            assertTrue(underTest.contains(-1));
+            assertFalse(underTest.contains(7));
+        }
+
+        @Test
+        void add_beyondInitialCapacity_growsAndMatchesHashSet() {
+            final LongHashSet underTest = new LongHashSet(4);
+            final Set<Long> expected = new HashSet<>();
+            final Random random = new Random(1);
+
+            for (int i = 0; i < 100_000; i++) {
+                // mix sequential ids with random ones, both with repeats
+                final long value = i % 2 == 0 ? i / 4 : random.nextInt(50_000);
+                assertEquals(expected.add(value), underTest.add(value));
+            }
+
+            assertEquals(expected.size(), underTest.size());
+            for (long value : expected) {
+                assertTrue(underTest.contains(value));
+            }
+        }
+
+        @Test
+        void constructor_withNegativeExpectedSize_throws() {
+            assertThrows(IllegalArgumentException.class, () -> new LongHashSet(-1));
+        }
+    }
+
+    @Nested
+    class addAllTest {
+        @Test
+        void addAll_withOverlappingSets_keepsUnion() {
+            final LongHashSet underTest = new LongHashSet();
+            final LongHashSet other = new LongHashSet();
+            for (long i = 0; i < 1_000; i++) {
+                underTest.add(i);
+                other.add(i + 500);
+            }
+
+            underTest.addAll(other);
+
+            assertEquals(1_500, underTest.size());
+            assertTrue(underTest.contains(0));
+            assertTrue(underTest.contains(1_499));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.sanvew.tg.init.data.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import io.github.sanvew.tg.init.data.InitDataValidator;
+import io.github.sanvew.tg.init.data.ValidationStatus;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput per payload of the batch API compared to a plain loop on the calling thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchValidationBenchmark {
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"minimal", "typical", "large"})
+    public String payload;
+
+    private final InitDataValidator validator = new InitDataValidator(Payloads.BOT_TOKEN);
+    private List<String> batch;
+
+    @Setup
+    public void setUp() {
+        batch = Collections.nCopies(BATCH_SIZE, Payloads.byName(payload));
+        for (ValidationStatus status : validator.validateAll(batch)) {
+            if (!status.isValid()) {
+                throw new IllegalStateException("Payload \"" + payload + "\" is not signed correctly");
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int loop() {
+        int valid = 0;
+        for (String initData : batch) {
+            if (validator.isValid(initData)) { valid++; }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public ValidationStatus[] validateAll() {
+        return validator.validateAll(batch);
+    }
+}
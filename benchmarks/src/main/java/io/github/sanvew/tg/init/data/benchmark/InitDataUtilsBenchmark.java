@@ -0,0 +1,77 @@
+package io.github.sanvew.tg.init.data.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import io.github.sanvew.tg.init.data.InitDataUtils;
+import io.github.sanvew.tg.init.data.type.InitData;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InitDataUtilsBenchmark {
+    private static final Set<InitData.Param> PROJECTION = EnumSet.of(InitData.Param.START_PARAM);
+
+    @Param({"minimal", "typical", "large"})
+    public String payload;
+
+    private String initData;
+
+    @Setup
+    public void setUp() {
+        initData = Payloads.byName(payload);
+        if (!InitDataUtils.isValid(initData, Payloads.BOT_TOKEN)) {
+            throw new IllegalStateException("Payload \"" + payload + "\" is not signed correctly");
+        }
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return InitDataUtils.isValid(initData, Payloads.BOT_TOKEN);
+    }
+
+    @Benchmark
+    public InitData parse() {
+        return InitDataUtils.parse(initData);
+    }
+
+    @Benchmark
+    public long parseThenGetUserId() {
+        return InitDataUtils.parse(initData).getUser().getId();
+    }
+
+    @Benchmark
+    public long parseLazyThenGetUserId() {
+        return InitDataUtils.parseLazy(initData).getUser().getId();
+    }
+
+    @Benchmark
+    public InitData parseProjected() {
+        return InitDataUtils.parse(initData, PROJECTION, false);
+    }
+
+    @Benchmark
+    public InitData isValidThenParse() {
+        return InitDataUtils.isValid(initData, Payloads.BOT_TOKEN) ? InitDataUtils.parse(initData) : null;
+    }
+
+    @Benchmark
+    public InitData validateAndParse() {
+        return InitDataUtils.validateAndParse(initData, Payloads.BOT_TOKEN);
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.sanvew.tg.init.data.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import io.github.sanvew.tg.init.data.BotKeys;
+import io.github.sanvew.tg.init.data.InitDataLimits;
+import io.github.sanvew.tg.init.data.InitDataValidator;
+import io.github.sanvew.tg.init.data.RotatingBotKeySource;
+import io.github.sanvew.tg.init.data.ValidationCache;
+import io.github.sanvew.tg.init.data.ValidationMetrics;
+import io.github.sanvew.tg.init.data.ValidationResult;
+import io.github.sanvew.tg.init.data.exception.ExpiredException;
+import io.github.sanvew.tg.init.data.type.InitData;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InitDataValidatorBenchmark {
+    @Param({"minimal", "typical", "large"})
+    public String payload;
+
+    private final InitDataValidator validator = new InitDataValidator(Payloads.BOT_TOKEN);
+    private final InitDataValidator cachingValidator =
+            new InitDataValidator(Payloads.BOT_TOKEN, null, null, null, new ValidationCache(1024));
+    private final InitDataValidator measuredValidator =
+            new InitDataValidator(Payloads.BOT_TOKEN, null, null, null, null, new ValidationMetrics());
+    // every benchmark payload is signed long ago, so this validator rejects all of them as expired
+    private final InitDataValidator expiringValidator = new InitDataValidator(Payloads.BOT_TOKEN, Duration.ofHours(1));
+    private final InitDataValidator preFilteringValidator = new InitDataValidator(
+            Payloads.BOT_TOKEN, Duration.ofHours(1), null, null, null, null, InitDataLimits.DEFAULT
+    );
+    private final InitDataValidator limitedValidator =
+            new InitDataValidator(Payloads.BOT_TOKEN, null, null, null, null, null, InitDataLimits.DEFAULT);
+    private final InitDataValidator rotatingValidator =
+            new InitDataValidator(new RotatingBotKeySource(List.of(Payloads.BOT_TOKEN)), null, null);
+    // payloads are signed with the secondary key, as during a rotation before clients refresh initData
+    private final InitDataValidator secondaryKeyValidator = new InitDataValidator(
+            new BotKeys(List.of("1:ROTATED_BENCHMARK_TOKEN", Payloads.BOT_TOKEN)), null, null
+    );
+    private String initData;
+    private byte[] initDataBytes;
+    private ByteBuffer initDataDirect;
+
+    @Setup
+    public void setUp() {
+        initData = Payloads.byName(payload);
+        initDataBytes = initData.getBytes(StandardCharsets.UTF_8);
+        initDataDirect = ByteBuffer.allocateDirect(initDataBytes.length).put(initDataBytes).flip();
+        if (!validator.isValid(initData) || !validator.isValidBytes(initDataBytes) || !validator.isValidBytes(initDataDirect)) {
+            throw new IllegalStateException("Payload \"" + payload + "\" is not signed correctly");
+        }
+    }
+
+    @Benchmark
+    public boolean isValidString() {
+        return validator.isValid(initData);
+    }
+
+    @Benchmark
+    public boolean isValidBytes() {
+        return validator.isValidBytes(initDataBytes);
+    }
+
+    @Benchmark
+    public boolean isValidDirectBuffer() {
+        return validator.isValidBytes(initDataDirect);
+    }
+
+    /** Same check as {@link #isValidString()} with the keys read from a rotatable source. */
+    @Benchmark
+    public boolean isValidRotatingKeys() {
+        return rotatingValidator.isValid(initData);
+    }
+
+    /** Primary key mismatch followed by the secondary key match. */
+    @Benchmark
+    public boolean isValidSecondaryKey() {
+        return secondaryKeyValidator.isValid(initData);
+    }
+
+    @Benchmark
+    public InitData validateAndParse() {
+        return validator.validateAndParse(initData);
+    }
+
+    /** Same payload on every call, as a Mini App sends it for the whole session. */
+    @Benchmark
+    public InitData validateAndParseCached() {
+        return cachingValidator.validateAndParse(initData);
+    }
+
+    /** Cost of timing every phase and counting outcomes with the built-in recorder. */
+    @Benchmark
+    public InitData validateAndParseWithMetrics() {
+        return measuredValidator.validateAndParse(initData);
+    }
+
+    /** Rejection reported as an exception, the way {@code isValid} does it. */
+    @Benchmark
+    public boolean rejectExpiredThrowing() {
+        try {
+            return expiringValidator.isValid(initData);
+        } catch (ExpiredException e) {
+            return false;
+        }
+    }
+
+    /** Rejection reported as a value. */
+    @Benchmark
+    public ValidationResult rejectExpiredResult() {
+        return expiringValidator.validate(initData);
+    }
+
+    /** Expired payload rejected by the pre-filter from the raw {@code auth_date}, before tokenizing. */
+    @Benchmark
+    public ValidationResult rejectExpiredPreFiltered() {
+        return preFilteringValidator.validate(initData);
+    }
+
+    /** Cost of the pre-filter scan on a payload which passes it and is fully validated. */
+    @Benchmark
+    public ValidationResult validatePreFiltered() {
+        return limitedValidator.validate(initData);
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.sanvew.tg.init.data.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import io.github.sanvew.tg.init.data.json.parser.InitDataJsonTypesParser;
+import io.github.sanvew.tg.init.data.json.parser.InternPool;
+import io.github.sanvew.tg.init.data.json.parser.impl.JacksonInitDataJsonTypesParser;
+import io.github.sanvew.tg.init.data.json.parser.impl.SimpleInitDataJsonTypesParser;
+import io.github.sanvew.tg.init.data.type.Chat;
+import io.github.sanvew.tg.init.data.type.User;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonParserBenchmark {
+    @Param({"jackson", "simple"})
+    public String implementation;
+
+    @Param({"false", "true"})
+    public boolean pooled;
+
+    private InitDataJsonTypesParser parser;
+
+    @Setup
+    public void setUp() {
+        parser = pooled ? pooled(implementation) : byName(implementation);
+    }
+
+    @Benchmark
+    public User parseUser() {
+        return parser.parseUser(Payloads.USER_JSON);
+    }
+
+    @Benchmark
+    public Chat parseChat() {
+        return parser.parseChat(Payloads.CHAT_JSON);
+    }
+
+    static InitDataJsonTypesParser byName(String implementation) {
+        switch (implementation) {
+            case "jackson": return JacksonInitDataJsonTypesParser.INSTANCE;
+            case "simple": return SimpleInitDataJsonTypesParser.INSTANCE;
+            default: throw new IllegalArgumentException("Unknown implementation \"" + implementation + "\"");
+        }
+    }
+
+    static InitDataJsonTypesParser pooled(String implementation) {
+        switch (implementation) {
+            case "jackson": return new JacksonInitDataJsonTypesParser(new InternPool());
+            case "simple": return new SimpleInitDataJsonTypesParser(new InternPool());
+            default: throw new IllegalArgumentException("Unknown implementation \"" + implementation + "\"");
+        }
+    }
+}
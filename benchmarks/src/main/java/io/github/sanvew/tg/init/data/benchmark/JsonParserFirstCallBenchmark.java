@@ -0,0 +1,36 @@
+package io.github.sanvew.tg.init.data.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import io.github.sanvew.tg.init.data.type.User;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the very first {@code parseUser} call in a fresh JVM, including class loading and initialization
+ * of the parser (e.g. {@code ObjectMapper} construction for Jackson). Every fork measures exactly one call,
+ * so nothing may touch the parser before the benchmark method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class JsonParserFirstCallBenchmark {
+    @Param({"jackson", "simple"})
+    public String implementation;
+
+    @Benchmark
+    public User firstParseUser() {
+        return JsonParserBenchmark.byName(implementation).parseUser(Payloads.USER_JSON);
+    }
+}
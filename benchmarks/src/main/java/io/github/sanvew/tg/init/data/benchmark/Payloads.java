@@ -0,0 +1,161 @@
+package io.github.sanvew.tg.init.data.benchmark;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * Realistic {@code initData} payloads signed with {@link #BOT_TOKEN}, shared by all benchmarks.
+ */
+public final class Payloads {
+    public static final String BOT_TOKEN = "5768337691:AAH5YkoiEuPk8-FZa32hStHTqXiLPtAEhx8";
+    public static final long BOT_ID = 5768337691L;
+    public static final long AUTH_DATE = 1749945600L;
+
+    public static final String USER_JSON = "{"
+            + "\"id\":279058397,"
+            + "\"first_name\":\"Vladislav\","
+            + "\"last_name\":\"Kibenko\","
+            + "\"username\":\"vdkfrost\","
+            + "\"language_code\":\"ru\","
+            + "\"is_premium\":true,"
+            + "\"allows_write_to_pm\":true,"
+            + "\"photo_url\":\"https://t.me/i/userpic/320/4FPEE4tmP3ATHa57u6MqTDih13LTOiMoKoLDRG4PnSA.svg\""
+            + "}";
+    public static final String RECEIVER_JSON = "{"
+            + "\"id\":987654321,"
+            + "\"first_name\":\"Receiver\","
+            + "\"last_name\":\"Person\","
+            + "\"is_bot\":false,"
+            + "\"language_code\":\"en\","
+            + "\"added_to_attachment_menu\":false"
+            + "}";
+    public static final String CHAT_JSON = "{"
+            + "\"id\":-1001234567890,"
+            + "\"type\":\"supergroup\","
+            + "\"title\":\"Telegram Mini Apps Developers\","
+            + "\"photo_url\":\"https://t.me/i/userpic/320/group.svg\","
+            + "\"username\":\"tma_developers\","
+            + "\"custom_field\":\"custom value\""
+            + "}";
+
+    /** Only required parameters. */
+    private static final Map<String, String> MINIMAL_PARAMS = params(
+            "auth_date", String.valueOf(AUTH_DATE)
+    );
+
+    /** Shape sent by a Mini App opened from a keyboard button or a direct link. */
+    private static final Map<String, String> TYPICAL_PARAMS = params(
+            "query_id", "AAHdF6IQAAAAAN0XohDhrOrc",
+            "user", USER_JSON,
+            "auth_date", String.valueOf(AUTH_DATE)
+    );
+
+    /** Shape sent by a Mini App opened from an attachment menu in a group, with unknown parameters. */
+    private static final Map<String, String> LARGE_PARAMS = params(
+            "query_id", "AAHdF6IQAAAAAN0XohDhrOrc",
+            "user", USER_JSON,
+            "receiver", RECEIVER_JSON,
+            "chat", CHAT_JSON,
+            "chat_type", "supergroup",
+            "chat_instance", "-7018471223432781443",
+            "start_param", "ref_campaign_2025_summer",
+            "can_send_after", "120",
+            "auth_date", String.valueOf(AUTH_DATE),
+            "signature", "6fbdaab833d39f54518bd5c3eb3f511d035e68cb2c4a4b87ae1b8f5c6cb0f01a1dbb4c3a2ee7a7c5f2e5e0e7b4b8d1c8f6a2b1c0d9e8f7a6b5c4d3e2f1a0b9c8",
+            "platform", "android",
+            "version", "8.0"
+    );
+
+    public static final String MINIMAL = sign(MINIMAL_PARAMS);
+    public static final String TYPICAL = sign(TYPICAL_PARAMS);
+    public static final String LARGE = sign(LARGE_PARAMS);
+
+    private Payloads() {}
+
+    /**
+     * @param name one of {@code minimal}, {@code typical}, {@code large}
+     * @return payload by name
+     */
+    public static String byName(String name) {
+        switch (name) {
+            case "minimal": return MINIMAL;
+            case "typical": return TYPICAL;
+            case "large": return LARGE;
+            default: throw new IllegalArgumentException("Unknown payload \"" + name + "\"");
+        }
+    }
+
+    /**
+     * Same payload as {@link #byName(String)}, additionally carrying the third-party Ed25519 {@code signature}
+     * for {@link #BOT_ID} made with {@code privateKey}.
+     */
+    public static String thirdPartyByName(String name, PrivateKey privateKey) {
+        final Map<String, String> params = new TreeMap<>(paramsByName(name));
+        params.remove("signature");
+        final StringJoiner checkString = new StringJoiner("\n", BOT_ID + ":WebAppData\n", "");
+        for (Map.Entry<String, String> entry : params.entrySet()) {
+            checkString.add(entry.getKey() + "=" + entry.getValue());
+        }
+        try {
+            final Signature signer = Signature.getInstance("Ed25519");
+            signer.initSign(privateKey);
+            signer.update(checkString.toString().getBytes(StandardCharsets.UTF_8));
+            params.put("signature", Base64.getUrlEncoder().withoutPadding().encodeToString(signer.sign()));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        return sign(params);
+    }
+
+    private static Map<String, String> paramsByName(String name) {
+        switch (name) {
+            case "minimal": return MINIMAL_PARAMS;
+            case "typical": return TYPICAL_PARAMS;
+            case "large": return LARGE_PARAMS;
+            default: throw new IllegalArgumentException("Unknown payload \"" + name + "\"");
+        }
+    }
+
+    private static Map<String, String> params(String... keyValues) {
+        final Map<String, String> params = new TreeMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            params.put(keyValues[i], keyValues[i + 1]);
+        }
+        return params;
+    }
+
+    private static String sign(Map<String, String> params) {
+        final StringJoiner dataCheckString = new StringJoiner("\n");
+        final StringJoiner query = new StringJoiner("&");
+        for (Map.Entry<String, String> entry : params.entrySet()) {
+            dataCheckString.add(entry.getKey() + "=" + entry.getValue());
+            query.add(entry.getKey() + "=" + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8));
+        }
+        final byte[] secretKey = hmac(BOT_TOKEN.getBytes(StandardCharsets.UTF_8), "WebAppData".getBytes(StandardCharsets.UTF_8));
+        final byte[] hash = hmac(dataCheckString.toString().getBytes(StandardCharsets.UTF_8), secretKey);
+        final StringBuilder hex = new StringBuilder();
+        for (byte b : hash) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return query.add("hash=" + hex).toString();
+    }
+
+    private static byte[] hmac(byte[] data, byte[] key) {
+        try {
+            final Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
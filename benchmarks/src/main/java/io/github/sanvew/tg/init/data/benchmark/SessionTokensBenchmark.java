@@ -0,0 +1,81 @@
+package io.github.sanvew.tg.init.data.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import io.github.sanvew.tg.init.data.InitDataValidator;
+import io.github.sanvew.tg.init.data.SessionToken;
+import io.github.sanvew.tg.init.data.SessionTokens;
+import io.github.sanvew.tg.init.data.type.InitData;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of checking a session token on a follow-up request compared to re-validating the {@code initData}
+ * it was issued for.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionTokensBenchmark {
+    @Param({"typical", "large"})
+    public String payload;
+
+    private final InitDataValidator validator = new InitDataValidator(Payloads.BOT_TOKEN);
+    private final SessionTokens sessionTokens = new SessionTokens(Payloads.BOT_TOKEN, Duration.ofHours(1));
+    private String initData;
+    private InitData parsed;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        initData = Payloads.byName(payload);
+        parsed = validator.validateAndParse(initData);
+        if (parsed == null) {
+            throw new IllegalStateException("Payload \"" + payload + "\" is not signed correctly");
+        }
+        token = sessionTokens.issue(parsed);
+    }
+
+    @Benchmark
+    public boolean isValidInitData() {
+        return validator.isValid(initData);
+    }
+
+    @Benchmark
+    public InitData validateAndParseInitData() {
+        return validator.validateAndParse(initData);
+    }
+
+    @Benchmark
+    public String issue() {
+        return sessionTokens.issue(parsed);
+    }
+
+    @Benchmark
+    public boolean isValidToken() {
+        return sessionTokens.isValid(token);
+    }
+
+    @Benchmark
+    public long verifyUserId() {
+        return sessionTokens.verifyUserId(token);
+    }
+
+    @Benchmark
+    public SessionToken verify() {
+        return sessionTokens.verify(token);
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.sanvew.tg.init.data.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import io.github.sanvew.tg.init.data.InitDataValidator;
+import io.github.sanvew.tg.init.data.ThirdPartyInitDataValidator;
+import io.github.sanvew.tg.init.data.ValidationStatus;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Third-party Ed25519 {@code signature} check compared to the bot-token HMAC check of the same payload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThirdPartyValidatorBenchmark {
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"minimal", "typical", "large"})
+    public String payload;
+
+    private final InitDataValidator hmacValidator = new InitDataValidator(Payloads.BOT_TOKEN);
+    private ThirdPartyInitDataValidator ed25519Validator;
+    private String initData;
+    private List<String> batch;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        final KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        final byte[] encoded = keyPair.getPublic().getEncoded();
+        final StringBuilder publicKey = new StringBuilder();
+        for (byte b : Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length)) {
+            publicKey.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        ed25519Validator = new ThirdPartyInitDataValidator(publicKey.toString(), null, null);
+        initData = Payloads.thirdPartyByName(payload, keyPair.getPrivate());
+        batch = Collections.nCopies(BATCH_SIZE, initData);
+        if (!ed25519Validator.isValid(initData, Payloads.BOT_ID) || !hmacValidator.isValid(initData)) {
+            throw new IllegalStateException("Payload \"" + payload + "\" is not signed correctly");
+        }
+    }
+
+    @Benchmark
+    public boolean hmac() {
+        return hmacValidator.isValid(initData);
+    }
+
+    @Benchmark
+    public boolean ed25519() {
+        return ed25519Validator.isValid(initData, Payloads.BOT_ID);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public ValidationStatus[] ed25519Batch() {
+        return ed25519Validator.validateAll(batch, Payloads.BOT_ID);
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.sanvew.tg.init.data;
+
+import io.github.sanvew.tg.init.data.exception.AuthDateInvalidException;
+import io.github.sanvew.tg.init.data.exception.AuthDateMissingException;
+import io.github.sanvew.tg.init.data.exception.ExpiredException;
+import io.github.sanvew.tg.init.data.exception.ReplayGuardFullException;
+import io.github.sanvew.tg.init.data.exception.ReplayedException;
+import io.github.sanvew.tg.init.data.exception.SignatureMissingException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * Chunked parallel execution shared by the batch APIs of the validators.
+ * <p>
+ * The batch is split into contiguous chunks, a few per core so that uneven payload sizes balance out, but never
+ * below {@link #MIN_CHUNK_SIZE} items so that scheduling stays negligible compared to the signature check.
+ * Each chunk is validated by a single task with its own {@link Verifier}, which lets implementations reuse
+ * non-thread-safe crypto state ({@code Mac}, {@code Signature}) for all items of the chunk.
+ */
+final class BatchValidation {
+    private static final int MIN_CHUNK_SIZE = 64;
+    private static final int CHUNKS_PER_CORE = 4;
+
+    private BatchValidation() {}
+
+    /**
+     * Single-threaded verifier of one chunk.
+     */
+    interface Verifier {
+        /**
+         * Returns the status of a single payload; may instead throw the exception {@code isValid(String)}
+         * of the validators throws for it. {@code initData} is never blank.
+         */
+        ValidationStatus verify(String initData);
+    }
+
+    static ValidationStatus[] validateAll(List<String> initData, Executor executor, Supplier<Verifier> verifiers) {
+        final ValidationStatus[] statuses = new ValidationStatus[initData.size()];
+        final int chunkSize = chunkSize(statuses.length);
+        if (chunkSize >= statuses.length || (executor == null && ForkJoinPool.getCommonPoolParallelism() < 2)) {
+            validateChunk(initData, statuses, 0, statuses.length, verifiers.get());
+            return statuses;
+        }
+
+        final Executor chunkExecutor = executor != null ? executor : ForkJoinPool.commonPool();
+        final CompletableFuture<?>[] chunks = new CompletableFuture<?>[(statuses.length + chunkSize - 1) / chunkSize];
+        for (int i = 0; i < chunks.length; i++) {
+            final int from = i * chunkSize;
+            final int to = Math.min(from + chunkSize, statuses.length);
+            chunks[i] = CompletableFuture.runAsync(
+                    () -> validateChunk(initData, statuses, from, to, verifiers.get()), chunkExecutor
+            );
+        }
+        try {
+            CompletableFuture.allOf(chunks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) { throw (RuntimeException) e.getCause(); }
+            throw e;
+        }
+        return statuses;
+    }
+
+    static int chunkSize(int batchSize) {
+        final int chunks = Runtime.getRuntime().availableProcessors() * CHUNKS_PER_CORE;
+        return Math.max(MIN_CHUNK_SIZE, (batchSize + chunks - 1) / chunks);
+    }
+
+    private static void validateChunk(
+            List<String> initData,
+            ValidationStatus[] statuses,
+            int from,
+            int to,
+            Verifier verifier
+    ) {
+        for (int i = from; i < to; i++) {
+            statuses[i] = status(initData.get(i), verifier);
+        }
+    }
+
+    private static ValidationStatus status(String initData, Verifier verifier) {
+        if (initData == null || initData.isBlank()) {
+            return ValidationStatus.MALFORMED;
+        }
+        try {
+            return verifier.verify(initData);
+        } catch (RuntimeException e) {
+            final ValidationStatus status = statusOf(e);
+            if (status == null) { throw e; }
+            return status;
+        }
+    }
+
+    /**
+     * @return status matching the exception thrown by a validation, or {@code null} if it isn't a validation failure
+     */
+    static ValidationStatus statusOf(RuntimeException e) {
+        if (e instanceof SignatureMissingException) { return ValidationStatus.SIGNATURE_MISSING; }
+        if (e instanceof AuthDateMissingException) { return ValidationStatus.AUTH_DATE_MISSING; }
+        if (e instanceof AuthDateInvalidException) { return ValidationStatus.AUTH_DATE_INVALID; }
+        if (e instanceof ExpiredException) { return ValidationStatus.EXPIRED; }
+        if (e instanceof ReplayedException) { return ValidationStatus.REPLAYED; }
+        if (e instanceof ReplayGuardFullException) { return ValidationStatus.REPLAY_GUARD_FULL; }
+        if (e instanceof IllegalArgumentException) { return ValidationStatus.MALFORMED; }
+        return null;
+    }
+}
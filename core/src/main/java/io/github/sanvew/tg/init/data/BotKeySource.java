@@ -0,0 +1,20 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Source of the bot keys an {@link InitDataValidator} checks signatures against.
+ * <p>
+ * The validator reads {@link #current()} once per payload and works with that snapshot only, so implementations
+ * can rotate keys at any time by publishing a new {@link BotKeys} instance; a single volatile read is all the read
+ * path should cost. {@link BotKeys} itself is a source which never changes, {@link RotatingBotKeySource} is rotated
+ * programmatically and {@link FileBotKeySource} follows a local file.
+ *
+ * @see InitDataValidator#InitDataValidator(BotKeySource, java.time.Duration, java.time.Clock)
+ */
+public interface BotKeySource {
+    /**
+     * @return keys to validate the next payload with; never {@code null} and never empty
+     */
+    @NotNull BotKeys current();
+}
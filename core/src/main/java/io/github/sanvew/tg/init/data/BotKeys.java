@@ -0,0 +1,128 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static io.github.sanvew.tg.init.data.InitDataUtils.buildExceptionArgumentNotProvided;
+
+/**
+ * Immutable, ordered set of active bot tokens with their secret keys ({@code HMAC_SHA256(botToken, "WebAppData")})
+ * derived once on construction.
+ * <p>
+ * The first token is the primary one; the others are accepted during a rotation, e.g. the previous token while
+ * clients still hold {@code initData} signed with it. Signatures are checked against the keys in order and
+ * {@link ValidationResult#getKeyIndex()} reports which one matched. The tokens themselves are not retained.
+ * <p>
+ * Instances are thread-safe. As a {@link BotKeySource} an instance always returns itself.
+ */
+public final class BotKeys implements BotKeySource {
+    private final byte[][] secretKeys;
+    private final Mac[] prototypes;
+    private final boolean[] cloneable;
+    private final Pool<Mac>[] pools;
+
+    /**
+     * @param botTokens active bot tokens, the primary one first
+     * @throws IllegalArgumentException if {@code botTokens} is {@code null} or empty, or any token is {@code null}
+     *                                  or {@code isBlank() == true}
+     */
+    public BotKeys(@NotNull List<String> botTokens) {
+        if (botTokens == null || botTokens.isEmpty()) {
+            throw buildExceptionArgumentNotProvided("botTokens");
+        }
+
+        final int size = botTokens.size();
+        this.secretKeys = new byte[size][];
+        this.prototypes = new Mac[size];
+        this.cloneable = new boolean[size];
+        this.pools = newPools(size);
+        for (int i = 0; i < size; i++) {
+            final String botToken = botTokens.get(i);
+            if (botToken == null || botToken.isBlank()) {
+                throw buildExceptionArgumentNotProvided("botToken");
+            }
+            secretKeys[i] = InitDataUtils.hmacDigest(botToken.getBytes(StandardCharsets.UTF_8), InitDataUtils.SECRET_KEY_INPUT);
+            prototypes[i] = InitDataUtils.hmacSHA256(secretKeys[i]);
+            cloneable[i] = isCloneable(prototypes[i]);
+            final int idx = i;
+            pools[i] = new Pool<>(Pool.defaultCapacity(), () -> newHmac(idx));
+        }
+    }
+
+    /**
+     * @param botToken the bot token associated with the Telegram bot
+     * @throws IllegalArgumentException if {@code botToken} is {@code null} or {@code isBlank() == true}
+     */
+    public BotKeys(@NotNull String botToken) {
+        this(botToken != null ? List.of(botToken) : null);
+    }
+
+    /**
+     * @return number of keys, at least {@code 1}
+     */
+    public int size() {
+        return prototypes.length;
+    }
+
+    @Override
+    public @NotNull BotKeys current() {
+        return this;
+    }
+
+    /**
+     * {@link Mac} is not thread-safe, so every validation works on its own copy of the pre-keyed prototype.
+     * Cloning skips the provider lookup and key schedule; providers without clone support fall back to a fresh init.
+     *
+     * @param idx index of the key, {@code 0} for the primary one
+     */
+    Mac newHmac(int idx) {
+        if (cloneable[idx]) {
+            try {
+                return (Mac) prototypes[idx].clone();
+            } catch (CloneNotSupportedException ignored) {
+                // unreachable: checked on construction
+            }
+        }
+        return InitDataUtils.hmacSHA256(secretKeys[idx]);
+    }
+
+    /**
+     * Takes a {@link Mac} for the key from the pool, so that validations don't copy the prototype every time.
+     *
+     * @param idx index of the key, {@code 0} for the primary one
+     * @return instance owned by the caller until {@link #releaseHmac(int, Mac)}
+     */
+    Mac acquireHmac(int idx) {
+        return pools[idx].acquire();
+    }
+
+    /**
+     * @param idx index of the key the instance was acquired for
+     * @param mac instance in its initial state, i.e. right after {@link Mac#doFinal()} or {@link Mac#reset()}
+     */
+    void releaseHmac(int idx, Mac mac) {
+        pools[idx].release(mac);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Pool<Mac>[] newPools(int size) {
+        return (Pool<Mac>[]) new Pool<?>[size];
+    }
+
+    private static boolean isCloneable(Mac mac) {
+        try {
+            mac.clone();
+            return true;
+        } catch (CloneNotSupportedException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BotKeys{size=" + size() + '}';
+    }
+}
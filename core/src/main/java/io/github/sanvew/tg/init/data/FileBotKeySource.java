@@ -0,0 +1,158 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.sanvew.tg.init.data.InitDataUtils.buildExceptionArgumentNotProvided;
+
+/**
+ * {@link BotKeySource} which reads bot tokens from a local file and reloads them when the file changes.
+ * <p>
+ * The file holds one token per line, the primary one first; blank lines and lines starting with {@code '#'}
+ * are ignored. A single daemon thread checks the modification time, size and inode of the file every
+ * {@code pollInterval} and, once they change, derives the new keys off the validation path and publishes them as in
+ * {@link RotatingBotKeySource}. A file which can't be read, holds no tokens or changes while being read leaves
+ * the current keys in place and is retried on the next poll. Symbolic links are followed, so a file mounted
+ * from a Kubernetes secret is picked up as well; other writers should replace the file atomically (write to
+ * a temporary file, then move it over).
+ * <p>
+ * Instances are thread-safe; {@link #close()} stops the polling.
+ */
+public final class FileBotKeySource extends RotatingBotKeySource implements Closeable {
+    /** Poll interval used by {@link #FileBotKeySource(Path)}. */
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(10);
+
+    private final Path file;
+    private final ScheduledExecutorService poller;
+    private volatile Object version;
+
+    /**
+     * Reads the keys from {@code file} and starts polling it for changes.
+     *
+     * @param file file holding the bot tokens
+     * @param pollInterval interval between checks of the file for changes
+     * @throws IllegalArgumentException if {@code file} or {@code pollInterval} is {@code null}, {@code pollInterval}
+     *                                  is not positive, or the file holds no tokens
+     * @throws UncheckedIOException if the file can't be read
+     */
+    public FileBotKeySource(@NotNull Path file, @NotNull Duration pollInterval) {
+        // taken before reading, so a change made while the file is read is picked up by the first poll
+        this(file, pollInterval, versionOf(file));
+    }
+
+    private FileBotKeySource(Path file, Duration pollInterval, Object version) {
+        super(new BotKeys(read(file)));
+        if (pollInterval == null) {
+            throw buildExceptionArgumentNotProvided("pollInterval");
+        }
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("Argument \"pollInterval\" must be positive, got " + pollInterval);
+        }
+
+        this.file = file;
+        this.version = version;
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "bot-key-source-" + file.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long intervalNanos = pollInterval.toNanos();
+        poller.scheduleWithFixedDelay(this::poll, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Reads the keys from {@code file} and checks it for changes every {@link #DEFAULT_POLL_INTERVAL}.
+     *
+     * @see #FileBotKeySource(Path, Duration)
+     */
+    public FileBotKeySource(@NotNull Path file) {
+        this(file, DEFAULT_POLL_INTERVAL);
+    }
+
+    public @NotNull Path getFile() { return file; }
+
+    /**
+     * Reads the file right away and publishes its keys, regardless of whether it changed.
+     *
+     * @throws IllegalArgumentException if the file holds no tokens
+     * @throws UncheckedIOException if the file can't be read or changed while being read
+     */
+    public void reload() {
+        final Object before = versionOf(file);
+        final List<String> botTokens = read(file);
+        final Object after = versionOf(file);
+        if (!before.equals(after)) {
+            throw new UncheckedIOException(new IOException("File \"" + file + "\" changed while being read"));
+        }
+        rotate(new BotKeys(botTokens));
+        version = after;
+    }
+
+    /**
+     * Stops polling the file; the current keys stay in place.
+     */
+    @Override
+    public void close() {
+        poller.shutdownNow();
+    }
+
+    private void poll() {
+        try {
+            if (!versionOf(file).equals(version)) {
+                reload();
+            }
+        } catch (RuntimeException ignored) {
+            // keep the current keys and retry on the next poll
+        }
+    }
+
+    private static List<String> read(Path file) {
+        final List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final List<String> botTokens = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            final String token = line.strip();
+            if (!token.isEmpty() && !token.startsWith("#")) {
+                botTokens.add(token);
+            }
+        }
+        if (botTokens.isEmpty()) {
+            throw new IllegalArgumentException("File \"" + file + "\" holds no bot tokens");
+        }
+        return botTokens;
+    }
+
+    /**
+     * @return value which changes whenever the file is modified or replaced: its modification time, size and inode
+     */
+    private static Object versionOf(Path file) {
+        if (file == null) {
+            throw buildExceptionArgumentNotProvided("file");
+        }
+        try {
+            final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return List.of(attributes.lastModifiedTime(), attributes.size(), Objects.requireNonNullElse(attributes.fileKey(), ""));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
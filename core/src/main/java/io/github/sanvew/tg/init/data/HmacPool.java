@@ -0,0 +1,96 @@
+package io.github.sanvew.tg.init.data;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * {@link Pool} of pre-keyed HMAC-SHA256 instances which sign short messages without allocating.
+ * <p>
+ * {@link javax.crypto.Mac#doFinal(byte[], int)} returns the digest through a fresh array, so each
+ * {@link Hmac} computes {@code SHA256(key ^ opad || SHA256(key ^ ipad || message))} (RFC 2104) on two
+ * {@link MessageDigest}s writing into its own buffers instead. Instances are taken with {@link #acquire()} and handed
+ * back with {@link #release(Hmac)}.
+ */
+final class HmacPool {
+    static final int DIGEST_LENGTH = 32;
+    private static final int BLOCK_LENGTH = 64;
+    private static final String SHA256 = "SHA-256";
+
+    private final byte[] innerPad;
+    private final byte[] outerPad;
+    private final int bufferLength;
+    private final Pool<Hmac> pool;
+
+    /**
+     * @param key HMAC key
+     * @param bufferLength length of the scratch buffer of every instance
+     * @param capacity maximum number of idle instances kept in the pool
+     */
+    HmacPool(byte[] key, int bufferLength, int capacity) {
+        final byte[] blockKey = new byte[BLOCK_LENGTH];
+        final byte[] shortKey = key.length > BLOCK_LENGTH ? newDigest().digest(key) : key;
+        System.arraycopy(shortKey, 0, blockKey, 0, shortKey.length);
+
+        this.innerPad = new byte[BLOCK_LENGTH];
+        this.outerPad = new byte[BLOCK_LENGTH];
+        for (int i = 0; i < BLOCK_LENGTH; i++) {
+            innerPad[i] = (byte) (blockKey[i] ^ 0x36);
+            outerPad[i] = (byte) (blockKey[i] ^ 0x5c);
+        }
+        this.bufferLength = bufferLength;
+        this.pool = new Pool<>(capacity, () -> new Hmac(this));
+    }
+
+    Hmac acquire() {
+        return pool.acquire();
+    }
+
+    void release(Hmac hmac) {
+        pool.release(hmac);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(SHA256);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Not thread-safe: used by one thread between {@link #acquire()} and {@link #release(Hmac)}.
+     */
+    static final class Hmac {
+        /** Scratch buffer for the message, free for the caller to use. */
+        final byte[] buffer;
+        /** Digest written by the last {@link #sign(byte[], int)} call. */
+        final byte[] digest = new byte[DIGEST_LENGTH];
+
+        private final HmacPool pool;
+        private final MessageDigest inner = newDigest();
+        private final MessageDigest outer = newDigest();
+
+        private Hmac(HmacPool pool) {
+            this.pool = pool;
+            this.buffer = new byte[pool.bufferLength];
+        }
+
+        /**
+         * Writes HMAC-SHA256 of {@code message[0, length)} into {@link #digest}.
+         */
+        void sign(byte[] message, int length) {
+            try {
+                inner.update(pool.innerPad);
+                inner.update(message, 0, length);
+                inner.digest(digest, 0, DIGEST_LENGTH);
+                outer.update(pool.outerPad);
+                outer.update(digest, 0, DIGEST_LENGTH);
+                outer.digest(digest, 0, DIGEST_LENGTH);
+            } catch (DigestException e) {
+                // unreachable: the buffer always fits the digest
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
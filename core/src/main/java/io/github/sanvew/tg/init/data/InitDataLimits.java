@@ -0,0 +1,179 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Limits of a cheap pre-filter which {@link InitDataValidator} applies to the raw {@code initData} before tokenizing,
+ * percent-decoding, computing the HMAC or decoding any JSON.
+ * <p>
+ * The pre-filter scans the raw input once and rejects a payload which
+ * <ul>
+ *     <li>is longer than {@code maxLength} chars (bytes for byte input), has more than {@code maxPairs} non-empty
+ *     {@code key=value} pairs or a raw value longer than {@code maxValueLength}: {@link ValidationStatus#MALFORMED};</li>
+ *     <li>has no non-empty {@code hash}: {@link ValidationStatus#SIGNATURE_MISSING};</li>
+ *     <li>with {@code expiresIn} set, has no {@code auth_date}, an {@code auth_date} which isn't plain decimal digits
+ *     within the {@link Instant} range, or one whose {@code expiresIn} window has passed:
+ *     {@link ValidationStatus#AUTH_DATE_MISSING}, {@link ValidationStatus#AUTH_DATE_INVALID}
+ *     or {@link ValidationStatus#EXPIRED};</li>
+ *     <li>has a {@code hash} which isn't exactly 64 lowercase hex digits: {@link ValidationStatus#BAD_SIGNATURE}.</li>
+ * </ul>
+ * Keys and values are matched as sent, without percent-decoding. Payloads issued by Telegram never encode these
+ * parameters, so for them the pre-filter reaches the same decision as the full validation, apart from the limits.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @see InitDataValidator#InitDataValidator(String, Duration, Clock, ReplayGuard, ValidationCache, ValidationListener, InitDataLimits)
+ */
+public final class InitDataLimits {
+    /** Limits comfortably above any payload issued by Telegram: 8 KiB, 32 pairs and 4 KiB per value. */
+    public static final InitDataLimits DEFAULT = new InitDataLimits(8192, 32, 4096);
+
+    private static final int HASH_HEX_LENGTH = 64;
+    /** Longest run of digits which can't overflow {@code long}. */
+    private static final int MAX_EPOCH_SECOND_DIGITS = 18;
+
+    private final int maxLength;
+    private final int maxPairs;
+    private final int maxValueLength;
+
+    /**
+     * @param maxLength maximum length of the whole payload, in chars for {@code String} and in bytes for byte input
+     * @param maxPairs maximum number of non-empty {@code key=value} pairs
+     * @param maxValueLength maximum length of a single value as sent, i.e. still percent-encoded;
+     *                       bounds the size of the {@code user}, {@code chat} and {@code receiver} JSON
+     * @throws IllegalArgumentException if any of the limits is not positive
+     */
+    public InitDataLimits(int maxLength, int maxPairs, int maxValueLength) {
+        if (maxLength <= 0) {
+            throw new IllegalArgumentException("Argument \"maxLength\" must be positive, got " + maxLength);
+        }
+        if (maxPairs <= 0) {
+            throw new IllegalArgumentException("Argument \"maxPairs\" must be positive, got " + maxPairs);
+        }
+        if (maxValueLength <= 0) {
+            throw new IllegalArgumentException("Argument \"maxValueLength\" must be positive, got " + maxValueLength);
+        }
+
+        this.maxLength = maxLength;
+        this.maxPairs = maxPairs;
+        this.maxValueLength = maxValueLength;
+    }
+
+    public int getMaxLength() { return maxLength; }
+    public int getMaxPairs() { return maxPairs; }
+    public int getMaxValueLength() { return maxValueLength; }
+
+    /**
+     * Scans {@code input} once without decoding anything.
+     *
+     * @param expiresIn if {@code null}, {@code auth_date} is not checked
+     * @return the rejection, or {@code null} if the payload passes and has to be fully validated
+     */
+    @Nullable ValidationResult check(@NotNull InitDataTokens.Source input, @Nullable Duration expiresIn, @Nullable Clock clock) {
+        final int length = input.length();
+        if (length > maxLength) {
+            return ValidationResult.of(ValidationStatus.MALFORMED);
+        }
+
+        int pairs = 0;
+        int hashStart = -1;
+        int hashEnd = -1;
+        int authDateStart = -1;
+        int authDateEnd = -1;
+        int pairStart = 0;
+        while (pairStart < length) {
+            int pairEnd = input.indexOf('&', pairStart);
+            if (pairEnd < 0) { pairEnd = length; }
+            if (pairEnd > pairStart) {
+                if (++pairs > maxPairs) {
+                    return ValidationResult.of(ValidationStatus.MALFORMED);
+                }
+                int keyEnd = input.indexOf('=', pairStart, pairEnd);
+                if (keyEnd < 0) { keyEnd = pairEnd; }
+                final int valueStart = Math.min(keyEnd + 1, pairEnd);
+                if (pairEnd - valueStart > maxValueLength) {
+                    return ValidationResult.of(ValidationStatus.MALFORMED);
+                }
+                // the last occurrence of a duplicated key wins, as in the tokenizer
+                if (isKey(input, pairStart, keyEnd, "hash")) {
+                    hashStart = valueStart;
+                    hashEnd = pairEnd;
+                } else if (isKey(input, pairStart, keyEnd, "auth_date")) {
+                    authDateStart = valueStart;
+                    authDateEnd = pairEnd;
+                }
+            }
+            pairStart = pairEnd + 1;
+        }
+
+        if (hashStart == hashEnd) {
+            return ValidationResult.of(ValidationStatus.SIGNATURE_MISSING);
+        }
+
+        long authDate = Long.MIN_VALUE;
+        long expiresAt = Long.MIN_VALUE;
+        long now = Long.MIN_VALUE;
+        if (expiresIn != null) {
+            if (authDateStart == authDateEnd) {
+                return ValidationResult.of(ValidationStatus.AUTH_DATE_MISSING);
+            }
+            authDate = parseDigits(input, authDateStart, authDateEnd);
+            if (authDate == Long.MIN_VALUE) {
+                return ValidationResult.authDateInvalid(input.string(authDateStart, authDateEnd));
+            }
+            expiresAt = InitDataValidator.expiration(authDate, expiresIn);
+            final Instant instantNow = InitDataUtils.now(clock);
+            now = instantNow.getEpochSecond();
+            if (InitDataValidator.isExpired(instantNow, expiresAt)) {
+                return ValidationResult.of(ValidationStatus.EXPIRED, authDate, expiresAt, now);
+            }
+        }
+
+        if (!isLowercaseHex(input, hashStart, hashEnd)) {
+            return ValidationResult.of(ValidationStatus.BAD_SIGNATURE, authDate, expiresAt, now);
+        }
+        return null;
+    }
+
+    private static boolean isKey(InitDataTokens.Source input, int start, int end, String key) {
+        return end - start == key.length() && input.startsWith(key, start);
+    }
+
+    /**
+     * @return decimal digits of {@code [start, end)} as epoch second, or {@link Long#MIN_VALUE} if they are not
+     *         plain digits within the {@link Instant} range
+     */
+    private static long parseDigits(InitDataTokens.Source input, int start, int end) {
+        if (start == end || end - start > MAX_EPOCH_SECOND_DIGITS) { return Long.MIN_VALUE; }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            final int c = input.at(i);
+            if (c < '0' || c > '9') { return Long.MIN_VALUE; }
+            value = value * 10 + (c - '0');
+        }
+        return value <= Instant.MAX.getEpochSecond() ? value : Long.MIN_VALUE;
+    }
+
+    private static boolean isLowercaseHex(InitDataTokens.Source input, int start, int end) {
+        if (end - start != HASH_HEX_LENGTH) { return false; }
+        for (int i = start; i < end; i++) {
+            final int c = input.at(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) { return false; }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "InitDataLimits{" +
+                "maxLength=" + maxLength +
+                ", maxPairs=" + maxPairs +
+                ", maxValueLength=" + maxValueLength +
+                '}';
+    }
+}
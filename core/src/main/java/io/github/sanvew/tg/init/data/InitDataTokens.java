@@ -0,0 +1,648 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import io.github.sanvew.tg.init.data.type.InitData;
+
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Single-pass tokenizer of the {@code initData} query string.
+ * <p>
+ * The input is scanned once; only key/value offsets are recorded. Known keys are mapped straight to
+ * {@link InitData.Param} slots, unknown keys are kept as extras. Values are percent-decoded lazily on first access,
+ * and only if they actually contain {@code '%'} or {@code '+'}; otherwise a plain substring is returned.
+ * <p>
+ * Input may be a {@link String} or UTF-8 bytes ({@code byte[]} or heap/direct {@link ByteBuffer}); for byte input the
+ * data-check string is written as bytes straight from the input without materializing the payload as a {@code String}.
+ * <p>
+ * Semantics match {@code String.split("&")} followed by {@link URLDecoder#decode(String, java.nio.charset.Charset)}:
+ * the last occurrence of a duplicated key wins, a pair without {@code '='} (or with an empty key) is kept verbatim
+ * as a key with {@code null} value, and an empty value is {@code null}.
+ * <p>
+ * When only known parameters are needed (and the signature is not checked), unknown keys can be skipped altogether,
+ * see {@link #tokenize(String, boolean)}; such tokens must not be used to write the data-check string.
+ * Instances are not thread-safe.
+ */
+final class InitDataTokens {
+    private static final InitData.Param[] PARAMS = InitData.Param.values();
+    private static final InitData.Param[] SORTED_PARAMS = Arrays.stream(PARAMS)
+            .sorted(Comparator.comparing(it -> it.value))
+            .toArray(InitData.Param[]::new);
+    private static final byte[][] PARAM_KEYS = Arrays.stream(PARAMS)
+            .map(it -> it.value.getBytes(StandardCharsets.US_ASCII))
+            .toArray(byte[][]::new);
+    private static final byte[] NULL_VALUE = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final int ABSENT = -1;
+
+    private final Source source;
+    private final boolean keepExtras;
+    /** {@code [start, end)} of each known param value, indexed by {@link InitData.Param#ordinal()}. */
+    private final int[] bounds = new int[PARAMS.length * 2];
+    private final String[] values = new String[PARAMS.length];
+    private int extraCount;
+    private String[] extraKeys;
+    private int[] extraBounds;
+    private String[] extraValues;
+    private byte[] scratch;
+
+    private InitDataTokens(Source source, boolean keepExtras) {
+        this.source = source;
+        this.keepExtras = keepExtras;
+        Arrays.fill(bounds, ABSENT);
+    }
+
+    static @NotNull InitDataTokens tokenize(@NotNull String initData) {
+        return tokenize(new StringSource(initData), true);
+    }
+
+    /**
+     * @param keepExtras whether unknown parameters are recorded; if {@code false}, their keys are neither
+     *                   decoded nor sorted and the tokens can't be used for signature validation
+     */
+    static @NotNull InitDataTokens tokenize(@NotNull String initData, boolean keepExtras) {
+        return tokenize(new StringSource(initData), keepExtras);
+    }
+
+    static @NotNull InitDataTokens tokenize(byte @NotNull [] initData, int offset, int length) {
+        return tokenize(new ByteArraySource(initData, offset, length), true);
+    }
+
+    /**
+     * Tokenizes {@code initData.remaining()} bytes starting at the buffer position; the buffer position is not changed.
+     */
+    static @NotNull InitDataTokens tokenize(@NotNull ByteBuffer initData) {
+        return initData.hasArray()
+                ? tokenize(initData.array(), initData.arrayOffset() + initData.position(), initData.remaining())
+                : tokenize(new ByteBufferSource(initData), true);
+    }
+
+    /**
+     * @return raw view over {@code initData} for {@link InitDataLimits#check(Source, java.time.Duration, java.time.Clock)}
+     */
+    static @NotNull Source source(@NotNull String initData) {
+        return new StringSource(initData);
+    }
+
+    static @NotNull Source source(byte @NotNull [] initData, int offset, int length) {
+        return new ByteArraySource(initData, offset, length);
+    }
+
+    static @NotNull Source source(@NotNull ByteBuffer initData) {
+        return initData.hasArray()
+                ? new ByteArraySource(initData.array(), initData.arrayOffset() + initData.position(), initData.remaining())
+                : new ByteBufferSource(initData);
+    }
+
+    private static InitDataTokens tokenize(Source source, boolean keepExtras) {
+        final InitDataTokens tokens = new InitDataTokens(source, keepExtras);
+        final int length = source.length();
+        boolean pendingEmptyPair = false;
+        int pairStart = 0;
+        while (pairStart <= length) {
+            int pairEnd = source.indexOf('&', pairStart);
+            if (pairEnd < 0) { pairEnd = length; }
+            if (pairStart == pairEnd) {
+                // String.split drops trailing empty pairs only
+                pendingEmptyPair = pendingEmptyPair || pairEnd < length;
+            } else {
+                if (pendingEmptyPair && keepExtras) {
+                    tokens.addExtra("", 0, 0);
+                    pendingEmptyPair = false;
+                }
+                tokens.addPair(pairStart, pairEnd);
+            }
+            pairStart = pairEnd + 1;
+        }
+        tokens.sortExtras();
+        return tokens;
+    }
+
+    // =================================================================================================================
+    // accessors
+    // =================================================================================================================
+    boolean contains(@NotNull InitData.Param param) {
+        return bounds[param.ordinal() * 2] != ABSENT;
+    }
+
+    @Nullable String get(@NotNull InitData.Param param) {
+        final int idx = param.ordinal();
+        if (values[idx] == null && bounds[idx * 2] != ABSENT) {
+            values[idx] = decode(bounds[idx * 2], bounds[idx * 2 + 1]);
+        }
+        return values[idx];
+    }
+
+    /**
+     * @return {@code true} if the param is present and its value is not empty
+     */
+    boolean hasValue(@NotNull InitData.Param param) {
+        final int idx = param.ordinal();
+        return bounds[idx * 2] != ABSENT && bounds[idx * 2] != bounds[idx * 2 + 1];
+    }
+
+    /**
+     * Decodes the param value holding lowercase hex digits straight from the input, without creating a {@code String}.
+     *
+     * @return {@code false} if the value is absent or is not exactly {@code 2 * dst.length} lowercase hex digits
+     */
+    boolean decodeHex(@NotNull InitData.Param param, byte @NotNull [] dst) {
+        final int idx = param.ordinal();
+        final int start = bounds[idx * 2];
+        final int end = bounds[idx * 2 + 1];
+        if (start == ABSENT) { return false; }
+        if (needsDecoding(start, end)) {
+            final String value = get(param);
+            if (value == null || value.length() != dst.length * 2) { return false; }
+            for (int i = 0; i < dst.length; i++) {
+                final int hi = hexDigit(value.charAt(2 * i));
+                final int lo = hexDigit(value.charAt(2 * i + 1));
+                if (hi < 0 || lo < 0) { return false; }
+                dst[i] = (byte) ((hi << 4) | lo);
+            }
+            return true;
+        }
+        if (end - start != dst.length * 2) { return false; }
+        for (int i = 0; i < dst.length; i++) {
+            final int hi = hexDigit(source.at(start + 2 * i));
+            final int lo = hexDigit(source.at(start + 2 * i + 1));
+            if (hi < 0 || lo < 0) { return false; }
+            dst[i] = (byte) ((hi << 4) | lo);
+        }
+        return true;
+    }
+
+    private static int hexDigit(int c) {
+        if (c >= '0' && c <= '9') { return c - '0'; }
+        if (c >= 'a' && c <= 'f') { return c - 'a' + 10; }
+        return -1;
+    }
+
+    int extraCount() {
+        return extraCount;
+    }
+
+    @NotNull String extraKey(int idx) {
+        return extraKeys[idx];
+    }
+
+    /**
+     * @return index of the extra parameter with the given key, or a negative value if there is none
+     */
+    int extraIndex(@NotNull String key) {
+        return extraCount == 0 ? -1 : Arrays.binarySearch(extraKeys, 0, extraCount, key);
+    }
+
+    @Nullable String extraValue(int idx) {
+        if (extraValues[idx] == null) {
+            extraValues[idx] = decode(extraBounds[idx * 2], extraBounds[idx * 2 + 1]);
+        }
+        return extraValues[idx];
+    }
+
+    /**
+     * @return unknown parameters; values may be {@code null}
+     */
+    @NotNull Map<String, String> extra() {
+        if (extraCount == 0) { return Map.of(); }
+        final Map<String, String> extra = new HashMap<>(extraCount * 2);
+        for (int i = 0; i < extraCount; i++) {
+            extra.put(extraKeys[i], extraValue(i));
+        }
+        return Collections.unmodifiableMap(extra);
+    }
+
+    /**
+     * Writes the UTF-8 encoded data-check string: all parameters except {@code hash} sorted by key
+     * and joined with {@code '\n'}. Values are percent-decoded on the fly, no intermediate strings are created.
+     */
+    void writeDataCheck(@NotNull ByteSink sink) {
+        writeDataCheck(sink, -1);
+    }
+
+    /**
+     * Writes the data-check string, additionally leaving out the extra parameter at {@code excludedExtraIdx}
+     * (e.g. {@code signature} for third-party validation).
+     *
+     * @param excludedExtraIdx index of the extra parameter to skip, or a negative value to keep all of them
+     * @see #writeDataCheck(ByteSink)
+     */
+    void writeDataCheck(@NotNull ByteSink sink, int excludedExtraIdx) {
+        boolean first = true;
+        int extraIdx = 0;
+        for (InitData.Param param : SORTED_PARAMS) {
+            if (param == InitData.Param.HASH || !contains(param)) { continue; }
+            while (extraIdx < extraCount && extraKeys[extraIdx].compareTo(param.value) < 0) {
+                if (extraIdx == excludedExtraIdx) { extraIdx++; continue; }
+                writeExtra(sink, extraIdx++, first);
+                first = false;
+            }
+            if (!first) { sink.write('\n'); }
+            first = false;
+            final byte[] key = PARAM_KEYS[param.ordinal()];
+            sink.write(key, 0, key.length);
+            sink.write('=');
+            writeValue(sink, bounds[param.ordinal() * 2], bounds[param.ordinal() * 2 + 1]);
+        }
+        while (extraIdx < extraCount) {
+            if (extraIdx == excludedExtraIdx) { extraIdx++; continue; }
+            writeExtra(sink, extraIdx++, first);
+            first = false;
+        }
+    }
+
+    /**
+     * @return the data-check string, see {@link #writeDataCheck(ByteSink)}
+     */
+    @NotNull String dataCheckString() {
+        final ByteArraySink sink = new ByteArraySink(source.length());
+        writeDataCheck(sink);
+        return new String(sink.bytes, 0, sink.length, StandardCharsets.UTF_8);
+    }
+
+    private void writeExtra(ByteSink sink, int idx, boolean first) {
+        if (!first) { sink.write('\n'); }
+        final byte[] key = extraKeys[idx].getBytes(StandardCharsets.UTF_8);
+        sink.write(key, 0, key.length);
+        sink.write('=');
+        writeValue(sink, extraBounds[idx * 2], extraBounds[idx * 2 + 1]);
+    }
+
+    private void writeValue(ByteSink sink, int start, int end) {
+        if (start == end) {
+            sink.write(NULL_VALUE, 0, NULL_VALUE.length);
+            return;
+        }
+        if (needsDecoding(start, end) || !source.writeRaw(start, end, sink)) {
+            final int length = decodeBytes(start, end);
+            sink.write(scratch, 0, length);
+        }
+    }
+
+    // =================================================================================================================
+    // tokenization
+    // =================================================================================================================
+    private void addPair(int pairStart, int pairEnd) {
+        final int eq = source.indexOf('=', pairStart, pairEnd);
+        if (eq <= pairStart) {
+            final String key = source.string(pairStart, pairEnd);
+            final InitData.Param param = lookup(key);
+            if (param != null) {
+                setParam(param, pairEnd, pairEnd);
+            } else if (keepExtras) {
+                addExtra(key, 0, 0);
+            }
+            return;
+        }
+        final InitData.Param param = needsDecoding(pairStart, eq) ? lookup(decode(pairStart, eq)) : lookup(pairStart, eq);
+        if (param != null) {
+            setParam(param, eq + 1, pairEnd);
+        } else if (keepExtras) {
+            addExtra(decode(pairStart, eq), eq + 1, pairEnd);
+        }
+    }
+
+    private void setParam(InitData.Param param, int valueStart, int valueEnd) {
+        final int idx = param.ordinal();
+        bounds[idx * 2] = valueStart;
+        bounds[idx * 2 + 1] = valueEnd;
+        values[idx] = null;
+    }
+
+    private static InitData.Param lookup(String key) {
+        for (InitData.Param param : PARAMS) {
+            if (param.value.equals(key)) { return param; }
+        }
+        return null;
+    }
+
+    private InitData.Param lookup(int keyStart, int keyEnd) {
+        final int keyLength = keyEnd - keyStart;
+        for (InitData.Param param : PARAMS) {
+            if (param.value.length() == keyLength && source.startsWith(param.value, keyStart)) { return param; }
+        }
+        return null;
+    }
+
+    private void addExtra(String key, int valueStart, int valueEnd) {
+        if (extraKeys == null) {
+            extraKeys = new String[2];
+            extraBounds = new int[4];
+            extraValues = new String[2];
+        } else if (extraCount == extraKeys.length) {
+            extraKeys = Arrays.copyOf(extraKeys, extraCount * 2);
+            extraBounds = Arrays.copyOf(extraBounds, extraCount * 4);
+            extraValues = Arrays.copyOf(extraValues, extraCount * 2);
+        }
+        extraKeys[extraCount] = key;
+        extraBounds[extraCount * 2] = valueStart;
+        extraBounds[extraCount * 2 + 1] = valueEnd;
+        extraCount++;
+    }
+
+    /**
+     * Stable sort by key, then drops all but the last occurrence of duplicated keys. Extras already in strictly
+     * ascending order, the usual case, are left in place.
+     */
+    private void sortExtras() {
+        if (isSortedUnique()) { return; }
+
+        final String[] keys = extraKeys;
+        final int[] keyBounds = extraBounds;
+        final Integer[] order = new Integer[extraCount];
+        for (int i = 0; i < extraCount; i++) {
+            order[i] = i;
+        }
+        // merge sort, stable: duplicated keys keep their order of appearance
+        Arrays.sort(order, (a, b) -> keys[a].compareTo(keys[b]));
+
+        extraKeys = new String[keys.length];
+        extraBounds = new int[keyBounds.length];
+        int unique = 0;
+        for (int i = 0; i < extraCount; i++) {
+            final int idx = order[i];
+            if (i + 1 < extraCount && keys[idx].equals(keys[order[i + 1]])) { continue; }
+            extraKeys[unique] = keys[idx];
+            extraBounds[unique * 2] = keyBounds[idx * 2];
+            extraBounds[unique * 2 + 1] = keyBounds[idx * 2 + 1];
+            unique++;
+        }
+        extraCount = unique;
+    }
+
+    private boolean isSortedUnique() {
+        for (int i = 1; i < extraCount; i++) {
+            if (extraKeys[i - 1].compareTo(extraKeys[i]) >= 0) { return false; }
+        }
+        return true;
+    }
+
+    // =================================================================================================================
+    // percent-decoding
+    // =================================================================================================================
+    private boolean needsDecoding(int start, int end) {
+        for (int i = start; i < end; i++) {
+            final int c = source.at(i);
+            if (c == '%' || c == '+') { return true; }
+        }
+        return false;
+    }
+
+    /**
+     * @return decoded {@code [start, end)} range, or {@code null} for an empty range
+     * @throws IllegalArgumentException if the range contains a malformed escape sequence
+     */
+    private String decode(int start, int end) {
+        if (start == end) { return null; }
+        if (!needsDecoding(start, end)) { return source.string(start, end); }
+        if (source instanceof StringSource && !source.isAscii(start, end)) {
+            // raw non-ASCII characters are rare, leave them to the JDK decoder
+            return URLDecoder.decode(source.string(start, end), StandardCharsets.UTF_8);
+        }
+
+        final int length = decodeBytes(start, end);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Percent-decodes {@code [start, end)} range into UTF-8 bytes stored in {@link #scratch}.
+     *
+     * @return number of decoded bytes
+     * @throws IllegalArgumentException if the range contains a malformed escape sequence
+     */
+    private int decodeBytes(int start, int end) {
+        final byte[] decoded = scratch(3 * (end - start));
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            final int c = source.at(i);
+            if (c == '+') {
+                decoded[length++] = ' ';
+            } else if (c == '%') {
+                if (i + 2 >= end) {
+                    throw new IllegalArgumentException("URLDecoder: Incomplete trailing escape (%) pattern");
+                }
+                final int hi = Character.digit(source.at(i + 1), 16);
+                final int lo = Character.digit(source.at(i + 2), 16);
+                if (hi < 0 || lo < 0) {
+                    throw new IllegalArgumentException("URLDecoder: Illegal hex characters in escape (%) pattern");
+                }
+                decoded[length++] = (byte) ((hi << 4) | lo);
+                i += 2;
+            } else if (c < 0x80 || !(source instanceof StringSource)) {
+                decoded[length++] = (byte) c;
+            } else {
+                length = encodeUtf8((StringSource) source, i, decoded, length);
+                if (Character.isHighSurrogate((char) c) && i + 1 < end && Character.isLowSurrogate((char) source.at(i + 1))) {
+                    i++;
+                }
+            }
+        }
+        return length;
+    }
+
+    private static int encodeUtf8(StringSource source, int idx, byte[] dst, int dstOffset) {
+        final int codePoint = source.value.codePointAt(idx);
+        if (codePoint < 0x800) {
+            dst[dstOffset++] = (byte) (0xC0 | (codePoint >> 6));
+        } else if (codePoint < 0x10000) {
+            if (Character.isSurrogate((char) codePoint)) {
+                dst[dstOffset++] = '?';
+                return dstOffset;
+            }
+            dst[dstOffset++] = (byte) (0xE0 | (codePoint >> 12));
+            dst[dstOffset++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        } else {
+            dst[dstOffset++] = (byte) (0xF0 | (codePoint >> 18));
+            dst[dstOffset++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            dst[dstOffset++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        }
+        dst[dstOffset++] = (byte) (0x80 | (codePoint & 0x3F));
+        return dstOffset;
+    }
+
+    private byte[] scratch(int capacity) {
+        if (scratch == null || scratch.length < capacity) {
+            scratch = new byte[Math.max(capacity, 64)];
+        }
+        return scratch;
+    }
+
+    // =================================================================================================================
+    // input sources and output sinks
+    // =================================================================================================================
+    /**
+     * Destination of the data-check string bytes.
+     */
+    interface ByteSink {
+        void write(int b);
+        void write(byte[] bytes, int offset, int length);
+        default void write(ByteBuffer bytes) {
+            while (bytes.hasRemaining()) { write(bytes.get()); }
+        }
+    }
+
+    static final class ByteArraySink implements ByteSink {
+        byte[] bytes;
+        int length;
+
+        ByteArraySink(int capacity) {
+            this.bytes = new byte[Math.max(capacity, 16)];
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(1);
+            bytes[length++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, offset, this.bytes, this.length, length);
+            this.length += length;
+        }
+
+        @Override
+        public void write(ByteBuffer bytes) {
+            final int length = bytes.remaining();
+            ensureCapacity(length);
+            bytes.get(this.bytes, this.length, length);
+            this.length += length;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+    }
+
+    /**
+     * Random access view over the raw input: UTF-16 chars of a {@code String} or unsigned UTF-8 bytes.
+     */
+    abstract static class Source {
+        abstract int length();
+
+        abstract int at(int idx);
+
+        /** @return verbatim (not percent-decoded) {@code [start, end)} range */
+        abstract String string(int start, int end);
+
+        /**
+         * Writes verbatim {@code [start, end)} range as UTF-8 bytes.
+         *
+         * @return {@code false} if the range must be written through {@link #decodeBytes(int, int)} instead
+         */
+        abstract boolean writeRaw(int start, int end, ByteSink sink);
+
+        int indexOf(int c, int from) {
+            return indexOf(c, from, length());
+        }
+
+        /** @return index of the first {@code c} in {@code [from, to)}, or {@code -1} if there is none */
+        int indexOf(int c, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (at(i) == c) { return i; }
+            }
+            return -1;
+        }
+
+        boolean startsWith(String ascii, int from) {
+            if (from + ascii.length() > length()) { return false; }
+            for (int i = 0; i < ascii.length(); i++) {
+                if (at(from + i) != ascii.charAt(i)) { return false; }
+            }
+            return true;
+        }
+
+        boolean isAscii(int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (at(i) >= 0x80) { return false; }
+            }
+            return true;
+        }
+    }
+
+    private static final class StringSource extends Source {
+        final String value;
+
+        StringSource(String value) {
+            this.value = value;
+        }
+
+        @Override int length() { return value.length(); }
+        @Override int at(int idx) { return value.charAt(idx); }
+        @Override String string(int start, int end) { return value.substring(start, end); }
+        @Override int indexOf(int c, int from) { return value.indexOf(c, from); }
+        @Override boolean startsWith(String ascii, int from) { return value.startsWith(ascii, from); }
+
+        @Override
+        boolean writeRaw(int start, int end, ByteSink sink) {
+            return false;
+        }
+    }
+
+    private static final class ByteArraySource extends Source {
+        final byte[] value;
+        final int offset;
+        final int length;
+
+        ByteArraySource(byte[] value, int offset, int length) {
+            if (offset < 0 || length < 0 || offset > value.length - length) {
+                throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", size " + value.length);
+            }
+            this.value = value;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override int length() { return length; }
+        @Override int at(int idx) { return value[offset + idx] & 0xFF; }
+        @Override String string(int start, int end) {
+            return new String(value, offset + start, end - start, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        boolean writeRaw(int start, int end, ByteSink sink) {
+            sink.write(value, offset + start, end - start);
+            return true;
+        }
+    }
+
+    private static final class ByteBufferSource extends Source {
+        final ByteBuffer value;
+        final int position;
+        final int length;
+
+        ByteBufferSource(ByteBuffer value) {
+            this.value = value;
+            this.position = value.position();
+            this.length = value.remaining();
+        }
+
+        @Override int length() { return length; }
+        @Override int at(int idx) { return value.get(position + idx) & 0xFF; }
+        @Override String string(int start, int end) {
+            final byte[] bytes = new byte[end - start];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = value.get(position + start + i);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        boolean writeRaw(int start, int end, ByteSink sink) {
+            final ByteBuffer slice = value.duplicate();
+            slice.limit(position + end).position(position + start);
+            sink.write(slice);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,729 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import io.github.sanvew.tg.init.data.exception.AuthDateInvalidException;
+import io.github.sanvew.tg.init.data.exception.AuthDateMissingException;
+import io.github.sanvew.tg.init.data.exception.ExpiredException;
+import io.github.sanvew.tg.init.data.exception.SignatureMissingException;
+import io.github.sanvew.tg.init.data.json.parser.InitDataJsonTypesParser;
+import io.github.sanvew.tg.init.data.json.parser.impl.SimpleInitDataJsonTypesParser;
+import io.github.sanvew.tg.init.data.type.Chat;
+import io.github.sanvew.tg.init.data.type.ChatType;
+import io.github.sanvew.tg.init.data.type.InitData;
+import io.github.sanvew.tg.init.data.type.User;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Utility class for parsing and validating Telegram Mini App {@code initData} payloads.
+ * <p>
+ * Provides static methods to parse, validate, and verify the authenticity of Telegram init data,
+ * including HMAC signature validation and expiration checking.
+ * <p>
+ * This class exposes overloads for custom parsers and clocks. The default parser is the first
+ * {@link InitDataJsonTypesParser} registered with {@link ServiceLoader}, e.g. the Jackson one from the
+ * {@code telegram-init-data-jackson} module, and the dependency-free {@link SimpleInitDataJsonTypesParser} otherwise.
+ * For repeated validation against the same bot token prefer a shared {@link InitDataValidator} instance.
+ *
+ * @see <a href="https://docs.telegram-mini-apps.com/platform/init-data">Telegram Init Data Documentation</a>
+ */
+public class InitDataUtils {
+    static final byte[] SECRET_KEY_INPUT = "WebAppData".getBytes(StandardCharsets.UTF_8);
+    static final String HMAC_SHA256 = "HmacSHA256";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private InitDataUtils() {}
+
+    /**
+     * Verifies the validity of the provided {@code initData} string using the algorithm defined
+     * in the <a href="https://docs.telegram-mini-apps.com/platform/init-data">Telegram Mini Apps Init Data</a> documentation.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @return {@code true} if the hash is valid and {@code auth_date} (if checked) is within the valid time range;
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException if {@code initData} or {@code botToken} is {@code null}
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing when expiration validation is required
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @throws ExpiredException if the {@code auth_date} is outside the allowed {@code expiresIn} window
+     * @see <a href="https://docs.telegram-mini-apps.com/platform/init-data">Telegram Mini Apps Init Data</a>
+     */
+    public static boolean isValid(
+            @NotNull String initData,
+            @NotNull String botToken,
+            @Nullable Duration expiresIn,
+            @Nullable Clock clock
+    ) {
+        if (initData == null || initData.isBlank()) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+
+        return new InitDataValidator(botToken, expiresIn, clock).isValid(initData);
+    }
+
+    /**
+     * Validates the provided {@code initData} string and reports the outcome as a value instead of throwing.
+     * <p>
+     * Internally delegates to {@link InitDataValidator#validate(String)}.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @return result with the {@link ValidationStatus} and the {@code auth_date} details the decision was based on
+     * @throws IllegalArgumentException if {@code botToken} is {@code null} or blank
+     */
+    public static @NotNull ValidationResult validate(
+            @Nullable String initData,
+            @NotNull String botToken,
+            @Nullable Duration expiresIn,
+            @Nullable Clock clock
+    ) {
+        return new InitDataValidator(botToken, expiresIn, clock).validate(initData);
+    }
+
+    /**
+     * Verifies the validity of the provided UTF-8 encoded {@code initData} bytes without materializing them as a {@code String}.
+     * <p>
+     * Internally delegates to {@link InitDataValidator#isValidBytes(byte[], int, int)}.
+     *
+     * @param initData buffer holding the initialization data received from the Telegram Mini App
+     * @param offset offset of the first byte of the initialization data
+     * @param length number of bytes of the initialization data
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @return {@code true} if the hash is valid and {@code auth_date} (if checked) is within the valid time range;
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException if {@code initData} or {@code botToken} is {@code null} or blank
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of {@code initData} bounds
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing when expiration validation is required
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @throws ExpiredException if the {@code auth_date} is outside the allowed {@code expiresIn} window
+     * @see #isValid(String, String, Duration, Clock)
+     */
+    public static boolean isValidBytes(
+            byte @NotNull [] initData,
+            int offset,
+            int length,
+            @NotNull String botToken,
+            @Nullable Duration expiresIn,
+            @Nullable Clock clock
+    ) {
+        return new InitDataValidator(botToken, expiresIn, clock).isValidBytes(initData, offset, length);
+    }
+
+    /**
+     * Verifies the validity of the UTF-8 encoded {@code initData} held in the remaining bytes of the (heap or direct) buffer
+     * without materializing it as a {@code String}. The buffer position and limit are not changed.
+     * <p>
+     * Internally delegates to {@link InitDataValidator#isValidBytes(ByteBuffer)}.
+     *
+     * @param initData buffer holding the initialization data received from the Telegram Mini App
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @return {@code true} if the hash is valid and {@code auth_date} (if checked) is within the valid time range;
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException if {@code initData} or {@code botToken} is {@code null} or blank
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing when expiration validation is required
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @throws ExpiredException if the {@code auth_date} is outside the allowed {@code expiresIn} window
+     * @see #isValid(String, String, Duration, Clock)
+     */
+    public static boolean isValidBytes(
+            @NotNull ByteBuffer initData,
+            @NotNull String botToken,
+            @Nullable Duration expiresIn,
+            @Nullable Clock clock
+    ) {
+        return new InitDataValidator(botToken, expiresIn, clock).isValidBytes(initData);
+    }
+
+    /**
+     * Verifies the {@code signature} of the provided {@code initData} with the Telegram production public key,
+     * for third parties which don't hold the bot token.
+     * <p>
+     * Internally delegates to {@link ThirdPartyInitDataValidator#isValid(String, long)}.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param botId id of the bot the Mini App belongs to (the numeric prefix of its token)
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @return {@code true} if the signature is valid and {@code auth_date} (if checked) is within the valid time range;
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException if {@code initData} is {@code null} or {@code isBlank() == true}
+     * @throws SignatureMissingException if the {@code signature} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing when expiration validation is required
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @throws ExpiredException if the {@code auth_date} is outside the allowed {@code expiresIn} window
+     * @see <a href="https://docs.telegram-mini-apps.com/platform/init-data#using-telegram-public-key">Telegram Init Data - Using Telegram Public Key</a>
+     */
+    public static boolean isValidThirdParty(
+            @NotNull String initData,
+            long botId,
+            @Nullable Duration expiresIn,
+            @Nullable Clock clock
+    ) {
+        return new ThirdPartyInitDataValidator(expiresIn, clock).isValid(initData, botId);
+    }
+
+    /**
+     * Verifies the {@code signature} of the provided {@code initData} with the Telegram production public key,
+     * without checking for expiration.
+     *
+     * @see #isValidThirdParty(String, long, Duration, Clock)
+     */
+    public static boolean isValidThirdParty(@NotNull String initData, long botId) {
+        return isValidThirdParty(initData, botId, null, null);
+    }
+
+    /**
+     * Validates a batch of {@code initData} strings signed by the same bot, in parallel.
+     * <p>
+     * Internally delegates to {@link InitDataValidator#validateAll(List, Executor)}.
+     *
+     * @param initData the initialization data strings received from the Telegram Mini App
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @param executor optional executor to run the batch on; if {@code null}, the common {@code ForkJoinPool} is used
+     * @return per-item validation status, in the same order as {@code initData}
+     * @throws IllegalArgumentException if {@code initData} or {@code botToken} is {@code null}
+     */
+    public static @NotNull ValidationStatus @NotNull [] validateAll(
+            @NotNull List<String> initData,
+            @NotNull String botToken,
+            @Nullable Duration expiresIn,
+            @Nullable Clock clock,
+            @Nullable Executor executor
+    ) {
+        return new InitDataValidator(botToken, expiresIn, clock).validateAll(initData, executor);
+    }
+
+    /**
+     * Validates a batch of {@code initData} strings signed by the same bot on the common {@code ForkJoinPool},
+     * without checking for expiration.
+     *
+     * @see #validateAll(List, String, Duration, Clock, Executor)
+     */
+    public static @NotNull ValidationStatus @NotNull [] validateAll(@NotNull List<String> initData, @NotNull String botToken) {
+        return validateAll(initData, botToken, null, null, null);
+    }
+
+    /**
+     * Verifies the validity of the provided {@code initData} using the default system clock
+     * and optionally checks the {@code auth_date} against an expiration duration, as defined in the
+     * <a href="https://docs.telegram-mini-apps.com/platform/init-data">Telegram Mini Apps Init Data</a> documentation.
+     * <p>
+     * Internally delegates to {@link #isValid(String, String, Duration, Clock)} with {@code clock} set to {@code null}.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @return {@code true} if the hash is valid and {@code auth_date} (if checked) is within the valid time range;
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException if {@code initData} or {@code botToken} is {@code null}
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing when expiration validation is required
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @throws ExpiredException if the {@code auth_date} is outside the allowed {@code expiresIn} window
+     * @see #isValid(String, String, Duration, Clock)
+     * @see <a href="https://docs.telegram-mini-apps.com/platform/init-data">Telegram Mini Apps Init Data</a>
+     */
+    public static boolean isValid(@NotNull String initData, @NotNull String botToken, @Nullable Duration expiresIn) {
+        return InitDataUtils.isValid(initData, botToken, expiresIn, null);
+    }
+
+    /**
+     * Verifies the validity of the provided {@code initData} using the default system clock
+     * and without checking for expiration, as defined in the
+     * <a href="https://docs.telegram-mini-apps.com/platform/init-data">Telegram Mini Apps Init Data</a> documentation.
+     * <p>
+     * Internally delegates to {@link #isValid(String, String, Duration, Clock)}
+     * with {@code expiresIn} and {@code clock} set to {@code null}.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param botToken the bot token associated with the Telegram bot
+     * @return {@code true} if the hash is valid; {@code false} otherwise
+     * @throws IllegalArgumentException if {@code initData} or {@code botToken} is {@code null}
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @see #isValid(String, String, Duration, Clock)
+     * @see <a href="https://docs.telegram-mini-apps.com/platform/init-data">Telegram Mini Apps Init Data</a>
+     */
+    public static boolean isValid(@NotNull String initData, @NotNull String botToken) {
+        return InitDataUtils.isValid(initData, botToken, null, null);
+    }
+
+    /**
+     * Parses the provided {@code initData} string into an {@link InitData} object using the given {@code parser}.
+     * The string must be in the format defined by Telegram Mini Apps and include at minimum an {@code auth_date} and {@code hash}.
+     * <p>
+     * If any optional values are not present in the string, they will be {@code null} in the resulting {@link InitData}.
+     *
+     * @param initData the raw init data string received from Telegram (must be URL query format)
+     * @param parser optional parser to deserialize structured fields like {@code user} and {@code chat};
+     *               if {@code null}, the default parser is used
+     * @return parsed {@link InitData} object with typed fields
+     * @throws IllegalArgumentException if {@code initData} is {@code null} or {@code isBlank() == true}
+     * @throws NumberFormatException if {@code can_send_after} can't be parsed to {@link Long}
+     * @throws io.github.sanvew.tg.init.data.exception.JsonParseException if there are occurred during json field parsing (e.g. {@code user}, {@code chat} etc.)
+     * @throws io.github.sanvew.tg.init.data.exception.JsonPropertyMissingException if any required property in json object is missing
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @see <a href="https://docs.telegram-mini-apps.com/platform/init-data">Telegram Init Data documentation</a>
+     */
+    public static @NotNull InitData parse(@NotNull String initData, @Nullable InitDataJsonTypesParser parser) {
+        if (initData == null || initData.isBlank()) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+
+        return buildInitData(InitDataTokens.tokenize(initData), defaultIfNull(parser), false);
+    }
+
+    /**
+     * Parses the provided {@code initData} string into an {@link InitData} object using the default parser implementation.
+     * <p>
+     * Internally delegates to {@link #parse(String, InitDataJsonTypesParser)} with the default parser.
+     *
+     * @param initData the raw init data string received from Telegram (must be URL query format)
+     * @return parsed {@link InitData} object with typed fields
+     * @throws IllegalArgumentException if {@code initData} is {@code null} or {@code isBlank() == true}
+     * @throws NumberFormatException if {@code can_send_after} can't be parsed to {@link Long}
+     * @throws io.github.sanvew.tg.init.data.exception.JsonParseException if there are occurred during json field parsing (e.g. {@code user}, {@code chat} etc.)
+     * @throws io.github.sanvew.tg.init.data.exception.JsonPropertyMissingException if any required property in json object is missing
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @see #parse(String, InitDataJsonTypesParser)
+     * @see <a href="https://docs.telegram-mini-apps.com/platform/init-data">Telegram Init Data documentation</a>
+     */
+    public static @NotNull InitData parse(@NotNull String initData) {
+        return InitDataUtils.parse(initData, null);
+    }
+
+    /**
+     * Parses only the requested parameters of the provided {@code initData} string into an {@link InitData} object.
+     * <p>
+     * Parameters missing from {@code params} are left {@code null} in the result and are neither percent-decoded
+     * nor deserialized, so their malformed values don't cause an error. {@code auth_date} and {@code hash} are required
+     * by {@link InitData} and are always parsed. If {@code keepExtra} is {@code false}, unknown parameters are skipped
+     * by the tokenizer and {@link InitData#getExtra()} is empty.
+     *
+     * @param initData the raw init data string received from Telegram (must be URL query format)
+     * @param params parameters to parse, e.g. {@code EnumSet.of(InitData.Param.START_PARAM)}
+     * @param keepExtra whether unknown parameters are collected into {@link InitData#getExtra()}
+     * @param parser optional parser to deserialize structured fields like {@code user} and {@code chat};
+     *               if {@code null}, the default parser is used
+     * @return parsed {@link InitData} object holding only the requested fields
+     * @throws IllegalArgumentException if {@code initData} or {@code params} is {@code null}, or {@code initData.isBlank() == true}
+     * @throws NumberFormatException if {@code can_send_after} is requested and can't be parsed to {@link Long}
+     * @throws io.github.sanvew.tg.init.data.exception.JsonParseException if there are occurred during json field parsing (e.g. {@code user}, {@code chat} etc.)
+     * @throws io.github.sanvew.tg.init.data.exception.JsonPropertyMissingException if any required property in json object is missing
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @see #parse(String, InitDataJsonTypesParser)
+     */
+    public static @NotNull InitData parse(
+            @NotNull String initData,
+            @NotNull Set<InitData.Param> params,
+            boolean keepExtra,
+            @Nullable InitDataJsonTypesParser parser
+    ) {
+        if (initData == null || initData.isBlank()) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+        if (params == null) {
+            throw buildExceptionArgumentNotProvided("params");
+        }
+
+        return buildInitData(InitDataTokens.tokenize(initData, keepExtra), defaultIfNull(parser), params, keepExtra, false);
+    }
+
+    /**
+     * Parses only the requested parameters of the provided {@code initData} string using the default parser implementation.
+     *
+     * @param initData the raw init data string received from Telegram (must be URL query format)
+     * @param params parameters to parse, {@code auth_date} and {@code hash} are always parsed
+     * @param keepExtra whether unknown parameters are collected into {@link InitData#getExtra()}
+     * @return parsed {@link InitData} object holding only the requested fields
+     * @see #parse(String, Set, boolean, InitDataJsonTypesParser)
+     */
+    public static @NotNull InitData parse(
+            @NotNull String initData,
+            @NotNull Set<InitData.Param> params,
+            boolean keepExtra
+    ) {
+        return InitDataUtils.parse(initData, params, keepExtra, null);
+    }
+
+    /**
+     * Parses the provided {@code initData} string into an {@link InitData} object which decodes its JSON fields on demand.
+     * <p>
+     * Scalar parameters are parsed right away, the same way as in {@link #parse(String, InitDataJsonTypesParser)},
+     * while {@code user}, {@code chat} and {@code receiver} are kept as raw JSON and handed to the {@code parser}
+     * on the first call of {@link InitData#getUser()}, {@link InitData#getChat()} or {@link InitData#getReceiver()}.
+     * The parsed value is memoized, so each field is decoded at most once even if the getters are called concurrently.
+     * Fields that are never read are never parsed.
+     * <p>
+     * Since JSON decoding is deferred, its errors are thrown by the getters instead of this method.
+     *
+     * @param initData the raw init data string received from Telegram (must be URL query format)
+     * @param parser optional parser to deserialize structured fields like {@code user} and {@code chat};
+     *               if {@code null}, the default parser is used
+     * @return parsed {@link InitData} object with lazily decoded JSON fields
+     * @throws IllegalArgumentException if {@code initData} is {@code null} or {@code isBlank() == true}
+     * @throws NumberFormatException if {@code can_send_after} can't be parsed to {@link Long}
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @see #parse(String, InitDataJsonTypesParser)
+     */
+    public static @NotNull InitData parseLazy(@NotNull String initData, @Nullable InitDataJsonTypesParser parser) {
+        if (initData == null || initData.isBlank()) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+
+        return buildInitData(InitDataTokens.tokenize(initData), defaultIfNull(parser), true);
+    }
+
+    /**
+     * Parses the provided {@code initData} string into an {@link InitData} object which decodes its JSON fields
+     * on demand using the default parser implementation.
+     *
+     * @param initData the raw init data string received from Telegram (must be URL query format)
+     * @return parsed {@link InitData} object with lazily decoded JSON fields
+     * @see #parseLazy(String, InitDataJsonTypesParser)
+     */
+    public static @NotNull InitData parseLazy(@NotNull String initData) {
+        return InitDataUtils.parseLazy(initData, null);
+    }
+
+    /**
+     * Verifies the provided {@code initData} string and, if its signature holds, parses it into an {@link InitData} object.
+     * <p>
+     * The query string is tokenized once and the same decoded parameters are used both for the signature check
+     * and for building the result, which is cheaper than calling {@link #isValid(String, String, Duration, Clock)}
+     * followed by {@link #parse(String, InitDataJsonTypesParser)}.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @param parser optional parser to deserialize structured fields like {@code user} and {@code chat};
+     *               if {@code null}, the default parser is used
+     * @return parsed {@link InitData} if the hash is valid; {@code null} otherwise
+     * @throws IllegalArgumentException if {@code initData} or {@code botToken} is {@code null}
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @throws ExpiredException if the {@code auth_date} is outside the allowed {@code expiresIn} window
+     * @throws NumberFormatException if {@code can_send_after} can't be parsed to {@link Long}
+     * @throws io.github.sanvew.tg.init.data.exception.JsonParseException if there are occurred during json field parsing (e.g. {@code user}, {@code chat} etc.)
+     * @throws io.github.sanvew.tg.init.data.exception.JsonPropertyMissingException if any required property in json object is missing
+     * @see InitDataValidator#validateAndParse(String, InitDataJsonTypesParser)
+     * @see <a href="https://docs.telegram-mini-apps.com/platform/init-data">Telegram Mini Apps Init Data</a>
+     */
+    public static @Nullable InitData validateAndParse(
+            @NotNull String initData,
+            @NotNull String botToken,
+            @Nullable Duration expiresIn,
+            @Nullable Clock clock,
+            @Nullable InitDataJsonTypesParser parser
+    ) {
+        if (initData == null || initData.isBlank()) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+
+        return new InitDataValidator(botToken, expiresIn, clock).validateAndParse(initData, parser);
+    }
+
+    /**
+     * Verifies the provided {@code initData} string using the default system clock and parser and, if its signature holds,
+     * parses it into an {@link InitData} object.
+     * <p>
+     * Internally delegates to {@link #validateAndParse(String, String, Duration, Clock, InitDataJsonTypesParser)}
+     * with {@code clock} and {@code parser} set to {@code null}.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @return parsed {@link InitData} if the hash is valid; {@code null} otherwise
+     * @see #validateAndParse(String, String, Duration, Clock, InitDataJsonTypesParser)
+     */
+    public static @Nullable InitData validateAndParse(
+            @NotNull String initData,
+            @NotNull String botToken,
+            @Nullable Duration expiresIn
+    ) {
+        return InitDataUtils.validateAndParse(initData, botToken, expiresIn, null, null);
+    }
+
+    /**
+     * Verifies the provided {@code initData} string without checking for expiration and, if its signature holds,
+     * parses it into an {@link InitData} object using the default parser.
+     * <p>
+     * Internally delegates to {@link #validateAndParse(String, String, Duration, Clock, InitDataJsonTypesParser)}
+     * with {@code expiresIn}, {@code clock} and {@code parser} set to {@code null}.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param botToken the bot token associated with the Telegram bot
+     * @return parsed {@link InitData} if the hash is valid; {@code null} otherwise
+     * @see #validateAndParse(String, String, Duration, Clock, InitDataJsonTypesParser)
+     */
+    public static @Nullable InitData validateAndParse(@NotNull String initData, @NotNull String botToken) {
+        return InitDataUtils.validateAndParse(initData, botToken, null, null, null);
+    }
+
+    /**
+     * Validates the provided {@code initData} string as a task on the given executor and reports the outcome
+     * as a value instead of throwing.
+     * <p>
+     * The secret key is derived on the calling thread; internally delegates to
+     * {@link InitDataValidator#validateAsync(String, Executor)}.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @param executor optional executor to validate on; if {@code null}, the common {@link java.util.concurrent.ForkJoinPool}
+     *                 is used
+     * @return future completed with the result
+     * @throws IllegalArgumentException if {@code botToken} is {@code null} or blank
+     */
+    public static @NotNull CompletableFuture<ValidationResult> validateAsync(
+            @Nullable String initData,
+            @NotNull String botToken,
+            @Nullable Duration expiresIn,
+            @Nullable Clock clock,
+            @Nullable Executor executor
+    ) {
+        return new InitDataValidator(botToken, expiresIn, clock).validateAsync(initData, executor);
+    }
+
+    /**
+     * Verifies the provided {@code initData} string and, if its signature holds, parses it into an {@link InitData}
+     * object as a task on the given executor.
+     * <p>
+     * The secret key is derived on the calling thread; internally delegates to
+     * {@link InitDataValidator#validateAndParseAsync(String, InitDataJsonTypesParser, Executor)}.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @param parser optional parser to deserialize structured fields like {@code user} and {@code chat};
+     *               if {@code null}, the default parser is used
+     * @param executor optional executor to validate on; if {@code null}, the common {@link java.util.concurrent.ForkJoinPool}
+     *                 is used
+     * @return future completed with the parsed {@link InitData} if the hash is valid and with {@code null} otherwise;
+     *         completed exceptionally with the exception {@link #validateAndParse(String, String, Duration, Clock, InitDataJsonTypesParser)}
+     *         throws for the payload
+     * @throws IllegalArgumentException if {@code botToken} is {@code null} or blank
+     */
+    public static @NotNull CompletableFuture<InitData> validateAndParseAsync(
+            @NotNull String initData,
+            @NotNull String botToken,
+            @Nullable Duration expiresIn,
+            @Nullable Clock clock,
+            @Nullable InitDataJsonTypesParser parser,
+            @Nullable Executor executor
+    ) {
+        return new InitDataValidator(botToken, expiresIn, clock).validateAndParseAsync(initData, parser, executor);
+    }
+
+    // =================================================================================================================
+    // initData parsing
+    // =================================================================================================================
+    /**
+     * @param lazy whether {@code user}, {@code chat} and {@code receiver} are decoded on first access
+     */
+    static @NotNull InitData buildInitData(InitDataTokens tokens, InitDataJsonTypesParser parser, boolean lazy) {
+        return buildInitData(tokens, parser, null, true, lazy);
+    }
+
+    /**
+     * @param params params to materialize, {@code auth_date} and {@code hash} are always included;
+     *               if {@code null}, all params are materialized
+     * @param keepExtra whether unknown params are collected into {@link InitData#getExtra()}
+     * @param lazy whether {@code user}, {@code chat} and {@code receiver} are decoded on first access
+     */
+    static @NotNull InitData buildInitData(
+            InitDataTokens tokens,
+            InitDataJsonTypesParser parser,
+            @Nullable Set<InitData.Param> params,
+            boolean keepExtra,
+            boolean lazy
+    ) {
+        if (!tokens.contains(InitData.Param.AUTH_DATE)) { throw new AuthDateMissingException(); }
+        final long authDate = parseAuthDate(tokens.get(InitData.Param.AUTH_DATE));
+        final String rawCanSendAfter = get(tokens, params, InitData.Param.CAN_SEND_AFTER);
+        Long canSendAfter;
+        try {
+            canSendAfter = rawCanSendAfter != null ? Long.parseLong(rawCanSendAfter) : null;
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException("Unable to parse "
+                    + InitData.Param.CAN_SEND_AFTER.value
+                    + ": "
+                    + rawCanSendAfter
+            );
+        }
+        final ChatType chatType = ChatType.fromValue(get(tokens, params, InitData.Param.CHAT_TYPE));
+        final String chatInstance = get(tokens, params, InitData.Param.CHAT_INSTANCE);
+        final String hash = tokens.get(InitData.Param.HASH);
+        if (hash == null) { throw new SignatureMissingException(); }
+        final String queryId = get(tokens, params, InitData.Param.QUERY_ID);
+        final String startParam = get(tokens, params, InitData.Param.START_PARAM);
+        final Map<String, String> extra = keepExtra ? tokens.extra() : null;
+
+        if (lazy) {
+            return new LazyInitData(
+                    authDate, canSendAfter, get(tokens, params, InitData.Param.CHAT), chatType, chatInstance, hash,
+                    queryId, get(tokens, params, InitData.Param.RECEIVER), startParam,
+                    get(tokens, params, InitData.Param.USER), extra, parser
+            );
+        }
+
+        final Chat chat = parser.parseChat(get(tokens, params, InitData.Param.CHAT));
+        final User receiver = parser.parseUser(get(tokens, params, InitData.Param.RECEIVER));
+        final User user = parser.parseUser(get(tokens, params, InitData.Param.USER));
+
+        return new InitData(
+                authDate, canSendAfter, chat, chatType, chatInstance, hash, queryId, receiver, startParam, user, extra
+        );
+    }
+
+    /**
+     * @return decoded param value, or {@code null} if it is absent or not requested
+     */
+    private static @Nullable String get(InitDataTokens tokens, @Nullable Set<InitData.Param> params, InitData.Param param) {
+        return params == null || params.contains(param) ? tokens.get(param) : null;
+    }
+
+    static InitDataJsonTypesParser defaultIfNull(InitDataJsonTypesParser parser) {
+        return parser != null ? parser : DefaultParserHolder.INSTANCE;
+    }
+
+    /**
+     * @return first {@link InitDataJsonTypesParser} provider visible to {@code classLoader} which can be instantiated,
+     *         {@link SimpleInitDataJsonTypesParser} if there is none
+     */
+    static InitDataJsonTypesParser defaultParser(@Nullable ClassLoader classLoader) {
+        final Iterator<InitDataJsonTypesParser> providers = ServiceLoader.load(InitDataJsonTypesParser.class, classLoader).iterator();
+        while (true) {
+            try {
+                if (!providers.hasNext()) {
+                    return SimpleInitDataJsonTypesParser.INSTANCE;
+                }
+                return providers.next();
+            } catch (ServiceConfigurationError | LinkageError e) {
+                // provider whose dependencies are missing, try the next one
+            }
+        }
+    }
+
+    /**
+     * Looks the default parser up on first use, so that the service lookup is never done when a parser is passed.
+     */
+    private static final class DefaultParserHolder {
+        static final InitDataJsonTypesParser INSTANCE = defaultParser(InitDataUtils.class.getClassLoader());
+    }
+
+    // =================================================================================================================
+    // Hmac256 digest related methods
+    // =================================================================================================================
+    static Mac hmacSHA256(byte[] key) {
+        try {
+            final Mac hmacSHA256 = Mac.getInstance(HMAC_SHA256);
+            hmacSHA256.init(new SecretKeySpec(key, HMAC_SHA256));
+            return hmacSHA256;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    static byte[] hmacDigest(byte[] data, byte[] key) {
+        return hmacSHA256(key).doFinal(data);
+    }
+
+    static String bytesToHex(byte[] bytes) {
+        final char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            hex[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    // =================================================================================================================
+    // auth_date validation
+    // =================================================================================================================
+    private static long parseAuthDate(String authDate) {
+        try {
+            return Long.parseLong(authDate);
+        } catch (NumberFormatException e) {
+            throw new AuthDateInvalidException(authDate);
+        }
+    }
+
+    /**
+     * @return epoch second at which {@code authDate} expires
+     */
+    static long validateAuthDate(String authDate, Duration expiresIn, Clock clock) {
+        if (authDate == null) {
+            throw new AuthDateMissingException();
+        }
+
+        final Instant instantAuthDate = Instant.ofEpochSecond(parseAuthDate(authDate));
+        final Instant instantNow = now(clock);
+
+        final Instant expiration = instantAuthDate.plus(expiresIn);
+        if (instantNow.isAfter(expiration)) {
+            throw new ExpiredException(expiration.getEpochSecond(), instantNow.getEpochSecond());
+        }
+        return expiration.getEpochSecond();
+    }
+
+    static Instant now(Clock clock) {
+        return clock != null ? Instant.now(clock) : Instant.now();
+    }
+
+    // =================================================================================================================
+    // misc methods
+    // =================================================================================================================
+    static IllegalArgumentException buildExceptionArgumentNotProvided(String argument) {
+        return new IllegalArgumentException("Argument \"" + argument + "\" is null or empty!");
+    }
+}
@@ -0,0 +1,1114 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import io.github.sanvew.tg.init.data.exception.AuthDateInvalidException;
+import io.github.sanvew.tg.init.data.exception.AuthDateMissingException;
+import io.github.sanvew.tg.init.data.exception.ExpiredException;
+import io.github.sanvew.tg.init.data.exception.JsonParseException;
+import io.github.sanvew.tg.init.data.exception.JsonPropertyMissingException;
+import io.github.sanvew.tg.init.data.exception.ReplayGuardFullException;
+import io.github.sanvew.tg.init.data.exception.ReplayedException;
+import io.github.sanvew.tg.init.data.exception.SignatureMissingException;
+import io.github.sanvew.tg.init.data.json.parser.InitDataJsonTypesParser;
+import io.github.sanvew.tg.init.data.type.Chat;
+import io.github.sanvew.tg.init.data.type.InitData;
+import io.github.sanvew.tg.init.data.type.User;
+
+import javax.crypto.Mac;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static io.github.sanvew.tg.init.data.InitDataUtils.buildExceptionArgumentNotProvided;
+
+/**
+ * Reusable validator of Telegram Mini App {@code initData} payloads bound to a single bot token.
+ * <p>
+ * The secret key ({@code HMAC_SHA256(botToken, "WebAppData")}) is derived once on construction and kept
+ * in a pre-keyed HMAC instance, so each validation only computes the final HMAC over the data-check string.
+ * Instances are immutable and thread-safe and are intended to be created once per bot token and shared.
+ * <p>
+ * To rotate the bot token without a restart, create the validator with a {@link BotKeySource}: payloads are then
+ * checked against its current keys in order, so {@code initData} signed with the previous token stays valid while
+ * both tokens are active.
+ *
+ * @see InitDataUtils#isValid(String, String, Duration, Clock)
+ * @see <a href="https://docs.telegram-mini-apps.com/platform/init-data">Telegram Init Data Documentation</a>
+ */
+public class InitDataValidator {
+    private static final int HASH_LENGTH = 32;
+
+    private final BotKeySource keySource;
+    private final Duration expiresIn;
+    private final Clock clock;
+    private final ReplayGuard replayGuard;
+    private final ValidationCache cache;
+    private final ValidationListener listener;
+    private final InitDataLimits limits;
+    /** Owner of the cache entries validated with the current keys, so that a rotation invalidates them. */
+    private volatile CacheOwner cacheOwner;
+
+    /**
+     * Creates validator for the given bot token which rejects replays of already accepted payloads.
+     * <p>
+     * Every payload with a valid signature is recorded in {@code replayGuard} until its {@code auth_date + expiresIn}
+     * passes; validating the same payload again within that window throws {@link ReplayedException}. A new payload
+     * which doesn't fit the guard any more throws {@link ReplayGuardFullException} instead.
+     *
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  required if {@code replayGuard} is set
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @param replayGuard optional store of accepted signatures; if {@code null}, no replay protection is performed
+     * @throws IllegalArgumentException if {@code botToken} is {@code null} or {@code isBlank() == true},
+     *                                  or if {@code replayGuard} is set without {@code expiresIn}
+     */
+    public InitDataValidator(
+            @NotNull String botToken,
+            @Nullable Duration expiresIn,
+            @Nullable Clock clock,
+            @Nullable ReplayGuard replayGuard
+    ) {
+        this(botToken, expiresIn, clock, replayGuard, null);
+    }
+
+    /**
+     * Creates validator for the given bot token with optional replay protection or result caching.
+     * <p>
+     * With {@code cache} set, {@link #isValid(String)} and {@link #validateAndParse(String, InitDataJsonTypesParser)}
+     * first look up the exact same {@code initData} string among the payloads this validator has already accepted
+     * and, while its {@code auth_date + expiresIn} hasn't passed, return the stored result without recomputing
+     * the HMAC or parsing the payload again.
+     *
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  required if {@code replayGuard} is set
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @param replayGuard optional store of accepted signatures; if {@code null}, no replay protection is performed
+     * @param cache optional cache of validated payloads; if {@code null}, every payload is fully checked
+     * @throws IllegalArgumentException if {@code botToken} is {@code null} or {@code isBlank() == true},
+     *                                  if {@code replayGuard} is set without {@code expiresIn},
+     *                                  or if both {@code replayGuard} and {@code cache} are set
+     */
+    public InitDataValidator(
+            @NotNull String botToken,
+            @Nullable Duration expiresIn,
+            @Nullable Clock clock,
+            @Nullable ReplayGuard replayGuard,
+            @Nullable ValidationCache cache
+    ) {
+        this(botToken, expiresIn, clock, replayGuard, cache, null);
+    }
+
+    /**
+     * Creates validator for the given bot token which reports phase latencies and outcomes to {@code listener}.
+     * <p>
+     * The tokenizing, HMAC and JSON decoding phases are timed separately; every payload which gets past argument
+     * checks is reported once with its {@link ValidationStatus}, and JSON decoding failures of validated payloads
+     * additionally through {@link ValidationListener#onJsonError()}. Batch validation reports outcomes only.
+     *
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  required if {@code replayGuard} is set
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @param replayGuard optional store of accepted signatures; if {@code null}, no replay protection is performed
+     * @param cache optional cache of validated payloads; if {@code null}, every payload is fully checked
+     * @param listener optional listener of validation events, e.g. {@link ValidationMetrics};
+     *                 if {@code null}, {@link ValidationListener#NOOP} is used
+     * @throws IllegalArgumentException if {@code botToken} is {@code null} or {@code isBlank() == true},
+     *                                  if {@code replayGuard} is set without {@code expiresIn},
+     *                                  or if both {@code replayGuard} and {@code cache} are set
+     */
+    public InitDataValidator(
+            @NotNull String botToken,
+            @Nullable Duration expiresIn,
+            @Nullable Clock clock,
+            @Nullable ReplayGuard replayGuard,
+            @Nullable ValidationCache cache,
+            @Nullable ValidationListener listener
+    ) {
+        this(botToken, expiresIn, clock, replayGuard, cache, listener, null);
+    }
+
+    /**
+     * Creates validator for the given bot token which rejects malformed, oversized or expired payloads with a cheap
+     * pre-filter before any decoding.
+     * <p>
+     * The pre-filter scans the raw input once, before the cache lookup, tokenizing, HMAC and JSON decoding,
+     * see {@link InitDataLimits} for the checks. Its rejections are reported exactly like those of the full validation,
+     * e.g. {@link #isValid(String)} throws {@link IllegalArgumentException} for a payload exceeding the limits and
+     * {@link #validate(String)} returns {@link ValidationStatus#MALFORMED}.
+     *
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  required if {@code replayGuard} is set
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @param replayGuard optional store of accepted signatures; if {@code null}, no replay protection is performed
+     * @param cache optional cache of validated payloads; if {@code null}, every payload is fully checked
+     * @param listener optional listener of validation events, e.g. {@link ValidationMetrics};
+     *                 if {@code null}, {@link ValidationListener#NOOP} is used
+     * @param limits optional pre-filter limits, e.g. {@link InitDataLimits#DEFAULT}; if {@code null}, payloads are
+     *               not pre-filtered
+     * @throws IllegalArgumentException if {@code botToken} is {@code null} or {@code isBlank() == true},
+     *                                  if {@code replayGuard} is set without {@code expiresIn},
+     *                                  or if both {@code replayGuard} and {@code cache} are set
+     */
+    public InitDataValidator(
+            @NotNull String botToken,
+            @Nullable Duration expiresIn,
+            @Nullable Clock clock,
+            @Nullable ReplayGuard replayGuard,
+            @Nullable ValidationCache cache,
+            @Nullable ValidationListener listener,
+            @Nullable InitDataLimits limits
+    ) {
+        this(keysOf(botToken), expiresIn, clock, replayGuard, cache, listener, limits);
+    }
+
+    /**
+     * Creates validator which checks signatures against the current keys of {@code keySource}.
+     * <p>
+     * Every payload is validated with the {@link BotKeys} snapshot current when its validation starts: the primary
+     * key first, then the others in order. {@link ValidationResult#getKeyIndex()} reports which key matched.
+     * A rotation costs the validation path nothing; cached results are not served across a rotation.
+     *
+     * @param keySource source of the bot keys, e.g. {@link RotatingBotKeySource} or {@link FileBotKeySource}
+     * @param expiresIn duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  required if {@code replayGuard} is set
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @param replayGuard optional store of accepted signatures; if {@code null}, no replay protection is performed
+     * @param cache optional cache of validated payloads; if {@code null}, every payload is fully checked
+     * @param listener optional listener of validation events, e.g. {@link ValidationMetrics};
+     *                 if {@code null}, {@link ValidationListener#NOOP} is used
+     * @param limits optional pre-filter limits, e.g. {@link InitDataLimits#DEFAULT}; if {@code null}, payloads are
+     *               not pre-filtered
+     * @throws IllegalArgumentException if {@code keySource} is {@code null},
+     *                                  if {@code replayGuard} is set without {@code expiresIn},
+     *                                  or if both {@code replayGuard} and {@code cache} are set
+     */
+    public InitDataValidator(
+            @NotNull BotKeySource keySource,
+            @Nullable Duration expiresIn,
+            @Nullable Clock clock,
+            @Nullable ReplayGuard replayGuard,
+            @Nullable ValidationCache cache,
+            @Nullable ValidationListener listener,
+            @Nullable InitDataLimits limits
+    ) {
+        if (keySource == null) {
+            throw buildExceptionArgumentNotProvided("keySource");
+        }
+        if (replayGuard != null && expiresIn == null) {
+            throw buildExceptionArgumentNotProvided("expiresIn");
+        }
+        if (replayGuard != null && cache != null) {
+            throw new IllegalArgumentException("Arguments \"replayGuard\" and \"cache\" can't be used together");
+        }
+
+        this.keySource = keySource;
+        this.expiresIn = expiresIn;
+        this.clock = clock;
+        this.replayGuard = replayGuard;
+        this.cache = cache;
+        this.listener = listener != null ? listener : ValidationListener.NOOP;
+        this.limits = limits;
+    }
+
+    /**
+     * Creates validator which checks signatures against the current keys of {@code keySource}.
+     *
+     * @param keySource source of the bot keys, e.g. {@link RotatingBotKeySource} or {@link FileBotKeySource}
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @throws IllegalArgumentException if {@code keySource} is {@code null}
+     * @see #InitDataValidator(BotKeySource, Duration, Clock, ReplayGuard, ValidationCache, ValidationListener, InitDataLimits)
+     */
+    public InitDataValidator(@NotNull BotKeySource keySource, @Nullable Duration expiresIn, @Nullable Clock clock) {
+        this(keySource, expiresIn, clock, null, null, null, null);
+    }
+
+    /**
+     * Creates validator for the given bot token.
+     *
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @throws IllegalArgumentException if {@code botToken} is {@code null} or {@code isBlank() == true}
+     */
+    public InitDataValidator(@NotNull String botToken, @Nullable Duration expiresIn, @Nullable Clock clock) {
+        this(botToken, expiresIn, clock, null);
+    }
+
+    /**
+     * Creates validator for the given bot token which uses the system default clock.
+     *
+     * @param botToken the bot token associated with the Telegram bot
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @throws IllegalArgumentException if {@code botToken} is {@code null} or {@code isBlank() == true}
+     */
+    public InitDataValidator(@NotNull String botToken, @Nullable Duration expiresIn) {
+        this(botToken, expiresIn, null);
+    }
+
+    /**
+     * Creates validator for the given bot token without expiration checking.
+     *
+     * @param botToken the bot token associated with the Telegram bot
+     * @throws IllegalArgumentException if {@code botToken} is {@code null} or {@code isBlank() == true}
+     */
+    public InitDataValidator(@NotNull String botToken) {
+        this(botToken, null, null);
+    }
+
+    /**
+     * Verifies the validity of the provided {@code initData} string using the algorithm defined
+     * in the <a href="https://docs.telegram-mini-apps.com/platform/init-data">Telegram Mini Apps Init Data</a> documentation.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @return {@code true} if the hash is valid and {@code auth_date} (if checked) is within the valid time range;
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException if {@code initData} is {@code null} or {@code isBlank() == true}
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing when expiration validation is required
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @throws ExpiredException if the {@code auth_date} is outside the allowed {@code expiresIn} window
+     * @throws ReplayedException if the payload has already been accepted and {@link ReplayGuard} is configured
+     * @throws ReplayGuardFullException if {@link ReplayGuard} is configured and has no room left for the payload
+     */
+    public boolean isValid(@NotNull String initData) {
+        if (initData == null || initData.isBlank()) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+
+        return validated(initData).orThrow();
+    }
+
+    /**
+     * Validates the provided {@code initData} string the same way as {@link #isValid(String)}, but reports every
+     * outcome as the returned value instead of throwing.
+     * <p>
+     * Rejecting a payload costs no exception, which keeps the rejection path as cheap as the acceptance path
+     * when most of the traffic is invalid.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @return result with the {@link ValidationStatus} and the {@code auth_date} details the decision was based on;
+     *         {@link ValidationStatus#MALFORMED} if {@code initData} is {@code null}, blank or can't be percent-decoded
+     */
+    public @NotNull ValidationResult validate(@Nullable String initData) {
+        if (initData == null || initData.isBlank()) {
+            return ValidationResult.of(ValidationStatus.MALFORMED);
+        }
+
+        try {
+            return validated(initData);
+        } catch (IllegalArgumentException e) {
+            return ValidationResult.of(ValidationStatus.MALFORMED);
+        }
+    }
+
+    /**
+     * Verifies the validity of the provided UTF-8 encoded {@code initData} bytes.
+     * <p>
+     * The payload is never materialized as a {@code String}: the data-check string is assembled from the input bytes,
+     * percent-decoding only the values that need it.
+     *
+     * @param initData buffer holding the initialization data received from the Telegram Mini App
+     * @param offset offset of the first byte of the initialization data
+     * @param length number of bytes of the initialization data
+     * @return {@code true} if the hash is valid and {@code auth_date} (if checked) is within the valid time range;
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException if {@code initData} is {@code null} or the range is blank
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of {@code initData} bounds
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing when expiration validation is required
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @throws ExpiredException if the {@code auth_date} is outside the allowed {@code expiresIn} window
+     * @throws ReplayedException if the payload has already been accepted and {@link ReplayGuard} is configured
+     * @throws ReplayGuardFullException if {@link ReplayGuard} is configured and has no room left for the payload
+     * @see #isValid(String)
+     */
+    public boolean isValidBytes(byte @NotNull [] initData, int offset, int length) {
+        if (initData == null || isBlank(ByteBuffer.wrap(initData, offset, length))) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+
+        final ValidationResult rejected = preFilter(initData, offset, length);
+        if (rejected != null) {
+            return rejected.orThrow();
+        }
+        return verify(tokenize(initData, offset, length));
+    }
+
+    /**
+     * Verifies the validity of the provided UTF-8 encoded {@code initData} bytes.
+     *
+     * @param initData the initialization data received from the Telegram Mini App
+     * @return {@code true} if the hash is valid and {@code auth_date} (if checked) is within the valid time range;
+     *         {@code false} otherwise
+     * @see #isValidBytes(byte[], int, int)
+     */
+    public boolean isValidBytes(byte @NotNull [] initData) {
+        if (initData == null) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+        return isValidBytes(initData, 0, initData.length);
+    }
+
+    /**
+     * Verifies the validity of the UTF-8 encoded {@code initData} held in the remaining bytes of the buffer.
+     * Both heap and direct buffers are supported; the buffer position and limit are not changed.
+     *
+     * @param initData buffer holding the initialization data received from the Telegram Mini App
+     * @return {@code true} if the hash is valid and {@code auth_date} (if checked) is within the valid time range;
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException if {@code initData} is {@code null} or has no non-blank remaining bytes
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing when expiration validation is required
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @throws ExpiredException if the {@code auth_date} is outside the allowed {@code expiresIn} window
+     * @throws ReplayedException if the payload has already been accepted and {@link ReplayGuard} is configured
+     * @throws ReplayGuardFullException if {@link ReplayGuard} is configured and has no room left for the payload
+     * @see #isValidBytes(byte[], int, int)
+     */
+    public boolean isValidBytes(@NotNull ByteBuffer initData) {
+        if (initData == null || isBlank(initData)) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+
+        final ValidationResult rejected = preFilter(initData);
+        if (rejected != null) {
+            return rejected.orThrow();
+        }
+        return verify(tokenize(initData));
+    }
+
+    /**
+     * Verifies the provided {@code initData} string and, if its signature holds, parses it into an {@link InitData} object.
+     * <p>
+     * The query string is tokenized once and the same decoded parameters are used both for the signature check
+     * and for building the result.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param parser optional parser to deserialize structured fields like {@code user} and {@code chat};
+     *               if {@code null}, the default parser is used
+     * @return parsed {@link InitData} if the hash is valid; {@code null} otherwise
+     * @throws IllegalArgumentException if {@code initData} is {@code null} or {@code isBlank() == true}
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @throws ExpiredException if the {@code auth_date} is outside the allowed {@code expiresIn} window
+     * @throws ReplayedException if the payload has already been accepted and {@link ReplayGuard} is configured
+     * @throws ReplayGuardFullException if {@link ReplayGuard} is configured and has no room left for the payload
+     * @throws NumberFormatException if {@code can_send_after} can't be parsed to {@link Long}
+     * @throws io.github.sanvew.tg.init.data.exception.JsonParseException if there are occurred during json field parsing (e.g. {@code user}, {@code chat} etc.)
+     * @throws io.github.sanvew.tg.init.data.exception.JsonPropertyMissingException if any required property in json object is missing
+     */
+    public @Nullable InitData validateAndParse(@NotNull String initData, @Nullable InitDataJsonTypesParser parser) {
+        if (initData == null || initData.isBlank()) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+
+        final ValidationResult rejected = preFilter(initData);
+        if (rejected != null && !rejected.orThrow()) {
+            return null;
+        }
+        if (cache == null) {
+            final InitDataTokens tokens = tokenize(initData);
+            if (!verify(tokens)) {
+                return null;
+            }
+            return buildInitData(tokens, parser, null, true, false);
+        }
+
+        final BotKeys keys = keySource.current();
+        final CacheOwner owner = cacheOwner(keys);
+        final Instant now = InitDataUtils.now(clock);
+        final ValidationCache.Entry cached = cache.get(owner, initData, now);
+        if (cached != null) {
+            listener.onOutcome(ValidationStatus.VALID);
+            if (cached.value != null && cached.parser == parser) {
+                return cached.value;
+            }
+        }
+
+        final InitDataTokens tokens = tokenize(initData);
+        final ValidationResult checked = cached == null ? check(tokens, keys, null) : null;
+        if (checked != null && !checked.orThrow()) {
+            return null;
+        }
+        final InitData result = buildInitData(tokens, parser, null, true, false);
+        if (cached != null) {
+            cache.put(owner, initData, cached.expiresAt, cached.keyIndex, parser, result, now);
+        } else {
+            cache.put(owner, initData, expiresAt(tokens), checked.getKeyIndex(), parser, result, now);
+        }
+        return result;
+    }
+
+    /**
+     * Verifies the provided {@code initData} string and, if its signature holds, parses it using the default parser.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @return parsed {@link InitData} if the hash is valid; {@code null} otherwise
+     * @see #validateAndParse(String, InitDataJsonTypesParser)
+     */
+    public @Nullable InitData validateAndParse(@NotNull String initData) {
+        return validateAndParse(initData, null);
+    }
+
+    /**
+     * Verifies the provided {@code initData} string and, if its signature holds, parses it into an {@link InitData} object
+     * which decodes {@code user}, {@code chat} and {@code receiver} on first access.
+     * <p>
+     * See {@link InitDataUtils#parseLazy(String, InitDataJsonTypesParser)} for the lazy decoding semantics.
+     * With a {@link ValidationCache} configured a cache hit skips the signature check; lazily parsed results
+     * themselves are not cached.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param parser optional parser to deserialize structured fields like {@code user} and {@code chat};
+     *               if {@code null}, the default parser is used
+     * @return parsed {@link InitData} if the hash is valid; {@code null} otherwise
+     * @throws IllegalArgumentException if {@code initData} is {@code null} or {@code isBlank() == true}
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @throws ExpiredException if the {@code auth_date} is outside the allowed {@code expiresIn} window
+     * @throws ReplayedException if the payload has already been accepted and {@link ReplayGuard} is configured
+     * @throws ReplayGuardFullException if {@link ReplayGuard} is configured and has no room left for the payload
+     * @throws NumberFormatException if {@code can_send_after} can't be parsed to {@link Long}
+     * @see #validateAndParse(String, InitDataJsonTypesParser)
+     */
+    public @Nullable InitData validateAndParseLazy(@NotNull String initData, @Nullable InitDataJsonTypesParser parser) {
+        if (initData == null || initData.isBlank()) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+
+        final ValidationResult rejected = preFilter(initData);
+        if (rejected != null && !rejected.orThrow()) {
+            return null;
+        }
+        final InitDataTokens tokens = tokenize(initData);
+        if (!verifyOrCached(initData, tokens)) {
+            return null;
+        }
+        return buildInitData(tokens, parser, null, true, true);
+    }
+
+    /**
+     * Verifies the provided {@code initData} string and, if its signature holds, parses it using the default parser
+     * with {@code user}, {@code chat} and {@code receiver} decoded on first access.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @return parsed {@link InitData} if the hash is valid; {@code null} otherwise
+     * @see #validateAndParseLazy(String, InitDataJsonTypesParser)
+     */
+    public @Nullable InitData validateAndParseLazy(@NotNull String initData) {
+        return validateAndParseLazy(initData, null);
+    }
+
+    /**
+     * Verifies the provided {@code initData} string and, if its signature holds, parses only the requested parameters
+     * into an {@link InitData} object.
+     * <p>
+     * The signature always covers the whole payload; only building the result is restricted to {@code params},
+     * see {@link InitDataUtils#parse(String, Set, boolean, InitDataJsonTypesParser)}. With a {@link ValidationCache}
+     * configured a cache hit skips the signature check; projected results themselves are not cached.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param params parameters to parse, {@code auth_date} and {@code hash} are always parsed
+     * @param keepExtra whether unknown parameters are collected into {@link InitData#getExtra()}
+     * @param parser optional parser to deserialize structured fields like {@code user} and {@code chat};
+     *               if {@code null}, the default parser is used
+     * @return parsed {@link InitData} if the hash is valid; {@code null} otherwise
+     * @throws IllegalArgumentException if {@code initData} or {@code params} is {@code null}, or {@code initData.isBlank() == true}
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @throws ExpiredException if the {@code auth_date} is outside the allowed {@code expiresIn} window
+     * @throws ReplayedException if the payload has already been accepted and {@link ReplayGuard} is configured
+     * @throws ReplayGuardFullException if {@link ReplayGuard} is configured and has no room left for the payload
+     * @throws NumberFormatException if {@code can_send_after} is requested and can't be parsed to {@link Long}
+     * @throws io.github.sanvew.tg.init.data.exception.JsonParseException if there are occurred during json field parsing (e.g. {@code user}, {@code chat} etc.)
+     * @throws io.github.sanvew.tg.init.data.exception.JsonPropertyMissingException if any required property in json object is missing
+     * @see #validateAndParse(String, InitDataJsonTypesParser)
+     */
+    public @Nullable InitData validateAndParse(
+            @NotNull String initData,
+            @NotNull Set<InitData.Param> params,
+            boolean keepExtra,
+            @Nullable InitDataJsonTypesParser parser
+    ) {
+        if (initData == null || initData.isBlank()) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+        if (params == null) {
+            throw buildExceptionArgumentNotProvided("params");
+        }
+
+        final ValidationResult rejected = preFilter(initData);
+        if (rejected != null && !rejected.orThrow()) {
+            return null;
+        }
+        final InitDataTokens tokens = tokenize(initData);
+        if (!verifyOrCached(initData, tokens)) {
+            return null;
+        }
+        return buildInitData(tokens, parser, params, keepExtra, false);
+    }
+
+    /**
+     * Validates a batch of {@code initData} strings, spreading the work across the common {@link ForkJoinPool}.
+     *
+     * @param initData the initialization data strings received from the Telegram Mini App
+     * @return per-item validation status, in the same order as {@code initData}
+     * @see #validateAll(List, Executor)
+     */
+    public @NotNull ValidationStatus @NotNull [] validateAll(@NotNull List<String> initData) {
+        return validateAll(initData, null);
+    }
+
+    /**
+     * Validates a batch of {@code initData} strings on the given executor.
+     * <p>
+     * The batch is split into contiguous chunks sized to amortize scheduling; each chunk is validated by a single
+     * task which reuses one HMAC instance for all of its items. Small batches, and batches without an executor on
+     * a single-core machine, are validated on the calling thread.
+     * Per-item failures do not abort the batch: they are reported as the matching {@link ValidationStatus}.
+     *
+     * @param initData the initialization data strings received from the Telegram Mini App
+     * @param executor optional executor to run chunks on; if {@code null}, the common {@link ForkJoinPool} is used
+     * @return per-item validation status, in the same order as {@code initData}
+     * @throws IllegalArgumentException if {@code initData} is {@code null}
+     */
+    public @NotNull ValidationStatus @NotNull [] validateAll(@NotNull List<String> initData, @Nullable Executor executor) {
+        if (initData == null) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+
+        return BatchValidation.validateAll(initData, executor, () -> {
+            final BotKeys keys = keySource.current();
+            final Mac[] hmacs = new Mac[keys.size()];
+            return item -> {
+                final ValidationResult rejected = preFilter(item);
+                if (rejected != null) {
+                    return rejected.getStatus();
+                }
+                try {
+                    return check(tokenize(item), keys, hmacs).getStatus();
+                } catch (RuntimeException e) {
+                    for (Mac hmac : hmacs) {
+                        if (hmac != null) { hmac.reset(); }
+                    }
+                    throw e;
+                }
+            };
+        });
+    }
+
+    /**
+     * Validates a batch of {@code initData} strings, spreading the work across the common {@link ForkJoinPool}.
+     *
+     * @see #validateAll(List, Executor)
+     */
+    public @NotNull ValidationStatus @NotNull [] validateAll(@NotNull String @NotNull [] initData) {
+        return validateAll(initData, null);
+    }
+
+    /**
+     * Validates a batch of {@code initData} strings on the given executor.
+     *
+     * @see #validateAll(List, Executor)
+     */
+    public @NotNull ValidationStatus @NotNull [] validateAll(@NotNull String @NotNull [] initData, @Nullable Executor executor) {
+        if (initData == null) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+        return validateAll(Arrays.asList(initData), executor);
+    }
+
+    /**
+     * Validates the provided {@code initData} string the same way as {@link #validate(String)} as a task on the given
+     * executor.
+     * <p>
+     * The task holds no thread-bound state: HMAC instances come from a pool shared by all threads and parsers are
+     * stateless, so the executor may be a platform thread pool as well as a virtual thread per task executor.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param executor optional executor to validate on; if {@code null}, the common {@link ForkJoinPool} is used
+     * @return future completed with the result; a rejected payload completes it normally with the matching status
+     * @see #validate(String)
+     */
+    public @NotNull CompletableFuture<ValidationResult> validateAsync(@Nullable String initData, @Nullable Executor executor) {
+        return CompletableFuture.supplyAsync(() -> validate(initData), executorOrDefault(executor));
+    }
+
+    /**
+     * Validates the provided {@code initData} string as a task on the common {@link ForkJoinPool}.
+     *
+     * @see #validateAsync(String, Executor)
+     */
+    public @NotNull CompletableFuture<ValidationResult> validateAsync(@Nullable String initData) {
+        return validateAsync(initData, null);
+    }
+
+    /**
+     * Verifies and parses the provided {@code initData} string the same way as
+     * {@link #validateAndParse(String, InitDataJsonTypesParser)} as a task on the given executor.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param parser optional parser to deserialize structured fields like {@code user} and {@code chat};
+     *               if {@code null}, the default parser is used
+     * @param executor optional executor to validate on; if {@code null}, the common {@link ForkJoinPool} is used
+     * @return future completed with the parsed {@link InitData} if the hash is valid and with {@code null} otherwise;
+     *         completed exceptionally with the exception {@link #validateAndParse(String, InitDataJsonTypesParser)}
+     *         throws for the payload
+     * @see #validateAsync(String, Executor)
+     */
+    public @NotNull CompletableFuture<InitData> validateAndParseAsync(
+            @NotNull String initData,
+            @Nullable InitDataJsonTypesParser parser,
+            @Nullable Executor executor
+    ) {
+        return CompletableFuture.supplyAsync(() -> validateAndParse(initData, parser), executorOrDefault(executor));
+    }
+
+    /**
+     * Verifies and parses the provided {@code initData} string using the default parser as a task on the given executor.
+     *
+     * @see #validateAndParseAsync(String, InitDataJsonTypesParser, Executor)
+     */
+    public @NotNull CompletableFuture<InitData> validateAndParseAsync(@NotNull String initData, @Nullable Executor executor) {
+        return validateAndParseAsync(initData, null, executor);
+    }
+
+    public @NotNull BotKeySource getKeySource() { return keySource; }
+    public @Nullable Duration getExpiresIn() { return expiresIn; }
+    public @Nullable Clock getClock() { return clock; }
+    public @Nullable ReplayGuard getReplayGuard() { return replayGuard; }
+    public @Nullable ValidationCache getCache() { return cache; }
+    public @NotNull ValidationListener getListener() { return listener; }
+    public @Nullable InitDataLimits getLimits() { return limits; }
+
+    // =================================================================================================================
+    // signature validation
+    // =================================================================================================================
+    private boolean verify(InitDataTokens tokens) {
+        return check(tokens, keySource.current(), null).orThrow();
+    }
+
+    /**
+     * Checks {@code initData} unless it is found in the cache; a successful check is cached without a parsed value.
+     *
+     * @throws IllegalArgumentException if a parameter can't be percent-decoded
+     */
+    private ValidationResult validated(String initData) {
+        final ValidationResult rejected = preFilter(initData);
+        if (rejected != null) {
+            return rejected;
+        }
+        final BotKeys keys = keySource.current();
+        if (cache == null) {
+            return check(tokenize(initData), keys, null);
+        }
+
+        final CacheOwner owner = cacheOwner(keys);
+        final Instant now = InitDataUtils.now(clock);
+        final ValidationCache.Entry cached = cache.get(owner, initData, now);
+        if (cached != null) {
+            listener.onOutcome(ValidationStatus.VALID);
+            return ValidationResult.of(
+                    ValidationStatus.VALID, Long.MIN_VALUE, expiresIn != null ? cached.expiresAt : Long.MIN_VALUE,
+                    expiresIn != null ? now.getEpochSecond() : Long.MIN_VALUE, cached.keyIndex
+            );
+        }
+        final InitDataTokens tokens = tokenize(initData);
+        final ValidationResult result = check(tokens, keys, null);
+        if (result.isValid()) {
+            cache.put(owner, initData, expiresAt(tokens), result.getKeyIndex(), null, null, now);
+        }
+        return result;
+    }
+
+    /**
+     * Verifies {@code tokens} unless the same {@code initData} is found in the cache; a successful check is cached
+     * without a parsed value.
+     */
+    private boolean verifyOrCached(String initData, InitDataTokens tokens) {
+        final BotKeys keys = keySource.current();
+        if (cache == null) {
+            return check(tokens, keys, null).orThrow();
+        }
+
+        final CacheOwner owner = cacheOwner(keys);
+        final Instant now = InitDataUtils.now(clock);
+        if (cache.get(owner, initData, now) != null) {
+            listener.onOutcome(ValidationStatus.VALID);
+            return true;
+        }
+        final ValidationResult result = check(tokens, keys, null);
+        if (!result.orThrow()) {
+            return false;
+        }
+        cache.put(owner, initData, expiresAt(tokens), result.getKeyIndex(), null, null, now);
+        return true;
+    }
+
+    /**
+     * @return owner of the cache entries validated with {@code keys}; a new one once the keys are rotated
+     */
+    private CacheOwner cacheOwner(BotKeys keys) {
+        final CacheOwner owner = cacheOwner;
+        if (owner != null && owner.keys == keys) {
+            return owner;
+        }
+        // racing threads may create several owners for the same keys, which only costs a few cache misses
+        final CacheOwner rotated = new CacheOwner(keys);
+        cacheOwner = rotated;
+        return rotated;
+    }
+
+    private static final class CacheOwner {
+        final BotKeys keys;
+
+        CacheOwner(BotKeys keys) {
+            this.keys = keys;
+        }
+    }
+
+    /**
+     * Checks {@code tokens} and reports the outcome to the listener.
+     *
+     * @param hmacs HMAC instances to reuse per key of {@code keys}, reset and created on demand;
+     *              if {@code null}, a fresh copy of the prototype is used
+     * @throws IllegalArgumentException if a parameter can't be percent-decoded
+     */
+    private ValidationResult check(InitDataTokens tokens, BotKeys keys, @Nullable Mac[] hmacs) {
+        final ValidationResult result;
+        try {
+            result = checkSignature(tokens, keys, hmacs);
+        } catch (IllegalArgumentException e) {
+            listener.onOutcome(ValidationStatus.MALFORMED);
+            throw e;
+        }
+        listener.onOutcome(result.getStatus());
+        return result;
+    }
+
+    /**
+     * Every outcome but a malformed payload is returned rather than thrown, so rejecting a payload costs no exception.
+     */
+    private ValidationResult checkSignature(InitDataTokens tokens, BotKeys keys, @Nullable Mac[] hmacs) {
+        if (!tokens.hasValue(InitData.Param.HASH)) {
+            return ValidationResult.of(ValidationStatus.SIGNATURE_MISSING);
+        }
+
+        long authDate = Long.MIN_VALUE;
+        long expiresAt = Long.MIN_VALUE;
+        long now = Long.MIN_VALUE;
+        if (expiresIn != null) {
+            final String rawAuthDate = tokens.get(InitData.Param.AUTH_DATE);
+            if (rawAuthDate == null) {
+                return ValidationResult.of(ValidationStatus.AUTH_DATE_MISSING);
+            }
+            authDate = parseEpochSecond(rawAuthDate);
+            if (authDate == Long.MIN_VALUE) {
+                return ValidationResult.authDateInvalid(rawAuthDate);
+            }
+            expiresAt = expiration(authDate, expiresIn);
+            final Instant instantNow = InitDataUtils.now(clock);
+            now = instantNow.getEpochSecond();
+            if (isExpired(instantNow, expiresAt)) {
+                return ValidationResult.of(ValidationStatus.EXPIRED, authDate, expiresAt, now);
+            }
+        }
+
+        final byte[] hashFromInitData = new byte[HASH_LENGTH];
+        if (!tokens.decodeHex(InitData.Param.HASH, hashFromInitData)) {
+            return ValidationResult.of(ValidationStatus.BAD_SIGNATURE, authDate, expiresAt, now);
+        }
+
+        final long start = listener != ValidationListener.NOOP ? System.nanoTime() : 0;
+        int keyIndex = -1;
+        try {
+            for (int i = 0; i < keys.size() && keyIndex < 0; i++) {
+                final Mac mac = hmac(keys, hmacs, i);
+                // values are percent-decoded while written, so this throws IllegalArgumentException on a bad escape
+                tokens.writeDataCheck(new MacSink(mac));
+                if (MessageDigest.isEqual(mac.doFinal(), hashFromInitData)) {
+                    keyIndex = i;
+                }
+                // an instance left dirty by a failed write is dropped rather than returned
+                if (hmacs == null) {
+                    keys.releaseHmac(i, mac);
+                }
+            }
+        } finally {
+            if (listener != ValidationListener.NOOP) {
+                listener.onPhase(ValidationListener.Phase.SIGNATURE, System.nanoTime() - start);
+            }
+        }
+        if (keyIndex < 0) {
+            return ValidationResult.of(ValidationStatus.BAD_SIGNATURE, authDate, expiresAt, now);
+        }
+
+        // only payloads with a valid signature are recorded, so forged ones can't fill the guard up
+        if (replayGuard != null) {
+            final int recorded = replayGuard.tryRecord(hashFromInitData, expiresAt, now);
+            if (recorded != ReplayGuard.RECORDED) {
+                final ValidationStatus status = recorded == ReplayGuard.REPLAYED
+                        ? ValidationStatus.REPLAYED
+                        : ValidationStatus.REPLAY_GUARD_FULL;
+                return ValidationResult.of(status, authDate, expiresAt, now, keyIndex);
+            }
+        }
+        return ValidationResult.of(ValidationStatus.VALID, authDate, expiresAt, now, keyIndex);
+    }
+
+    /**
+     * @return {@code value} as epoch second, or {@link Long#MIN_VALUE} if it's not a number within the {@link Instant} range
+     */
+    private static long parseEpochSecond(String value) {
+        final long epochSecond;
+        try {
+            epochSecond = Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return Long.MIN_VALUE;
+        }
+        return epochSecond >= Instant.MIN.getEpochSecond() && epochSecond <= Instant.MAX.getEpochSecond()
+                ? epochSecond
+                : Long.MIN_VALUE;
+    }
+
+    /**
+     * Feeds the data-check string straight into {@link Mac#update} without buffering it.
+     */
+    private static final class MacSink implements InitDataTokens.ByteSink {
+        private final Mac mac;
+
+        MacSink(Mac mac) {
+            this.mac = mac;
+        }
+
+        @Override
+        public void write(int b) {
+            mac.update((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            mac.update(bytes, offset, length);
+        }
+
+        @Override
+        public void write(ByteBuffer bytes) {
+            mac.update(bytes);
+        }
+    }
+
+    // =================================================================================================================
+    // pre-filter
+    // =================================================================================================================
+    /**
+     * @return rejection of the {@link #limits} pre-filter reported to the listener, or {@code null} if {@code initData}
+     *         passes it or no limits are set
+     */
+    private @Nullable ValidationResult preFilter(String initData) {
+        return limits != null ? reported(limits.check(InitDataTokens.source(initData), expiresIn, clock)) : null;
+    }
+
+    private @Nullable ValidationResult preFilter(byte[] initData, int offset, int length) {
+        return limits != null ? reported(limits.check(InitDataTokens.source(initData, offset, length), expiresIn, clock)) : null;
+    }
+
+    private @Nullable ValidationResult preFilter(ByteBuffer initData) {
+        return limits != null ? reported(limits.check(InitDataTokens.source(initData), expiresIn, clock)) : null;
+    }
+
+    private @Nullable ValidationResult reported(@Nullable ValidationResult rejected) {
+        if (rejected != null) {
+            listener.onOutcome(rejected.getStatus());
+        }
+        return rejected;
+    }
+
+    // =================================================================================================================
+    // instrumented phases
+    // =================================================================================================================
+    private InitDataTokens tokenize(String initData) {
+        if (listener == ValidationListener.NOOP) {
+            return InitDataTokens.tokenize(initData);
+        }
+        final long start = System.nanoTime();
+        try {
+            return InitDataTokens.tokenize(initData);
+        } catch (IllegalArgumentException e) {
+            listener.onOutcome(ValidationStatus.MALFORMED);
+            throw e;
+        } finally {
+            listener.onPhase(ValidationListener.Phase.TOKENIZE, System.nanoTime() - start);
+        }
+    }
+
+    private InitDataTokens tokenize(byte[] initData, int offset, int length) {
+        if (listener == ValidationListener.NOOP) {
+            return InitDataTokens.tokenize(initData, offset, length);
+        }
+        final long start = System.nanoTime();
+        try {
+            return InitDataTokens.tokenize(initData, offset, length);
+        } catch (IllegalArgumentException e) {
+            listener.onOutcome(ValidationStatus.MALFORMED);
+            throw e;
+        } finally {
+            listener.onPhase(ValidationListener.Phase.TOKENIZE, System.nanoTime() - start);
+        }
+    }
+
+    private InitDataTokens tokenize(ByteBuffer initData) {
+        if (listener == ValidationListener.NOOP) {
+            return InitDataTokens.tokenize(initData);
+        }
+        final long start = System.nanoTime();
+        try {
+            return InitDataTokens.tokenize(initData);
+        } catch (IllegalArgumentException e) {
+            listener.onOutcome(ValidationStatus.MALFORMED);
+            throw e;
+        } finally {
+            listener.onPhase(ValidationListener.Phase.TOKENIZE, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Builds the result with the JSON decoding timed per value, including values decoded lazily later on.
+     */
+    private InitData buildInitData(
+            InitDataTokens tokens,
+            @Nullable InitDataJsonTypesParser parser,
+            @Nullable Set<InitData.Param> params,
+            boolean keepExtra,
+            boolean lazy
+    ) {
+        final InitDataJsonTypesParser actual = InitDataUtils.defaultIfNull(parser);
+        return InitDataUtils.buildInitData(
+                tokens,
+                listener == ValidationListener.NOOP ? actual : new ObservedParser(actual, listener),
+                params,
+                keepExtra,
+                lazy
+        );
+    }
+
+    /**
+     * Reports the decoding time and failures of the wrapped parser to the listener.
+     */
+    private static final class ObservedParser implements InitDataJsonTypesParser {
+        private final InitDataJsonTypesParser parser;
+        private final ValidationListener listener;
+
+        ObservedParser(InitDataJsonTypesParser parser, ValidationListener listener) {
+            this.parser = parser;
+            this.listener = listener;
+        }
+
+        @Override
+        public @Nullable User parseUser(@Nullable String input) {
+            if (input == null) { return null; }
+            final long start = System.nanoTime();
+            try {
+                return parser.parseUser(input);
+            } catch (JsonParseException | JsonPropertyMissingException e) {
+                listener.onJsonError();
+                throw e;
+            } finally {
+                listener.onPhase(ValidationListener.Phase.JSON_DECODE, System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public @Nullable Chat parseChat(@Nullable String input) {
+            if (input == null) { return null; }
+            final long start = System.nanoTime();
+            try {
+                return parser.parseChat(input);
+            } catch (JsonParseException | JsonPropertyMissingException e) {
+                listener.onJsonError();
+                throw e;
+            } finally {
+                listener.onPhase(ValidationListener.Phase.JSON_DECODE, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * @return epoch second after which verified {@code tokens} can't be served from {@link #cache} anymore
+     */
+    private long expiresAt(InitDataTokens tokens) {
+        if (expiresIn == null) {
+            return Long.MAX_VALUE;
+        }
+        return expiration(Long.parseLong(tokens.get(InitData.Param.AUTH_DATE)), expiresIn);
+    }
+
+    /**
+     * @return {@code authDate + expiresIn} in epoch seconds, saturated instead of overflowing
+     */
+    static long expiration(long authDate, Duration expiresIn) {
+        try {
+            return Math.addExact(authDate, expiresIn.getSeconds());
+        } catch (ArithmeticException e) {
+            return expiresIn.isNegative() ? Long.MIN_VALUE + 1 : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * @return {@code true} if {@code now} is past {@code expiresAt}, i.e. past its last whole second
+     */
+    static boolean isExpired(Instant now, long expiresAt) {
+        final long epochSecond = now.getEpochSecond();
+        return epochSecond > expiresAt || (epochSecond == expiresAt && now.getNano() > 0);
+    }
+
+    // =================================================================================================================
+    // Hmac256 state
+    // =================================================================================================================
+    private static Mac hmac(BotKeys keys, @Nullable Mac[] hmacs, int idx) {
+        if (hmacs == null) {
+            return keys.acquireHmac(idx);
+        }
+        if (hmacs[idx] == null) {
+            hmacs[idx] = keys.newHmac(idx);
+        }
+        return hmacs[idx];
+    }
+
+    private static Executor executorOrDefault(@Nullable Executor executor) {
+        return executor != null ? executor : ForkJoinPool.commonPool();
+    }
+
+    private static BotKeys keysOf(String botToken) {
+        if (botToken == null || botToken.isBlank()) {
+            throw buildExceptionArgumentNotProvided("botToken");
+        }
+        return new BotKeys(botToken);
+    }
+
+    private static boolean isBlank(ByteBuffer initData) {
+        for (int i = initData.position(); i < initData.limit(); i++) {
+            if (!Character.isWhitespace(initData.get(i))) { return false; }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,218 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import io.github.sanvew.tg.init.data.exception.AuthDateInvalidException;
+import io.github.sanvew.tg.init.data.exception.AuthDateMissingException;
+import io.github.sanvew.tg.init.data.exception.ExpiredException;
+import io.github.sanvew.tg.init.data.exception.ReplayGuardFullException;
+import io.github.sanvew.tg.init.data.exception.ReplayedException;
+import io.github.sanvew.tg.init.data.exception.SignatureMissingException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.sanvew.tg.init.data.InitDataUtils.buildExceptionArgumentNotProvided;
+
+/**
+ * Registry of {@link InitDataValidator} instances for backends serving several Telegram bots.
+ * <p>
+ * Validators are keyed by bot id (the numeric prefix of the bot token, e.g. {@code 5768337691} for
+ * {@code 5768337691:AAH5...}) and optionally by any number of caller-defined hints such as a bot username or a route.
+ * Lookups are lock-free; bots can be registered and unregistered at runtime.
+ *
+ * @see InitDataValidator
+ */
+public class InitDataValidatorRegistry {
+    private final ConcurrentHashMap<Long, InitDataValidator> validators = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> hints = new ConcurrentHashMap<>();
+    private final Duration expiresIn;
+    private final Clock clock;
+    private final ReplayGuard replayGuard;
+    private final ValidationCache cache;
+
+    /**
+     * Creates empty registry; all registered validators share the given expiration settings.
+     *
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     */
+    public InitDataValidatorRegistry(@Nullable Duration expiresIn, @Nullable Clock clock) {
+        this(expiresIn, clock, null);
+    }
+
+    /**
+     * Creates empty registry; all registered validators share the given expiration settings and replay guard.
+     *
+     * @param expiresIn duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  required if {@code replayGuard} is set
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @param replayGuard optional store of accepted signatures; if {@code null}, no replay protection is performed
+     * @throws IllegalArgumentException if {@code replayGuard} is set without {@code expiresIn}
+     * @see InitDataValidator#InitDataValidator(String, Duration, Clock, ReplayGuard)
+     */
+    public InitDataValidatorRegistry(@Nullable Duration expiresIn, @Nullable Clock clock, @Nullable ReplayGuard replayGuard) {
+        this(expiresIn, clock, replayGuard, null);
+    }
+
+    /**
+     * Creates empty registry; all registered validators share the given expiration settings, replay guard and cache.
+     *
+     * @param expiresIn duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  required if {@code replayGuard} is set
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @param replayGuard optional store of accepted signatures; if {@code null}, no replay protection is performed
+     * @param cache optional cache of validated payloads; if {@code null}, every payload is fully checked
+     * @throws IllegalArgumentException if {@code replayGuard} is set without {@code expiresIn},
+     *                                  or if both {@code replayGuard} and {@code cache} are set
+     * @see InitDataValidator#InitDataValidator(String, Duration, Clock, ReplayGuard, ValidationCache)
+     */
+    public InitDataValidatorRegistry(
+            @Nullable Duration expiresIn,
+            @Nullable Clock clock,
+            @Nullable ReplayGuard replayGuard,
+            @Nullable ValidationCache cache
+    ) {
+        if (replayGuard != null && expiresIn == null) {
+            throw buildExceptionArgumentNotProvided("expiresIn");
+        }
+        if (replayGuard != null && cache != null) {
+            throw new IllegalArgumentException("Arguments \"replayGuard\" and \"cache\" can't be used together");
+        }
+        this.expiresIn = expiresIn;
+        this.clock = clock;
+        this.replayGuard = replayGuard;
+        this.cache = cache;
+    }
+
+    public InitDataValidatorRegistry(@Nullable Duration expiresIn) {
+        this(expiresIn, null);
+    }
+
+    public InitDataValidatorRegistry() {
+        this(null, null);
+    }
+
+    /**
+     * Registers (or replaces) the validator for the given bot token and binds the provided hints to it.
+     *
+     * @param botToken the bot token associated with the Telegram bot
+     * @param hints optional caller-defined aliases which may be used for lookup instead of the bot id
+     * @return bot id extracted from {@code botToken}
+     * @throws IllegalArgumentException if {@code botToken} is blank or doesn't start with a numeric bot id
+     */
+    public long register(@NotNull String botToken, @NotNull String... hints) {
+        final long botId = botId(botToken);
+        validators.put(botId, new InitDataValidator(botToken, expiresIn, clock, replayGuard, cache));
+        for (String hint : hints) {
+            this.hints.put(hint, botId);
+        }
+        return botId;
+    }
+
+    /**
+     * Removes the validator registered for the given bot id together with all hints bound to it.
+     *
+     * @param botId bot id
+     * @return {@code true} if the bot was registered
+     */
+    public boolean unregister(long botId) {
+        final boolean removed = validators.remove(botId) != null;
+        hints.values().removeIf(it -> it == botId);
+        return removed;
+    }
+
+    /**
+     * @param botId bot id
+     * @return validator registered for the bot id, or {@code null} if none
+     */
+    public @Nullable InitDataValidator get(long botId) {
+        return validators.get(botId);
+    }
+
+    /**
+     * @param hint caller-defined alias passed to {@link #register(String, String...)}
+     * @return validator bound to the hint, or {@code null} if none
+     */
+    public @Nullable InitDataValidator get(@NotNull String hint) {
+        final Long botId = hints.get(hint);
+        return botId != null ? validators.get(botId) : null;
+    }
+
+    /**
+     * @return ids of all currently registered bots
+     */
+    public @NotNull Set<Long> botIds() {
+        return Set.copyOf(validators.keySet());
+    }
+
+    /**
+     * Verifies {@code initData} with the validator of the given bot.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param botId bot id
+     * @return {@code true} if the hash is valid and {@code auth_date} (if checked) is within the valid time range;
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException if {@code initData} is blank or no bot with {@code botId} is registered
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing when expiration validation is required
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @throws ExpiredException if the {@code auth_date} is outside the allowed {@code expiresIn} window
+     * @throws ReplayedException if the payload has already been accepted and {@link ReplayGuard} is configured
+     * @throws ReplayGuardFullException if {@link ReplayGuard} is configured and has no room left for the payload
+     * @see InitDataValidator#isValid(String)
+     */
+    public boolean isValid(@NotNull String initData, long botId) {
+        return require(get(botId), botId).isValid(initData);
+    }
+
+    /**
+     * Verifies {@code initData} with the validator bound to the given hint.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param hint caller-defined alias passed to {@link #register(String, String...)}
+     * @return {@code true} if the hash is valid and {@code auth_date} (if checked) is within the valid time range;
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException if {@code initData} is blank or no bot is bound to {@code hint}
+     * @throws SignatureMissingException if the {@code hash} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing when expiration validation is required
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @throws ExpiredException if the {@code auth_date} is outside the allowed {@code expiresIn} window
+     * @throws ReplayedException if the payload has already been accepted and {@link ReplayGuard} is configured
+     * @throws ReplayGuardFullException if {@link ReplayGuard} is configured and has no room left for the payload
+     * @see InitDataValidator#isValid(String)
+     */
+    public boolean isValid(@NotNull String initData, @NotNull String hint) {
+        return require(get(hint), hint).isValid(initData);
+    }
+
+    /**
+     * Extracts bot id, the numeric part of the bot token preceding {@code ':'}.
+     *
+     * @param botToken the bot token associated with the Telegram bot
+     * @return bot id
+     * @throws IllegalArgumentException if {@code botToken} is blank or doesn't start with a numeric bot id
+     */
+    public static long botId(@NotNull String botToken) {
+        if (botToken == null || botToken.isBlank()) {
+            throw buildExceptionArgumentNotProvided("botToken");
+        }
+        final int idx = botToken.indexOf(':');
+        try {
+            if (idx <= 0) { throw new NumberFormatException(); }
+            return Long.parseLong(botToken, 0, idx, 10);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unable to extract bot id from bot token");
+        }
+    }
+
+    private static InitDataValidator require(InitDataValidator validator, Object key) {
+        if (validator == null) {
+            throw new IllegalArgumentException("No bot registered for \"" + key + "\"");
+        }
+        return validator;
+    }
+}
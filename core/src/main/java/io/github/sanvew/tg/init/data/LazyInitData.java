@@ -0,0 +1,95 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.Nullable;
+import io.github.sanvew.tg.init.data.json.parser.InitDataJsonTypesParser;
+import io.github.sanvew.tg.init.data.type.Chat;
+import io.github.sanvew.tg.init.data.type.ChatType;
+import io.github.sanvew.tg.init.data.type.InitData;
+import io.github.sanvew.tg.init.data.type.User;
+
+import java.util.Map;
+
+/**
+ * {@link InitData} which keeps the decoded {@code user}, {@code chat} and {@code receiver} JSON and runs
+ * the parser on first access of the corresponding getter.
+ * <p>
+ * Every field is parsed at most once: the result is published through a {@code volatile} field and
+ * concurrent first calls are serialized on the instance. A parse error is not memoized, so the getter
+ * throws it again on the next call.
+ */
+final class LazyInitData extends InitData {
+    private final InitDataJsonTypesParser parser;
+    private final String rawChat;
+    private final String rawReceiver;
+    private final String rawUser;
+
+    private volatile Chat chat;
+    private volatile User receiver;
+    private volatile User user;
+
+    LazyInitData(
+            long authDate,
+            @Nullable Long canSendAfter,
+            @Nullable String rawChat,
+            @Nullable ChatType chatType,
+            @Nullable String chatInstance,
+            String hash,
+            @Nullable String queryId,
+            @Nullable String rawReceiver,
+            @Nullable String startParam,
+            @Nullable String rawUser,
+            @Nullable Map<String, String> extra,
+            InitDataJsonTypesParser parser
+    ) {
+        super(authDate, canSendAfter, null, chatType, chatInstance, hash, queryId, null, startParam, null, extra);
+        this.parser = parser;
+        this.rawChat = rawChat;
+        this.rawReceiver = rawReceiver;
+        this.rawUser = rawUser;
+    }
+
+    @Override
+    public @Nullable Chat getChat() {
+        Chat chat = this.chat;
+        if (chat == null && rawChat != null) {
+            synchronized (this) {
+                chat = this.chat;
+                if (chat == null) {
+                    chat = parser.parseChat(rawChat);
+                    this.chat = chat;
+                }
+            }
+        }
+        return chat;
+    }
+
+    @Override
+    public @Nullable User getReceiver() {
+        User receiver = this.receiver;
+        if (receiver == null && rawReceiver != null) {
+            synchronized (this) {
+                receiver = this.receiver;
+                if (receiver == null) {
+                    receiver = parser.parseUser(rawReceiver);
+                    this.receiver = receiver;
+                }
+            }
+        }
+        return receiver;
+    }
+
+    @Override
+    public @Nullable User getUser() {
+        User user = this.user;
+        if (user == null && rawUser != null) {
+            synchronized (this) {
+                user = this.user;
+                if (user == null) {
+                    user = parser.parseUser(rawUser);
+                    this.user = user;
+                }
+            }
+        }
+        return user;
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.sanvew.tg.init.data;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Bounded lock-free pool of reusable, non-thread-safe objects such as {@link javax.crypto.Mac} instances.
+ * <p>
+ * Unlike a {@code ThreadLocal}, the number of pooled objects doesn't grow with the number of threads, so the pool
+ * suits virtual threads as well as platform thread pools. Idle objects sit in a fixed array of slots; a thread starts
+ * probing at a slot picked by its id, so threads rarely contend for the same slot. When all objects are in use
+ * a new one is created, and an object released while all slots are taken is dropped.
+ */
+final class Pool<T> {
+    private final AtomicReferenceArray<T> slots;
+    private final Supplier<? extends T> factory;
+
+    /**
+     * @param capacity maximum number of idle objects kept
+     * @param factory creates an object when the pool is empty
+     */
+    Pool(int capacity, Supplier<? extends T> factory) {
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.factory = factory;
+    }
+
+    /**
+     * @return pool capacity matching the number of threads which can run at the same time
+     */
+    static int defaultCapacity() {
+        return 2 * Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * @return idle object, or a new one if there is none; it is owned by the caller until {@link #release(Object)}
+     */
+    T acquire() {
+        final int capacity = slots.length();
+        final int start = (int) (ThreadIds.current() % capacity);
+        for (int i = 0; i < capacity; i++) {
+            final int idx = (start + i) % capacity;
+            final T value = slots.get(idx);
+            if (value != null && slots.compareAndSet(idx, value, null)) {
+                return value;
+            }
+        }
+        return factory.get();
+    }
+
+    /**
+     * Returns {@code value} to the pool; it must be in a reusable state and not be used by the caller any more.
+     */
+    void release(T value) {
+        final int capacity = slots.length();
+        final int start = (int) (ThreadIds.current() % capacity);
+        for (int i = 0; i < capacity; i++) {
+            final int idx = (start + i) % capacity;
+            if (slots.get(idx) == null && slots.compareAndSet(idx, null, value)) {
+                return;
+            }
+        }
+    }
+}
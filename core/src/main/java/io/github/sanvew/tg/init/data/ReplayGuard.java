@@ -0,0 +1,210 @@
+package io.github.sanvew.tg.init.data;
+
+import io.github.sanvew.tg.init.data.exception.ReplayedException;
+
+import java.util.Arrays;
+
+/**
+ * Memory-bounded store of already accepted {@code initData} signatures, used to reject replays of a captured payload
+ * within its {@code auth_date + expiresIn} validity window.
+ * <p>
+ * Each accepted payload is recorded as the 64-bit prefix of its {@code hash} together with its expiration time
+ * (epoch seconds), kept in primitive arrays: about 16 bytes per entry and no per-entry objects, so tens of millions
+ * of entries don't add GC pressure. The table is split into lock-striped open-addressing segments; slots of expired
+ * entries are reused on insert and swept out when a segment fills up. If a segment is still full after the sweep,
+ * new payloads are rejected (fail closed) with {@link ValidationStatus#REPLAY_GUARD_FULL} until entries expire, so
+ * {@code capacity} should cover the expected number of distinct payloads per {@code expiresIn} window with some headroom.
+ * <p>
+ * Instances are thread-safe and may be shared by several {@link InitDataValidator}s.
+ *
+ * @see InitDataValidator#InitDataValidator(String, java.time.Duration, java.time.Clock, ReplayGuard)
+ * @see ReplayedException
+ * @see io.github.sanvew.tg.init.data.exception.ReplayGuardFullException
+ */
+public final class ReplayGuard {
+    /** {@link #tryRecord} outcome: the signature is recorded for the first time. */
+    static final int RECORDED = 0;
+    /** {@link #tryRecord} outcome: the signature is already recorded and not expired. */
+    static final int REPLAYED = 1;
+    /** {@link #tryRecord} outcome: the signature is new, but there is no room left for it. */
+    static final int FULL = 2;
+
+    private static final long EMPTY = 0L;
+    private static final int MAX_STRIPES = 64;
+    private static final int ENTRIES_PER_STRIPE = 1024;
+    private static final int MIN_STRIPE_SLOTS = 16;
+
+    private final Stripe[] stripes;
+    private final int stripeShift;
+    private final int capacity;
+
+    /**
+     * Creates guard able to hold at least {@code capacity} live entries.
+     *
+     * @param capacity expected maximum number of distinct payloads accepted within one {@code expiresIn} window
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    public ReplayGuard(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Argument \"capacity\" must be positive, got " + capacity);
+        }
+
+        final int stripeCount = Math.min(MAX_STRIPES, ceilPowerOfTwo((capacity + ENTRIES_PER_STRIPE - 1) / ENTRIES_PER_STRIPE));
+        final int stripeCapacity = (capacity + stripeCount - 1) / stripeCount;
+        // 0.75 load factor plus headroom for uneven spread of entries between stripes
+        final int stripeSlots = ceilPowerOfTwo(Math.max(MIN_STRIPE_SLOTS, (int) Math.min(1 << 30, stripeCapacity * 3L / 2)));
+
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(stripeSlots);
+        }
+        this.stripeShift = 64 - Integer.numberOfTrailingZeros(stripeCount);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records the signature unless it was already recorded and hasn't expired yet.
+     *
+     * @param hash decoded {@code hash} of the payload, at least 8 bytes
+     * @param expiresAt epoch second after which the payload is rejected as expired anyway
+     * @param now current epoch second
+     * @return {@link #RECORDED}, {@link #REPLAYED} or {@link #FULL}
+     */
+    int tryRecord(byte[] hash, long expiresAt, long now) {
+        final long key = key(hash);
+        // stripe is picked by the high bits, slot by the low bits of the (uniformly distributed) HMAC prefix
+        final Stripe stripe = stripes.length == 1 ? stripes[0] : stripes[(int) (key >>> stripeShift)];
+        synchronized (stripe) {
+            return stripe.tryRecord(key, (int) Math.max(0, Math.min(0xFFFF_FFFFL, expiresAt)), now);
+        }
+    }
+
+    /**
+     * @return number of recorded entries, including expired ones not swept out yet
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.used;
+            }
+        }
+        return size;
+    }
+
+    public int getCapacity() { return capacity; }
+
+    /**
+     * Forgets all recorded entries.
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    private static long key(byte[] hash) {
+        long key = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            key = (key << 8) | (hash[i] & 0xFF);
+        }
+        return key == EMPTY ? 1L : key;
+    }
+
+    private static int ceilPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * Open-addressing table with linear probing; expiration times are stored as unsigned epoch seconds.
+     */
+    private static final class Stripe {
+        final long[] keys;
+        final int[] expiries;
+        final int mask;
+        final int maxUsed;
+        int used;
+
+        Stripe(int slots) {
+            this.keys = new long[slots];
+            this.expiries = new int[slots];
+            this.mask = slots - 1;
+            this.maxUsed = slots - (slots >>> 2);
+        }
+
+        int tryRecord(long key, int expiresAt, long now) {
+            int reusable = -1;
+            int idx = (int) key & mask;
+            while (keys[idx] != EMPTY) {
+                if (isExpired(idx, now)) {
+                    if (reusable < 0) { reusable = idx; }
+                } else if (keys[idx] == key) {
+                    return REPLAYED;
+                }
+                idx = (idx + 1) & mask;
+            }
+
+            if (reusable < 0) {
+                if (used >= maxUsed) {
+                    if (sweep(now) == 0) { return FULL; }
+                    return tryRecord(key, expiresAt, now);
+                }
+                reusable = idx;
+                used++;
+            }
+            keys[reusable] = key;
+            expiries[reusable] = expiresAt;
+            return RECORDED;
+        }
+
+        private boolean isExpired(int idx, long now) {
+            return Integer.toUnsignedLong(expiries[idx]) < now;
+        }
+
+        /**
+         * Removes expired entries in place using backward-shift deletion, so probe sequences stay intact
+         * without tombstones.
+         *
+         * @return number of removed entries
+         */
+        private int sweep(long now) {
+            int removed = 0;
+            for (int i = 0; i <= mask; ) {
+                if (keys[i] != EMPTY && isExpired(i, now)) {
+                    delete(i);
+                    removed++;
+                } else {
+                    i++;
+                }
+            }
+            used -= removed;
+            return removed;
+        }
+
+        private void delete(int hole) {
+            int idx = hole;
+            while (true) {
+                idx = (idx + 1) & mask;
+                if (keys[idx] == EMPTY) { break; }
+                final int home = (int) keys[idx] & mask;
+                // entry stays if its home slot lies cyclically within (hole, idx]
+                final boolean stays = hole <= idx ? hole < home && home <= idx : hole < home || home <= idx;
+                if (!stays) {
+                    keys[hole] = keys[idx];
+                    expiries[hole] = expiries[idx];
+                    hole = idx;
+                }
+            }
+            keys[hole] = EMPTY;
+            expiries[hole] = 0;
+        }
+
+        void clear() {
+            Arrays.fill(keys, EMPTY);
+            Arrays.fill(expiries, 0);
+            used = 0;
+        }
+    }
+}
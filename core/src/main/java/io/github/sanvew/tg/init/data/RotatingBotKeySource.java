@@ -0,0 +1,70 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+import static io.github.sanvew.tg.init.data.InitDataUtils.buildExceptionArgumentNotProvided;
+
+/**
+ * {@link BotKeySource} whose keys are replaced programmatically, e.g. by a secrets manager callback.
+ * <p>
+ * The current {@link BotKeys} snapshot is held in a volatile field: validations read it without locking and keep
+ * using the snapshot they started with, while {@link #rotate(List)} derives the new keys up front and publishes
+ * them with a single write. Instances are thread-safe.
+ *
+ * <pre>{@code
+ * source.rotate(List.of(newToken, oldToken)); // accept both while clients refresh initData
+ * source.rotate(List.of(newToken));           // retire the old token
+ * }</pre>
+ */
+public class RotatingBotKeySource implements BotKeySource {
+    private volatile BotKeys keys;
+
+    /**
+     * @param keys initial keys
+     * @throws IllegalArgumentException if {@code keys} is {@code null}
+     */
+    public RotatingBotKeySource(@NotNull BotKeys keys) {
+        if (keys == null) {
+            throw buildExceptionArgumentNotProvided("keys");
+        }
+        this.keys = keys;
+    }
+
+    /**
+     * @param botTokens initial bot tokens, the primary one first
+     * @throws IllegalArgumentException if {@code botTokens} is empty or contains a blank token
+     */
+    public RotatingBotKeySource(@NotNull List<String> botTokens) {
+        this(new BotKeys(botTokens));
+    }
+
+    @Override
+    public @NotNull BotKeys current() {
+        return keys;
+    }
+
+    /**
+     * Publishes new keys; validations already in progress finish with the previous ones.
+     *
+     * @param keys keys replacing the current ones
+     * @throws IllegalArgumentException if {@code keys} is {@code null}
+     */
+    public void rotate(@NotNull BotKeys keys) {
+        if (keys == null) {
+            throw buildExceptionArgumentNotProvided("keys");
+        }
+        this.keys = keys;
+    }
+
+    /**
+     * Derives keys of {@code botTokens} and publishes them.
+     *
+     * @param botTokens bot tokens replacing the current ones, the primary one first
+     * @throws IllegalArgumentException if {@code botTokens} is empty or contains a blank token
+     */
+    public void rotate(@NotNull List<String> botTokens) {
+        rotate(new BotKeys(botTokens));
+    }
+}
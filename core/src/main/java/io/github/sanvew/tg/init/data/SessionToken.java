@@ -0,0 +1,69 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Claims of a session token verified by {@link SessionTokens#verify(CharSequence)}.
+ * <p>
+ * Instances are immutable.
+ */
+public final class SessionToken {
+    private final long userId;
+    private final long authDate;
+    private final long expiresAt;
+    private final String chatInstance;
+
+    SessionToken(long userId, long authDate, long expiresAt, @Nullable String chatInstance) {
+        this.userId = userId;
+        this.authDate = authDate;
+        this.expiresAt = expiresAt;
+        this.chatInstance = chatInstance;
+    }
+
+    /**
+     * @return {@code id} of the {@code user} of the {@code initData} the token was issued for
+     */
+    public long getUserId() { return userId; }
+
+    /**
+     * @return {@code auth_date} of the {@code initData} the token was issued for, in epoch seconds
+     */
+    public long getAuthDate() { return authDate; }
+
+    /**
+     * @return epoch second after which the token is rejected as expired
+     */
+    public long getExpiresAt() { return expiresAt; }
+
+    /**
+     * @return {@code chat_instance} of the {@code initData} the token was issued for; {@code null} if it was absent
+     */
+    public @Nullable String getChatInstance() { return chatInstance; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof SessionToken)) return false;
+        SessionToken that = (SessionToken) o;
+        return userId == that.userId
+                && authDate == that.authDate
+                && expiresAt == that.expiresAt
+                && Objects.equals(chatInstance, that.chatInstance);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, authDate, expiresAt, chatInstance);
+    }
+
+    @Override
+    public String toString() {
+        return "SessionToken{" +
+                "userId=" + userId +
+                ", authDate=" + authDate +
+                ", expiresAt=" + expiresAt +
+                ", chatInstance='" + chatInstance + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,325 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import io.github.sanvew.tg.init.data.type.InitData;
+import io.github.sanvew.tg.init.data.type.User;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static io.github.sanvew.tg.init.data.InitDataUtils.buildExceptionArgumentNotProvided;
+
+/**
+ * Issues and verifies compact session tokens, so that clients send the full {@code initData} once and a short token
+ * on the subsequent requests.
+ * <p>
+ * A token is {@value #TOKEN_LENGTH} characters of URL-safe Base64 (no padding) over a fixed 41-byte layout:
+ * <pre>
+ * header (1) | user id (8) | chat_instance (8) | auth_date (4) | expires at (4) | HMAC-SHA256 truncated to 128 bits (16)
+ * </pre>
+ * Numbers are big-endian, times are unsigned epoch seconds. Verifying a token is a single HMAC over 25 bytes,
+ * with no percent-decoding, parsing or JSON involved, and {@link #isValid(CharSequence)} and
+ * {@link #verifyUserId(CharSequence)} allocate nothing: they decode into and sign with pre-keyed instances kept
+ * in a lock-free pool.
+ * <p>
+ * Tokens carry no revocation: one stays valid until {@code ttl} after it was issued, so keep {@code ttl} short.
+ * Instances are thread-safe.
+ *
+ * <pre>{@code
+ * final SessionTokens sessions = new SessionTokens(botToken, Duration.ofMinutes(15));
+ *
+ * final InitData initData = validator.validateAndParse(rawInitData);
+ * if (initData != null) {
+ *     response.setHeader("X-Session", sessions.issue(initData));
+ * }
+ * ...
+ * final long userId = sessions.verifyUserId(request.getHeader("X-Session"));
+ * }</pre>
+ */
+public final class SessionTokens {
+    /** Length of an issued token in characters. */
+    public static final int TOKEN_LENGTH = 55;
+    /** Returned by {@link #verifyUserId(CharSequence)} for a token which is not valid. */
+    public static final long INVALID_USER_ID = Long.MIN_VALUE;
+
+    private static final byte[] SESSION_KEY_INPUT = "SessionToken".getBytes(StandardCharsets.UTF_8);
+    private static final int MIN_SECRET_LENGTH = 32;
+    private static final byte VERSION = 0x10;
+    private static final byte HAS_CHAT_INSTANCE = 0x01;
+    private static final int USER_ID = 1;
+    private static final int CHAT_INSTANCE = 9;
+    private static final int AUTH_DATE = 17;
+    private static final int EXPIRES_AT = 21;
+    private static final int SIGNED_LENGTH = 25;
+    private static final int TAG_LENGTH = 16;
+    private static final int TOKEN_BYTES = SIGNED_LENGTH + TAG_LENGTH;
+    private static final long MAX_SECONDS = 0xFFFF_FFFFL;
+    private static final byte[] BASE64_VALUES = base64Values();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final HmacPool hmacs;
+    private final Duration ttl;
+    private final Clock clock;
+
+    /**
+     * @param secret key the tokens are signed with, at least 32 bytes; not retained
+     * @param ttl how long an issued token stays valid
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @throws IllegalArgumentException if {@code secret} is {@code null} or shorter than 32 bytes, or {@code ttl} is
+     *                                  {@code null} or shorter than a second
+     */
+    public SessionTokens(byte @NotNull [] secret, @NotNull Duration ttl, @Nullable Clock clock) {
+        if (secret == null || secret.length == 0) {
+            throw buildExceptionArgumentNotProvided("secret");
+        }
+        if (secret.length < MIN_SECRET_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Argument \"secret\" must be at least " + MIN_SECRET_LENGTH + " bytes long, got " + secret.length
+            );
+        }
+        if (ttl == null) {
+            throw buildExceptionArgumentNotProvided("ttl");
+        }
+        if (ttl.getSeconds() <= 0) {
+            throw new IllegalArgumentException("Argument \"ttl\" must be at least 1 second, got " + ttl);
+        }
+
+        this.hmacs = new HmacPool(secret, TOKEN_BYTES, Pool.defaultCapacity());
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Signs tokens with a key derived from {@code botToken}, separate from the key {@code initData} is signed with.
+     *
+     * @param botToken the bot token associated with the Telegram bot
+     * @param ttl how long an issued token stays valid
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @throws IllegalArgumentException if {@code botToken} is {@code null} or {@code isBlank() == true}, or {@code ttl}
+     *                                  is {@code null} or shorter than a second
+     */
+    public SessionTokens(@NotNull String botToken, @NotNull Duration ttl, @Nullable Clock clock) {
+        this(secretOf(botToken), ttl, clock);
+    }
+
+    /**
+     * @see #SessionTokens(String, Duration, Clock)
+     */
+    public SessionTokens(@NotNull String botToken, @NotNull Duration ttl) {
+        this(botToken, ttl, null);
+    }
+
+    public @NotNull Duration getTtl() { return ttl; }
+    public @Nullable Clock getClock() { return clock; }
+
+    /**
+     * Issues a token for {@code initData}, valid for {@code ttl} from now.
+     * <p>
+     * The {@code initData} is not checked here: pass only what a {@link InitDataValidator} has accepted.
+     *
+     * @param initData validated init data
+     * @return token of {@value #TOKEN_LENGTH} URL-safe characters
+     * @throws IllegalArgumentException if {@code initData} is {@code null} or has no {@code user}, its
+     *                                  {@code chat_instance} is not a 64-bit integer, or its {@code auth_date} or the
+     *                                  expiration time don't fit in 32 unsigned bits
+     */
+    public @NotNull String issue(@NotNull InitData initData) {
+        if (initData == null) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+        final User user = initData.getUser();
+        if (user == null) {
+            throw new IllegalArgumentException("initData has no user to issue the session token for");
+        }
+        final long authDate = initData.getAuthDate();
+        if (authDate < 0 || authDate > MAX_SECONDS) {
+            throw new IllegalArgumentException("auth_date must fit in 32 unsigned bits, got " + authDate);
+        }
+        final long expiresAt = Math.floorDiv(nowMillis(), 1000) + ttl.getSeconds();
+        if (expiresAt < 0 || expiresAt > MAX_SECONDS) {
+            throw new IllegalArgumentException("Session token expiration must fit in 32 unsigned bits, got " + expiresAt);
+        }
+
+        final byte[] bytes = new byte[TOKEN_BYTES];
+        final String chatInstance = initData.getChatInstance();
+        bytes[0] = chatInstance != null ? VERSION | HAS_CHAT_INSTANCE : VERSION;
+        putLong(bytes, USER_ID, user.getId());
+        putLong(bytes, CHAT_INSTANCE, chatInstance != null ? parseChatInstance(chatInstance) : 0);
+        putInt(bytes, AUTH_DATE, (int) authDate);
+        putInt(bytes, EXPIRES_AT, (int) expiresAt);
+
+        final HmacPool.Hmac hmac = hmacs.acquire();
+        try {
+            hmac.sign(bytes, SIGNED_LENGTH);
+            System.arraycopy(hmac.digest, 0, bytes, SIGNED_LENGTH, TAG_LENGTH);
+        } finally {
+            hmacs.release(hmac);
+        }
+        return ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * @param token session token, e.g. a view of a request header
+     * @return {@code true} if {@code token} was issued with this key and hasn't expired; {@code false} otherwise,
+     *         including for {@code null} and malformed tokens
+     */
+    public boolean isValid(@Nullable CharSequence token) {
+        final HmacPool.Hmac hmac = hmacs.acquire();
+        try {
+            return verified(token, hmac, nowMillis());
+        } finally {
+            hmacs.release(hmac);
+        }
+    }
+
+    /**
+     * @param token session token, e.g. a view of a request header
+     * @return user id the token was issued for; {@link #INVALID_USER_ID} if it is not valid
+     * @see #isValid(CharSequence)
+     */
+    public long verifyUserId(@Nullable CharSequence token) {
+        final HmacPool.Hmac hmac = hmacs.acquire();
+        try {
+            return verified(token, hmac, nowMillis()) ? getLong(hmac.buffer, USER_ID) : INVALID_USER_ID;
+        } finally {
+            hmacs.release(hmac);
+        }
+    }
+
+    /**
+     * @param token session token, e.g. a view of a request header
+     * @return claims of the token; {@code null} if it is not valid
+     * @see #isValid(CharSequence)
+     */
+    public @Nullable SessionToken verify(@Nullable CharSequence token) {
+        final HmacPool.Hmac hmac = hmacs.acquire();
+        try {
+            if (!verified(token, hmac, nowMillis())) {
+                return null;
+            }
+            final byte[] bytes = hmac.buffer;
+            return new SessionToken(
+                    getLong(bytes, USER_ID),
+                    getInt(bytes, AUTH_DATE) & MAX_SECONDS,
+                    getInt(bytes, EXPIRES_AT) & MAX_SECONDS,
+                    (bytes[0] & HAS_CHAT_INSTANCE) != 0 ? Long.toString(getLong(bytes, CHAT_INSTANCE)) : null
+            );
+        } finally {
+            hmacs.release(hmac);
+        }
+    }
+
+    /**
+     * Decodes {@code token} into the buffer of {@code hmac} and checks its layout, signature and expiration.
+     */
+    private static boolean verified(@Nullable CharSequence token, HmacPool.Hmac hmac, long nowMillis) {
+        final byte[] bytes = hmac.buffer;
+        if (token == null || token.length() != TOKEN_LENGTH || !decode(token, bytes)) {
+            return false;
+        }
+        if ((bytes[0] & ~HAS_CHAT_INSTANCE) != VERSION) {
+            return false;
+        }
+
+        hmac.sign(bytes, SIGNED_LENGTH);
+        int diff = 0;
+        for (int i = 0; i < TAG_LENGTH; i++) {
+            diff |= bytes[SIGNED_LENGTH + i] ^ hmac.digest[i];
+        }
+        // same rule as InitDataValidator: expired right after the expiration second
+        return diff == 0 && nowMillis <= (getInt(bytes, EXPIRES_AT) & MAX_SECONDS) * 1000;
+    }
+
+    /**
+     * Decodes unpadded URL-safe Base64 of {@link #TOKEN_BYTES} bytes, rejecting non-canonical trailing bits.
+     */
+    private static boolean decode(CharSequence token, byte[] out) {
+        int idx = 0;
+        int pos = 0;
+        for (; pos + 4 <= TOKEN_LENGTH; pos += 4) {
+            final int bits = value(token.charAt(pos)) << 18 | value(token.charAt(pos + 1)) << 12
+                    | value(token.charAt(pos + 2)) << 6 | value(token.charAt(pos + 3));
+            if (bits < 0) {
+                return false;
+            }
+            out[idx++] = (byte) (bits >> 16);
+            out[idx++] = (byte) (bits >> 8);
+            out[idx++] = (byte) bits;
+        }
+        // 3 trailing characters hold the last 2 bytes and 2 zero bits
+        final int bits = value(token.charAt(pos)) << 12 | value(token.charAt(pos + 1)) << 6 | value(token.charAt(pos + 2));
+        if (bits < 0 || (bits & 0x3) != 0) {
+            return false;
+        }
+        out[idx++] = (byte) (bits >> 10);
+        out[idx] = (byte) (bits >> 2);
+        return true;
+    }
+
+    /**
+     * @return 6-bit value of the URL-safe Base64 character {@code c}, {@code -1} if it is not one
+     */
+    private static int value(char c) {
+        return c < BASE64_VALUES.length ? BASE64_VALUES[c] : -1;
+    }
+
+    private long nowMillis() {
+        return clock != null ? clock.millis() : System.currentTimeMillis();
+    }
+
+    private static long parseChatInstance(String chatInstance) {
+        try {
+            return Long.parseLong(chatInstance);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("chat_instance must be a 64-bit integer, got \"" + chatInstance + '"', e);
+        }
+    }
+
+    private static byte[] secretOf(String botToken) {
+        if (botToken == null || botToken.isBlank()) {
+            throw buildExceptionArgumentNotProvided("botToken");
+        }
+        final byte[] secretKey = InitDataUtils.hmacDigest(botToken.getBytes(StandardCharsets.UTF_8), InitDataUtils.SECRET_KEY_INPUT);
+        return InitDataUtils.hmacDigest(SESSION_KEY_INPUT, secretKey);
+    }
+
+    private static byte[] base64Values() {
+        final byte[] values = new byte[128];
+        Arrays.fill(values, (byte) -1);
+        final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            values[alphabet.charAt(i)] = (byte) i;
+        }
+        return values;
+    }
+
+    private static void putLong(byte[] bytes, int offset, long value) {
+        putInt(bytes, offset, (int) (value >>> 32));
+        putInt(bytes, offset + 4, (int) value);
+    }
+
+    private static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    private static long getLong(byte[] bytes, int offset) {
+        return (long) getInt(bytes, offset) << 32 | (getInt(bytes, offset + 4) & 0xFFFF_FFFFL);
+    }
+
+    private static int getInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16
+                | (bytes[offset + 2] & 0xFF) << 8 | (bytes[offset + 3] & 0xFF);
+    }
+
+    @Override
+    public String toString() {
+        return "SessionTokens{ttl=" + ttl + '}';
+    }
+}
@@ -0,0 +1,291 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import io.github.sanvew.tg.init.data.exception.AuthDateInvalidException;
+import io.github.sanvew.tg.init.data.exception.AuthDateMissingException;
+import io.github.sanvew.tg.init.data.exception.ExpiredException;
+import io.github.sanvew.tg.init.data.exception.SignatureMissingException;
+import io.github.sanvew.tg.init.data.type.InitData;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static io.github.sanvew.tg.init.data.InitDataUtils.buildExceptionArgumentNotProvided;
+
+/**
+ * Validator of Telegram Mini App {@code initData} payloads for third parties, which don't hold the bot token.
+ * <p>
+ * Instead of the bot-token HMAC, the {@code signature} parameter is verified: it is the Ed25519 signature made by
+ * Telegram over {@code "<bot_id>:WebAppData\n"} followed by the data-check string (all parameters except
+ * {@code hash} and {@code signature} sorted by key and joined with {@code '\n'}). The public key is decoded once
+ * on construction; the check string is streamed into the verifier straight from the tokenized payload.
+ * <p>
+ * Requires a JCA provider supporting {@code Ed25519}, which the JDK includes since Java 15.
+ * Instances are immutable and thread-safe.
+ *
+ * @see InitDataValidator
+ * @see <a href="https://docs.telegram-mini-apps.com/platform/init-data#using-telegram-public-key">Telegram Init Data - Using Telegram Public Key</a>
+ */
+public class ThirdPartyInitDataValidator {
+    /** Hex encoded Ed25519 public key Telegram signs {@code initData} with in the production environment. */
+    public static final String PRODUCTION_PUBLIC_KEY = "e7bf03a2fa4602af4580703d88dda5bb59f32ed8b02a56c187fe7d34caed242d";
+    /** Hex encoded Ed25519 public key Telegram signs {@code initData} with in the test environment. */
+    public static final String TEST_PUBLIC_KEY = "40055058a4ee38156a06562e52eece92a771bcd8346a8c4615cb7376eddf72ec";
+
+    static final String ED25519 = "Ed25519";
+    private static final String SIGNATURE = "signature";
+    private static final byte[] CHECK_STRING_SUFFIX = ":WebAppData\n".getBytes(StandardCharsets.US_ASCII);
+    private static final int SIGNATURE_LENGTH = 64;
+    // ASN.1 prefix of a X.509 SubjectPublicKeyInfo holding a raw 32-byte Ed25519 key (RFC 8410)
+    private static final byte[] X509_PREFIX = {
+            0x30, 0x2a, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x03, 0x21, 0x00
+    };
+
+    private final PublicKey publicKey;
+    private final Duration expiresIn;
+    private final Clock clock;
+
+    /**
+     * Creates validator for the given Telegram public key.
+     *
+     * @param publicKey hex encoded raw 32-byte Ed25519 public key,
+     *                  e.g. {@link #PRODUCTION_PUBLIC_KEY} or {@link #TEST_PUBLIC_KEY}
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @throws IllegalArgumentException if {@code publicKey} is {@code null} or is not a hex encoded 32-byte key
+     * @throws IllegalStateException if no installed provider supports Ed25519
+     */
+    public ThirdPartyInitDataValidator(@NotNull String publicKey, @Nullable Duration expiresIn, @Nullable Clock clock) {
+        if (publicKey == null || publicKey.isBlank()) {
+            throw buildExceptionArgumentNotProvided("publicKey");
+        }
+
+        this.publicKey = decodePublicKey(publicKey);
+        this.expiresIn = expiresIn;
+        this.clock = clock;
+    }
+
+    /**
+     * Creates validator for the Telegram production public key.
+     *
+     * @param expiresIn optional duration indicating how long the init data is valid (based on {@code auth_date});
+     *                  if {@code null}, no expiration validation is performed
+     * @param clock optional clock to use for time comparison; if {@code null}, the system default clock is used
+     * @throws IllegalStateException if no installed provider supports Ed25519
+     */
+    public ThirdPartyInitDataValidator(@Nullable Duration expiresIn, @Nullable Clock clock) {
+        this(PRODUCTION_PUBLIC_KEY, expiresIn, clock);
+    }
+
+    public ThirdPartyInitDataValidator(@Nullable Duration expiresIn) {
+        this(PRODUCTION_PUBLIC_KEY, expiresIn, null);
+    }
+
+    public ThirdPartyInitDataValidator() {
+        this(PRODUCTION_PUBLIC_KEY, null, null);
+    }
+
+    /**
+     * Verifies the {@code signature} of the provided {@code initData} string issued for the bot with the given id.
+     *
+     * @param initData the initialization data string received from the Telegram Mini App
+     * @param botId id of the bot the Mini App belongs to (the numeric prefix of its token)
+     * @return {@code true} if the signature is valid and {@code auth_date} (if checked) is within the valid time range;
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException if {@code initData} is {@code null} or {@code isBlank() == true}
+     * @throws SignatureMissingException if the {@code signature} parameter is missing in {@code initData}
+     * @throws AuthDateMissingException if {@code auth_date} is missing when expiration validation is required
+     * @throws AuthDateInvalidException if {@code auth_date} cannot be parsed into a valid timestamp
+     * @throws ExpiredException if the {@code auth_date} is outside the allowed {@code expiresIn} window
+     */
+    public boolean isValid(@NotNull String initData, long botId) {
+        if (initData == null || initData.isBlank()) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+
+        return verify(InitDataTokens.tokenize(initData), botId, newVerifier());
+    }
+
+    /**
+     * Verifies the {@code signature} of a batch of {@code initData} strings issued for the same bot, on the common
+     * {@link ForkJoinPool}.
+     *
+     * @see #validateAll(List, long, Executor)
+     */
+    public @NotNull ValidationStatus @NotNull [] validateAll(@NotNull List<String> initData, long botId) {
+        return validateAll(initData, botId, null);
+    }
+
+    /**
+     * Verifies the {@code signature} of a batch of {@code initData} strings issued for the same bot, on the given executor.
+     * <p>
+     * Works the same way as {@link InitDataValidator#validateAll(List, Executor)}: the batch is split into chunks
+     * and every chunk reuses one {@link Signature} instance for all of its items.
+     *
+     * @param initData the initialization data strings received from the Telegram Mini App
+     * @param botId id of the bot the Mini App belongs to (the numeric prefix of its token)
+     * @param executor optional executor to run chunks on; if {@code null}, the common {@link ForkJoinPool} is used
+     * @return per-item validation status, in the same order as {@code initData}
+     * @throws IllegalArgumentException if {@code initData} is {@code null}
+     */
+    public @NotNull ValidationStatus @NotNull [] validateAll(
+            @NotNull List<String> initData,
+            long botId,
+            @Nullable Executor executor
+    ) {
+        if (initData == null) {
+            throw buildExceptionArgumentNotProvided("initData");
+        }
+
+        return BatchValidation.validateAll(initData, executor, () -> {
+            final Signature verifier = newVerifier();
+            return item -> verify(InitDataTokens.tokenize(item), botId, verifier)
+                    ? ValidationStatus.VALID
+                    : ValidationStatus.BAD_SIGNATURE;
+        });
+    }
+
+    public @Nullable Duration getExpiresIn() { return expiresIn; }
+    public @Nullable Clock getClock() { return clock; }
+
+    // =================================================================================================================
+    // signature validation
+    // =================================================================================================================
+    private boolean verify(InitDataTokens tokens, long botId, Signature verifier) {
+        final int signatureIdx = tokens.extraIndex(SIGNATURE);
+        final String signature = signatureIdx >= 0 ? tokens.extraValue(signatureIdx) : null;
+        if (signature == null) {
+            throw new SignatureMissingException(true);
+        }
+
+        if (expiresIn != null) {
+            InitDataUtils.validateAuthDate(tokens.get(InitData.Param.AUTH_DATE), expiresIn, clock);
+        }
+
+        final byte[] signatureBytes = decodeSignature(signature);
+        if (signatureBytes == null) {
+            return false;
+        }
+
+        try {
+            // (re)initializing also drops any state left by a previous item that failed half way
+            verifier.initVerify(publicKey);
+            final SignatureSink sink = new SignatureSink(verifier);
+            final byte[] botIdBytes = Long.toString(botId).getBytes(StandardCharsets.US_ASCII);
+            sink.write(botIdBytes, 0, botIdBytes.length);
+            sink.write(CHECK_STRING_SUFFIX, 0, CHECK_STRING_SUFFIX.length);
+            tokens.writeDataCheck(sink, signatureIdx);
+            return verifier.verify(signatureBytes);
+        } catch (InvalidKeyException e) {
+            throw new IllegalStateException(e);
+        } catch (SignatureException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return decoded signature, or {@code null} if it is not a base64url encoded 64-byte value
+     */
+    private static byte @Nullable [] decodeSignature(String signature) {
+        final byte[] decoded;
+        try {
+            decoded = Base64.getUrlDecoder().decode(signature);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return decoded.length == SIGNATURE_LENGTH ? decoded : null;
+    }
+
+    /**
+     * Feeds the check string straight into {@link Signature#update} without buffering it.
+     */
+    private static final class SignatureSink implements InitDataTokens.ByteSink {
+        private final Signature signature;
+
+        SignatureSink(Signature signature) {
+            this.signature = signature;
+        }
+
+        @Override
+        public void write(int b) {
+            try {
+                signature.update((byte) b);
+            } catch (SignatureException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            try {
+                signature.update(bytes, offset, length);
+            } catch (SignatureException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void write(ByteBuffer bytes) {
+            try {
+                signature.update(bytes);
+            } catch (SignatureException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    // =================================================================================================================
+    // Ed25519 state
+    // =================================================================================================================
+    /**
+     * {@link Signature} is not thread-safe, so every validation (or batch chunk) works on its own instance.
+     */
+    private static Signature newVerifier() {
+        try {
+            return Signature.getInstance(ED25519);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ED25519 + " is not supported by installed security providers", e);
+        }
+    }
+
+    static PublicKey decodePublicKey(String hex) {
+        if (hex.length() != 64) {
+            throw new IllegalArgumentException("Argument \"publicKey\" must be a hex encoded 32-byte key");
+        }
+
+        final byte[] encoded = Arrays.copyOf(X509_PREFIX, X509_PREFIX.length + 32);
+        for (int i = 0; i < 32; i++) {
+            final int hi = Character.digit(hex.charAt(2 * i), 16);
+            final int lo = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (hi < 0 || lo < 0) {
+                throw new IllegalArgumentException("Argument \"publicKey\" must be a hex encoded 32-byte key");
+            }
+            encoded[X509_PREFIX.length + i] = (byte) ((hi << 4) | lo);
+        }
+
+        try {
+            return KeyFactory.getInstance(ED25519).generatePublic(new X509EncodedKeySpec(encoded));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ED25519 + " is not supported by installed security providers", e);
+        } catch (InvalidKeySpecException e) {
+            throw new IllegalArgumentException("Argument \"publicKey\" is not a valid " + ED25519 + " key", e);
+        }
+    }
+}
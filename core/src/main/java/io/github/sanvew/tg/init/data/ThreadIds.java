@@ -0,0 +1,19 @@
+package io.github.sanvew.tg.init.data;
+
+/**
+ * Id of the current thread, used to spread threads over the slots of a {@link Pool}.
+ * <p>
+ * The multi-release jar replaces this class on Java 21+ with one calling the final {@code Thread.threadId()},
+ * which {@link Thread#getId()} is deprecated in favor of.
+ */
+final class ThreadIds {
+    private ThreadIds() {}
+
+    /**
+     * @return non-negative id of the current thread
+     */
+    @SuppressWarnings("deprecation")
+    static long current() {
+        return Thread.currentThread().getId();
+    }
+}
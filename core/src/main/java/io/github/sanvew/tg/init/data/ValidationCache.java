@@ -0,0 +1,213 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.Nullable;
+import io.github.sanvew.tg.init.data.json.parser.InitDataJsonTypesParser;
+import io.github.sanvew.tg.init.data.type.InitData;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded cache of successfully validated {@code initData} payloads, which lets a validator skip the HMAC
+ * and the JSON decoding when a Mini App sends the same {@code initData} on every request of a session.
+ * <p>
+ * Entries are located by the {@code hash} parameter and the owning validator (i.e. the bot), but a hit additionally
+ * requires the whole {@code initData} string to be equal to the one that was validated, so a different payload
+ * carrying the same {@code hash} is never served from the cache and goes through the full check instead.
+ * Entries stop being served once {@code auth_date + expiresIn} passes, by the same rule as the full check.
+ * <p>
+ * The table is set-associative: each {@code hash} maps to a set of a few slots, and a full set evicts its least
+ * frequently hit entry (hit counters are halved on every eviction so that formerly hot sessions age out).
+ * Lookups are lock-free; inserts lock only the affected set. Instances are thread-safe and may be shared
+ * by several validators, e.g. through {@link InitDataValidatorRegistry}.
+ * <p>
+ * Replay protection and caching are mutually exclusive: a validator configured with {@link ReplayGuard}
+ * can't use a cache.
+ *
+ * @see InitDataValidator#InitDataValidator(String, java.time.Duration, java.time.Clock, ReplayGuard, ValidationCache)
+ */
+public final class ValidationCache {
+    private static final int WAYS = 4;
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final Object[] locks;
+    private final int setMask;
+    private final int capacity;
+
+    /**
+     * Creates cache holding at most {@code capacity} entries (rounded up to a power of two).
+     *
+     * @param capacity maximum number of cached payloads
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    public ValidationCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Argument \"capacity\" must be positive, got " + capacity);
+        }
+
+        final int sets = ceilPowerOfTwo((capacity + WAYS - 1) / WAYS);
+        this.slots = new AtomicReferenceArray<>(sets * WAYS);
+        this.locks = new Object[Math.min(sets, 64)];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        this.setMask = sets - 1;
+        this.capacity = sets * WAYS;
+    }
+
+    /**
+     * @return cached entry for exactly this {@code initData} validated by {@code owner}, or {@code null}
+     */
+    @Nullable Entry get(Object owner, String initData, Instant now) {
+        final long key = key(initData);
+        if (key == 0) { return null; }
+
+        final int base = set(key, owner) * WAYS;
+        for (int i = 0; i < WAYS; i++) {
+            final Entry entry = slots.get(base + i);
+            if (entry != null && entry.matches(owner, key, initData)) {
+                if (InitDataValidator.isExpired(now, entry.expiresAt)) { return null; }
+                entry.frequency++;
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Caches validated {@code initData}, replacing the previous entry for the same payload if any.
+     *
+     * @param keyIndex index of the {@link BotKeys} key the payload was signed with
+     * @param value parsed payload, or {@code null} if it was only validated
+     */
+    void put(
+            Object owner,
+            String initData,
+            long expiresAt,
+            int keyIndex,
+            @Nullable InitDataJsonTypesParser parser,
+            @Nullable InitData value,
+            Instant now
+    ) {
+        final long key = key(initData);
+        if (key == 0) { return; }
+
+        final int set = set(key, owner);
+        final int base = set * WAYS;
+        final Entry entry = new Entry(owner, key, initData, expiresAt, keyIndex, parser, value);
+        synchronized (locks[set % locks.length]) {
+            int victim = -1;
+            int minFrequency = Integer.MAX_VALUE;
+            for (int i = 0; i < WAYS; i++) {
+                final Entry current = slots.get(base + i);
+                if (current == null || current.matches(owner, key, initData) || InitDataValidator.isExpired(now, current.expiresAt)) {
+                    if (current != null) { entry.frequency = current.frequency; }
+                    slots.set(base + i, entry);
+                    return;
+                }
+                if (current.frequency < minFrequency) {
+                    minFrequency = current.frequency;
+                    victim = i;
+                }
+            }
+
+            for (int i = 0; i < WAYS; i++) {
+                final Entry current = slots.get(base + i);
+                current.frequency >>>= 1;
+            }
+            slots.set(base + victim, entry);
+        }
+    }
+
+    public int getCapacity() { return capacity; }
+
+    /**
+     * @return number of cached entries, including expired ones not evicted yet
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) { size++; }
+        }
+        return size;
+    }
+
+    /**
+     * Drops all cached entries.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    private int set(long key, Object owner) {
+        final long mixed = key ^ (System.identityHashCode(owner) * 0x9E3779B97F4A7C15L);
+        return (int) (mixed ^ (mixed >>> 32)) & setMask;
+    }
+
+    /**
+     * Cheap locator of the cache entry: the first 16 hex digits of the last {@code hash} parameter,
+     * read straight from the string without tokenizing it. Correctness of a hit doesn't depend on it,
+     * since the whole {@code initData} is compared anyway.
+     *
+     * @return non-zero key, or {@code 0} if {@code initData} has no such {@code hash} parameter
+     */
+    static long key(String initData) {
+        final String param = InitData.Param.HASH.value + "=";
+        int idx = initData.lastIndexOf(param);
+        while (idx > 0 && initData.charAt(idx - 1) != '&') {
+            idx = initData.lastIndexOf(param, idx - 1);
+        }
+        if (idx < 0) { return 0; }
+
+        final int start = idx + param.length();
+        if (initData.length() - start < 16) { return 0; }
+        long key = 0;
+        for (int i = start; i < start + 16; i++) {
+            final int digit = Character.digit(initData.charAt(i), 16);
+            if (digit < 0) { return 0; }
+            key = (key << 4) | digit;
+        }
+        return key == 0 ? 1 : key;
+    }
+
+    private static int ceilPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    static final class Entry {
+        final Object owner;
+        final long key;
+        final String initData;
+        final long expiresAt;
+        /** Index of the {@link BotKeys} key the payload was signed with. */
+        final int keyIndex;
+        final InitDataJsonTypesParser parser;
+        final InitData value;
+        // racy increments are fine: it is only an eviction hint
+        int frequency = 1;
+
+        Entry(
+                Object owner,
+                long key,
+                String initData,
+                long expiresAt,
+                int keyIndex,
+                @Nullable InitDataJsonTypesParser parser,
+                @Nullable InitData value
+        ) {
+            this.owner = owner;
+            this.key = key;
+            this.initData = initData;
+            this.expiresAt = expiresAt;
+            this.keyIndex = keyIndex;
+            this.parser = parser;
+            this.value = value;
+        }
+
+        boolean matches(Object owner, long key, String initData) {
+            return this.owner == owner && this.key == key && this.initData.equals(initData);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.sanvew.tg.init.data;
+
+/**
+ * Callback interface through which {@link InitDataValidator} reports how long each phase of a validation took
+ * and how it ended.
+ * <p>
+ * Callbacks run synchronously on the validating thread, so implementations must be thread-safe and cheap;
+ * {@link ValidationMetrics} is a lock-free ready-made implementation. With {@link #NOOP}, the default,
+ * the validator doesn't even read the clock.
+ *
+ * @see InitDataValidator#InitDataValidator(String, java.time.Duration, java.time.Clock, ReplayGuard, ValidationCache, ValidationListener)
+ */
+public interface ValidationListener {
+    /** Listener which ignores every event. */
+    ValidationListener NOOP = new ValidationListener() {};
+
+    /**
+     * Timed phase of a validation.
+     */
+    enum Phase {
+        /** Splitting the query string into percent-decoded parameters. */
+        TOKENIZE,
+        /** Computing the HMAC of the data-check string and comparing it with {@code hash}. */
+        SIGNATURE,
+        /** Decoding a single {@code user}, {@code chat} or {@code receiver} JSON value. */
+        JSON_DECODE,
+    }
+
+    /**
+     * Called once a phase completes, whether successfully or by an exception.
+     *
+     * @param phase the completed phase
+     * @param nanos elapsed time in nanoseconds
+     */
+    default void onPhase(Phase phase, long nanos) {}
+
+    /**
+     * Called once per payload which got past argument checks, with the outcome of its signature validation.
+     * A payload served from {@link ValidationCache} is reported as {@link ValidationStatus#VALID}.
+     *
+     * @param status the outcome; the same value {@link InitDataValidator#validateAll(java.util.List)} gives the payload
+     */
+    default void onOutcome(ValidationStatus status) {}
+
+    /**
+     * Called when a {@code user}, {@code chat} or {@code receiver} JSON value of a validated payload can't be decoded
+     * or misses a required property.
+     */
+    default void onJsonError() {}
+}
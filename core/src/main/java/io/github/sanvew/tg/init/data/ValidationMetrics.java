@@ -0,0 +1,118 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free {@link ValidationListener} which accumulates outcome counters and per-phase latency histograms
+ * to be scraped periodically, e.g. by a metrics exporter.
+ * <p>
+ * Every counter is a {@link LongAdder}, which stripes updates from concurrent threads over separate cells,
+ * and recording an event allocates nothing once the cells exist. Histograms have fixed power-of-two buckets:
+ * bucket {@code 0} counts durations below {@code 256 ns}, bucket {@code i} durations in
+ * {@code [2^(7+i), 2^(8+i))} ns, and the last bucket everything from {@code 2^30 ns} (about a second) up.
+ * <p>
+ * All values are cumulative since construction. A read while validations are running is not an atomic snapshot,
+ * but every counter is individually exact.
+ */
+public final class ValidationMetrics implements ValidationListener {
+    /** Number of buckets of every phase histogram. */
+    public static final int BUCKETS = 24;
+    private static final int FIRST_BUCKET_SHIFT = 8;
+
+    private static final ValidationStatus[] STATUSES = ValidationStatus.values();
+    private static final Phase[] PHASES = Phase.values();
+
+    private final LongAdder[] outcomes = adders(STATUSES.length);
+    private final LongAdder jsonErrors = new LongAdder();
+    private final LongAdder[] buckets = adders(PHASES.length * BUCKETS);
+    private final LongAdder[] totalNanos = adders(PHASES.length);
+
+    @Override
+    public void onPhase(Phase phase, long nanos) {
+        buckets[phase.ordinal() * BUCKETS + bucket(nanos)].increment();
+        totalNanos[phase.ordinal()].add(nanos);
+    }
+
+    @Override
+    public void onOutcome(ValidationStatus status) {
+        outcomes[status.ordinal()].increment();
+    }
+
+    @Override
+    public void onJsonError() {
+        jsonErrors.increment();
+    }
+
+    /**
+     * @return number of payloads which ended with {@code status}
+     */
+    public long count(@NotNull ValidationStatus status) {
+        return outcomes[status.ordinal()].sum();
+    }
+
+    /**
+     * @return number of {@code user}, {@code chat} and {@code receiver} values which failed to decode
+     */
+    public long jsonErrors() {
+        return jsonErrors.sum();
+    }
+
+    /**
+     * @return number of completed {@code phase}s
+     */
+    public long count(@NotNull Phase phase) {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += buckets[phase.ordinal() * BUCKETS + i].sum();
+        }
+        return count;
+    }
+
+    /**
+     * @return total time spent in {@code phase}, in nanoseconds
+     */
+    public long totalNanos(@NotNull Phase phase) {
+        return totalNanos[phase.ordinal()].sum();
+    }
+
+    /**
+     * @return copy of the {@code phase} histogram: number of durations per bucket, {@link #BUCKETS} elements
+     * @see #bucketUpperBoundNanos(int)
+     */
+    public long @NotNull [] histogram(@NotNull Phase phase) {
+        final long[] histogram = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram[i] = buckets[phase.ordinal() * BUCKETS + i].sum();
+        }
+        return histogram;
+    }
+
+    /**
+     * @return exclusive upper bound of durations counted by {@code bucket}, in nanoseconds;
+     *         {@link Long#MAX_VALUE} for the last bucket
+     * @throws IndexOutOfBoundsException if {@code bucket} is not within {@code [0, BUCKETS)}
+     */
+    public static long bucketUpperBoundNanos(int bucket) {
+        if (bucket < 0 || bucket >= BUCKETS) {
+            throw new IndexOutOfBoundsException("Bucket " + bucket + " out of [0, " + BUCKETS + ")");
+        }
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : 1L << (FIRST_BUCKET_SHIFT + bucket);
+    }
+
+    static int bucket(long nanos) {
+        if (nanos <= 0) { return 0; }
+        // floor(log2(nanos)) - 7, so that bucket 1 starts at 2^8
+        final int bucket = 63 - Long.numberOfLeadingZeros(nanos) - (FIRST_BUCKET_SHIFT - 1);
+        return Math.max(0, Math.min(BUCKETS - 1, bucket));
+    }
+
+    private static LongAdder[] adders(int length) {
+        final LongAdder[] adders = new LongAdder[length];
+        for (int i = 0; i < length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.sanvew.tg.init.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import io.github.sanvew.tg.init.data.exception.AuthDateInvalidException;
+import io.github.sanvew.tg.init.data.exception.AuthDateMissingException;
+import io.github.sanvew.tg.init.data.exception.ExpiredException;
+import io.github.sanvew.tg.init.data.exception.ReplayGuardFullException;
+import io.github.sanvew.tg.init.data.exception.ReplayedException;
+import io.github.sanvew.tg.init.data.exception.SignatureMissingException;
+
+/**
+ * Outcome of validating a single {@code initData} payload together with the values the decision was based on.
+ * <p>
+ * Returned by {@link InitDataValidator#validate(String)}, which reports every failure this way instead of throwing.
+ * Instances are immutable.
+ */
+public final class ValidationResult {
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final ValidationStatus status;
+    private final long authDate;
+    private final long expiresAt;
+    private final long now;
+    private final int keyIndex;
+    private final String invalidAuthDate;
+
+    ValidationResult(
+            @NotNull ValidationStatus status,
+            long authDate,
+            long expiresAt,
+            long now,
+            int keyIndex,
+            @Nullable String invalidAuthDate
+    ) {
+        this.status = status;
+        this.authDate = authDate;
+        this.expiresAt = expiresAt;
+        this.now = now;
+        this.keyIndex = keyIndex;
+        this.invalidAuthDate = invalidAuthDate;
+    }
+
+    static ValidationResult of(ValidationStatus status) {
+        return new ValidationResult(status, NONE, NONE, NONE, -1, null);
+    }
+
+    static ValidationResult of(ValidationStatus status, long authDate, long expiresAt, long now) {
+        return new ValidationResult(status, authDate, expiresAt, now, -1, null);
+    }
+
+    static ValidationResult of(ValidationStatus status, long authDate, long expiresAt, long now, int keyIndex) {
+        return new ValidationResult(status, authDate, expiresAt, now, keyIndex, null);
+    }
+
+    static ValidationResult authDateInvalid(String invalidAuthDate) {
+        return new ValidationResult(ValidationStatus.AUTH_DATE_INVALID, NONE, NONE, NONE, -1, invalidAuthDate);
+    }
+
+    public @NotNull ValidationStatus getStatus() { return status; }
+
+    public boolean isValid() { return status.isValid(); }
+
+    /**
+     * @return {@code auth_date} of the payload in epoch seconds; {@code null} if it wasn't checked (no {@code expiresIn}),
+     *         is missing or invalid, or the result was served from {@link ValidationCache}
+     */
+    public @Nullable Long getAuthDate() { return authDate != NONE ? authDate : null; }
+
+    /**
+     * @return epoch second after which the payload is expired; {@code null} if {@code auth_date} wasn't checked
+     */
+    public @Nullable Long getExpiresAt() { return expiresAt != NONE ? expiresAt : null; }
+
+    /**
+     * @return epoch second the payload was checked at; {@code null} if {@code auth_date} wasn't checked
+     */
+    public @Nullable Long getNow() { return now != NONE ? now : null; }
+
+    /**
+     * @return index of the {@link BotKeys} key the signature matched, {@code 0} for the primary one;
+     *         {@code -1} if no key matched or the signature wasn't checked
+     */
+    public int getKeyIndex() { return keyIndex; }
+
+    /**
+     * Translates the result into the contract of {@code isValid}.
+     *
+     * @return {@code true} if valid, {@code false} if the signature doesn't match
+     * @throws RuntimeException the exception {@code isValid} throws for any other status
+     */
+    boolean orThrow() {
+        switch (status) {
+            case VALID: return true;
+            case BAD_SIGNATURE: return false;
+            case SIGNATURE_MISSING: throw new SignatureMissingException();
+            case AUTH_DATE_MISSING: throw new AuthDateMissingException();
+            case AUTH_DATE_INVALID: throw new AuthDateInvalidException(invalidAuthDate);
+            case EXPIRED: throw new ExpiredException(expiresAt, now);
+            case REPLAYED: throw new ReplayedException();
+            case REPLAY_GUARD_FULL: throw new ReplayGuardFullException();
+            default: throw new IllegalArgumentException("initData is malformed");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationResult{" +
+                "status=" + status +
+                ", authDate=" + getAuthDate() +
+                ", expiresAt=" + getExpiresAt() +
+                ", now=" + getNow() +
+                ", keyIndex=" + keyIndex +
+                '}';
+    }
+}
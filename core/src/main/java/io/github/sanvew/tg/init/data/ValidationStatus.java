@@ -0,0 +1,38 @@
+package io.github.sanvew.tg.init.data;
+
+/**
+ * Outcome of validating a single {@code initData} payload in batch mode.
+ * <p>
+ * Each non-{@link #VALID} status corresponds to a {@code false} result or an exception thrown by
+ * {@link InitDataValidator#isValid(String)} for the same payload.
+ *
+ * @see InitDataValidator#validateAll(java.util.List)
+ */
+public enum ValidationStatus {
+    /** Signature holds and {@code auth_date} (if checked) is within the allowed window. */
+    VALID,
+    /** Signature does not match the data-check string. */
+    BAD_SIGNATURE,
+    /** {@code auth_date} is outside the allowed {@code expiresIn} window. */
+    EXPIRED,
+    /** {@code hash} parameter is missing or empty. */
+    SIGNATURE_MISSING,
+    /** {@code auth_date} is missing while expiration validation is required. */
+    AUTH_DATE_MISSING,
+    /** {@code auth_date} cannot be parsed into a valid timestamp. */
+    AUTH_DATE_INVALID,
+    /** Payload with the same signature has already been accepted by the configured {@link ReplayGuard}. */
+    REPLAYED,
+    /**
+     * Signature holds, but the configured {@link ReplayGuard} has no room left to record the payload, so it is
+     * rejected (fail closed) until recorded entries expire; unlike {@link #REPLAYED}, the payload wasn't seen before.
+     */
+    REPLAY_GUARD_FULL,
+    /** Payload is {@code null}, blank or cannot be percent-decoded. */
+    MALFORMED,
+    ;
+
+    public boolean isValid() {
+        return this == VALID;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.sanvew.tg.init.data.exception;
+
+import io.github.sanvew.tg.init.data.type.InitData;
+
+public class AuthDateInvalidException extends RuntimeException {
+    private final String invalidAuthDate;
+
+    public AuthDateInvalidException(String invalidAuthDate) {
+        super(null, null, false, false);
+        this.invalidAuthDate = invalidAuthDate;
+    }
+
+    public String getInvalidAuthDate() { return invalidAuthDate; }
+
+    @Override
+    public String getMessage() {
+        return InitData.Param.AUTH_DATE.value + " is invalid: " + invalidAuthDate;
+    }
+}
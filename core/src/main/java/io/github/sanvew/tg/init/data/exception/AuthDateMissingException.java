@@ -4,6 +4,6 @@ import io.github.sanvew.tg.init.data.type.InitData;
 
 public class AuthDateMissingException extends PropertyMissingException {
     public AuthDateMissingException() {
-        super(InitData.Param.AUTH_DATE.value);
+        super(InitData.Param.AUTH_DATE.value, true, false);
     }
 }
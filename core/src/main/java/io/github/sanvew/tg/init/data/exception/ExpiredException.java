@@ -0,0 +1,22 @@
+package io.github.sanvew.tg.init.data.exception;
+
+import io.github.sanvew.tg.init.data.type.InitData;
+
+public class ExpiredException extends RuntimeException {
+    private final long expiresAt;
+    private final long now;
+
+    public ExpiredException(long expiresAt, long now) {
+        super(null, null, false, false);
+        this.expiresAt = expiresAt;
+        this.now = now;
+    }
+
+    public long getExpiresAt() { return expiresAt; }
+    public long getNow() { return now; }
+
+    @Override
+    public String getMessage() {
+        return "initData is expired, " + InitData.Param.AUTH_DATE.value + " expires at " + expiresAt + " but now is " + now;
+    }
+}
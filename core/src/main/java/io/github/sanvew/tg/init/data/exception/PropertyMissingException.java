@@ -0,0 +1,28 @@
+package io.github.sanvew.tg.init.data.exception;
+
+public class PropertyMissingException extends RuntimeException {
+    private final String arg;
+    private final boolean defaultMessage;
+
+    public PropertyMissingException(String arg, boolean defaultMessage) {
+        this(arg, defaultMessage, true);
+    }
+
+    public PropertyMissingException(String property) {
+        this(property, true);
+    }
+
+    /**
+     * @param writableStackTrace {@code false} for validation outcomes, which are frequent and need no stack trace
+     */
+    protected PropertyMissingException(String arg, boolean defaultMessage, boolean writableStackTrace) {
+        super(null, null, writableStackTrace, writableStackTrace);
+        this.arg = arg;
+        this.defaultMessage = defaultMessage;
+    }
+
+    @Override
+    public String getMessage() {
+        return defaultMessage ? "Property \'" + arg + "\' is missing" : arg;
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.sanvew.tg.init.data.exception;
+
+public class ReplayGuardFullException extends RuntimeException {
+    public ReplayGuardFullException() {
+        super("initData can't be recorded, the replay guard is full until recorded entries expire", null, false, false);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.sanvew.tg.init.data.exception;
+
+public class ReplayedException extends RuntimeException {
+    public ReplayedException() {
+        super("initData has already been used and is not accepted again until it expires", null, false, false);
+    }
+}
@@ -4,7 +4,7 @@ import io.github.sanvew.tg.init.data.type.InitData;
 
 public class SignatureMissingException extends PropertyMissingException {
     public SignatureMissingException(boolean isThirdParty) {
-        super(isThirdParty ? "signature" : InitData.Param.HASH.value);
+        super(isThirdParty ? "signature" : InitData.Param.HASH.value, true, false);
     }
 
     public SignatureMissingException() {
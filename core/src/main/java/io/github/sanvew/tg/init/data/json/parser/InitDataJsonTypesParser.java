@@ -11,7 +11,11 @@ import io.github.sanvew.tg.init.data.type.User;
  * Telegram init data may contain nested JSON strings for fields like {@code user}, {@code chat}, and {@code receiver}.
  * This interface allows for custom implementations (e.g. using Jackson, Gson, etc.) to convert those raw strings into typed Java objects.
  * <p>
- * Default implementation is {@link io.github.sanvew.tg.init.data.json.parser.impl.JacksonInitDataJsonTypesParser}.
+ * Default implementation is the first one registered in
+ * {@code META-INF/services/io.github.sanvew.tg.init.data.json.parser.InitDataJsonTypesParser}
+ * (the {@code telegram-init-data-jackson} module registers a Jackson based one), and the dependency-free
+ * {@link io.github.sanvew.tg.init.data.json.parser.impl.SimpleInitDataJsonTypesParser} otherwise.
+ * Registered implementations must have a public no-arg constructor.
  *
  * @see <a href="https://docs.telegram-mini-apps.com/platform/init-data">Telegram Init Data Documentation</a>
  */
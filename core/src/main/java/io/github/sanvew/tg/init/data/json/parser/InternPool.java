@@ -0,0 +1,137 @@
+package io.github.sanvew.tg.init.data.json.parser;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import io.github.sanvew.tg.init.data.type.Chat;
+import io.github.sanvew.tg.init.data.type.User;
+
+/**
+ * Size-bounded canonicalizing pool for values decoded by {@link InitDataJsonTypesParser} implementations.
+ * <p>
+ * Low-cardinality strings (e.g. {@code language_code} or names of unknown properties) come back as a shared
+ * instance, and a {@link User} or {@link Chat} equal to the one recently seen for the same id comes back as that
+ * existing immutable object. Parsed objects stored in a session cache then share their instances instead of holding
+ * a copy per request.
+ * <p>
+ * Every table is direct-mapped: a value is looked up in exactly one slot chosen by its hash and a miss overwrites
+ * that slot, so the pool never grows beyond its capacity and needs neither locks nor eviction bookkeeping.
+ * Stored values are immutable, so racing writers at worst replace each other's entry. Instances are thread-safe
+ * and meant to be shared by all parsers of an application.
+ */
+public final class InternPool {
+    public static final int DEFAULT_STRING_CAPACITY = 256;
+    public static final int DEFAULT_OBJECT_CAPACITY = 4096;
+
+    private final String[] strings;
+    private final User[] users;
+    private final Chat[] chats;
+
+    /**
+     * @param stringCapacity number of strings kept, rounded up to a power of two
+     * @param objectCapacity number of users and, separately, chats kept, rounded up to a power of two
+     * @throws IllegalArgumentException if a capacity is not positive
+     */
+    public InternPool(int stringCapacity, int objectCapacity) {
+        this.strings = new String[tableSize(stringCapacity, "stringCapacity")];
+        this.users = new User[tableSize(objectCapacity, "objectCapacity")];
+        this.chats = new Chat[users.length];
+    }
+
+    public InternPool() {
+        this(DEFAULT_STRING_CAPACITY, DEFAULT_OBJECT_CAPACITY);
+    }
+
+    /**
+     * @return the pooled string equal to {@code value}, or {@code value} itself after pooling it
+     */
+    public @Nullable String string(@Nullable String value) {
+        if (value == null) { return null; }
+        final int slot = slot(value.hashCode(), strings.length);
+        final String pooled = strings[slot];
+        if (value.equals(pooled)) { return pooled; }
+        strings[slot] = value;
+        return value;
+    }
+
+    /**
+     * Same as {@link #string(String)} for {@code source.substring(start, end)}, which is only created on a miss.
+     */
+    public @NotNull String string(@NotNull String source, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+        final int slot = slot(hash, strings.length);
+        final String pooled = strings[slot];
+        if (pooled != null && pooled.length() == end - start && pooled.regionMatches(0, source, start, end - start)) {
+            return pooled;
+        }
+        final String value = source.substring(start, end);
+        strings[slot] = value;
+        return value;
+    }
+
+    /**
+     * Same as {@link #string(String)} for {@code new String(chars, offset, length)}, which is only created on a miss.
+     */
+    public @NotNull String string(char @NotNull [] chars, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        final int slot = slot(hash, strings.length);
+        final String pooled = strings[slot];
+        if (pooled != null && contentEquals(pooled, chars, offset, length)) {
+            return pooled;
+        }
+        final String value = new String(chars, offset, length);
+        strings[slot] = value;
+        return value;
+    }
+
+    /**
+     * @return the pooled user with the same id if it is equal to {@code user}, or {@code user} itself after pooling it
+     */
+    public @Nullable User user(@Nullable User user) {
+        if (user == null) { return null; }
+        final int slot = slot(Long.hashCode(user.getId()), users.length);
+        final User pooled = users[slot];
+        if (user.equals(pooled)) { return pooled; }
+        users[slot] = user;
+        return user;
+    }
+
+    /**
+     * @return the pooled chat with the same id if it is equal to {@code chat}, or {@code chat} itself after pooling it
+     */
+    public @Nullable Chat chat(@Nullable Chat chat) {
+        if (chat == null) { return null; }
+        final int slot = slot(Long.hashCode(chat.getId()), chats.length);
+        final Chat pooled = chats[slot];
+        if (chat.equals(pooled)) { return pooled; }
+        chats[slot] = chat;
+        return chat;
+    }
+
+    private static int slot(int hash, int tableSize) {
+        // spread the bits so that sequential ids and similar strings don't share low bits
+        final int mixed = hash * 0x9E3779B9;
+        return (mixed ^ (mixed >>> 16)) & (tableSize - 1);
+    }
+
+    private static boolean contentEquals(String value, char[] chars, int offset, int length) {
+        if (value.length() != length) { return false; }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != chars[offset + i]) { return false; }
+        }
+        return true;
+    }
+
+    private static int tableSize(int capacity, String name) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Argument \"" + name + "\" must be positive, got " + capacity);
+        }
+        if (capacity > 1 << 30) { return 1 << 30; }
+        return capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
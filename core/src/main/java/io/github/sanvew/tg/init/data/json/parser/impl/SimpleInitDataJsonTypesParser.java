@@ -0,0 +1,587 @@
+package io.github.sanvew.tg.init.data.json.parser.impl;
+
+import org.jetbrains.annotations.Nullable;
+import io.github.sanvew.tg.init.data.exception.JsonParseException;
+import io.github.sanvew.tg.init.data.exception.JsonPropertyMissingException;
+import io.github.sanvew.tg.init.data.json.parser.InitDataJsonTypesParser;
+import io.github.sanvew.tg.init.data.json.parser.InternPool;
+import io.github.sanvew.tg.init.data.type.Chat;
+import io.github.sanvew.tg.init.data.type.ChatType;
+import io.github.sanvew.tg.init.data.type.User;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Dependency-free implementation of {@link InitDataJsonTypesParser} specialized for the flat {@code user}
+ * and {@code chat} objects of Telegram {@code initData}.
+ * <p>
+ * The JSON is read in a single pass straight from the input string, with no intermediate tree and no reflection.
+ * Values are handled the same way as by the Jackson based parser: JSON {@code null} means an absent
+ * property, scalars are coerced to the property type (e.g. {@code "123"} to a number), nested objects and arrays
+ * are skipped, and unknown properties are put into {@code extra} (string values only, others as {@code null}).
+ * Unlike the Jackson default, content after the top-level value is rejected.
+ * <p>
+ * Used by default when no other parser is registered with {@link java.util.ServiceLoader}. Instances are
+ * thread-safe; with an {@link InternPool} the {@code language_code} values, names of unknown properties and whole
+ * objects are canonicalized through it.
+ */
+public class SimpleInitDataJsonTypesParser implements InitDataJsonTypesParser {
+    public static final InitDataJsonTypesParser INSTANCE = new SimpleInitDataJsonTypesParser();
+
+    private static final User.Property[] USER_PROPERTIES = User.Property.values();
+    private static final String[] USER_PROPERTY_NAMES = names(USER_PROPERTIES, it -> it.value);
+    private static final Chat.Property[] CHAT_PROPERTIES = Chat.Property.values();
+    private static final String[] CHAT_PROPERTY_NAMES = names(CHAT_PROPERTIES, it -> it.value);
+
+    private final InternPool pool;
+
+    /**
+     * @param pool optional pool to canonicalize parsed values through; if {@code null}, nothing is pooled
+     */
+    public SimpleInitDataJsonTypesParser(@Nullable InternPool pool) {
+        this.pool = pool;
+    }
+
+    public SimpleInitDataJsonTypesParser() {
+        this(null);
+    }
+
+    @Override
+    public @Nullable User parseUser(@Nullable String input) {
+        if (input == null || input.isBlank()) { return null; }
+        try {
+            return readUser(new FlatJsonReader(input));
+        } catch (FlatJsonReader.SyntaxException e) {
+            throw new JsonParseException(User.class, e);
+        }
+    }
+
+    @Override
+    public @Nullable Chat parseChat(@Nullable String input) {
+        if (input == null || input.isBlank()) { return null; }
+        try {
+            return readChat(new FlatJsonReader(input));
+        } catch (FlatJsonReader.SyntaxException e) {
+            throw new JsonParseException(Chat.class, e);
+        }
+    }
+
+    private User readUser(FlatJsonReader reader) throws FlatJsonReader.SyntaxException {
+        Long id = null;
+        String firstName = null;
+        Boolean isBot = null;
+        String lastName = null;
+        String username = null;
+        String languageCode = null;
+        Boolean isPremium = null;
+        Boolean allowsWriteToPm = null;
+        Boolean addedToAttachmentMenu = null;
+        String photoUrl = null;
+        Map<String, String> extra = null;
+
+        for (boolean hasField = reader.firstField(); hasField; hasField = reader.nextField()) {
+            final int idx = reader.fieldIndex(USER_PROPERTY_NAMES);
+            reader.readValue();
+            if (idx < 0) {
+                if (extra == null) { extra = new HashMap<>(); }
+                extra.put(reader.fieldName(pool), reader.extraValue());
+                continue;
+            }
+            switch (USER_PROPERTIES[idx]) {
+                case ID: id = reader.longValue(); break;
+                case FIRST_NAME: firstName = reader.textValue(); break;
+                case IS_BOT: isBot = reader.booleanValue(); break;
+                case LAST_NAME: lastName = reader.textValue(); break;
+                case USERNAME: username = reader.textValue(); break;
+                case LANGUAGE_CODE: languageCode = reader.textValue(pool); break;
+                case IS_PREMIUM: isPremium = reader.booleanValue(); break;
+                case ALLOWS_WRITE_TO_PM: allowsWriteToPm = reader.booleanValue(); break;
+                case ADDED_TO_ATTACHMENT_MENU: addedToAttachmentMenu = reader.booleanValue(); break;
+                case PHOTO_URL: photoUrl = reader.textValue(); break;
+            }
+        }
+        reader.end();
+
+        if (id == null) { throw new JsonPropertyMissingException(User.class, User.Property.ID.value); }
+        if (firstName == null) { throw new JsonPropertyMissingException(User.class, User.Property.FIRST_NAME.value); }
+
+        final User user = new User(
+                addedToAttachmentMenu, allowsWriteToPm, isPremium, firstName, id, isBot, lastName, languageCode,
+                photoUrl, username, extra
+        );
+        return pool != null ? pool.user(user) : user;
+    }
+
+    private Chat readChat(FlatJsonReader reader) throws FlatJsonReader.SyntaxException {
+        Long id = null;
+        ChatType type = null;
+        String title = null;
+        String photoUrl = null;
+        String username = null;
+        Map<String, String> extra = null;
+
+        for (boolean hasField = reader.firstField(); hasField; hasField = reader.nextField()) {
+            final int idx = reader.fieldIndex(CHAT_PROPERTY_NAMES);
+            reader.readValue();
+            if (idx < 0) {
+                if (extra == null) { extra = new HashMap<>(); }
+                extra.put(reader.fieldName(pool), reader.extraValue());
+                continue;
+            }
+            switch (CHAT_PROPERTIES[idx]) {
+                case ID: id = reader.longValue(); break;
+                case TYPE: type = ChatType.fromValue(reader.textValue()); break;
+                case TITLE: title = reader.textValue(); break;
+                case PHOTO_URL: photoUrl = reader.textValue(); break;
+                case USERNAME: username = reader.textValue(); break;
+            }
+        }
+        reader.end();
+
+        if (id == null) { throw new JsonPropertyMissingException(Chat.class, Chat.Property.ID.value); }
+        if (type == null) { throw new JsonPropertyMissingException(Chat.class, Chat.Property.TYPE.value); }
+        if (title == null) { throw new JsonPropertyMissingException(Chat.class, Chat.Property.TITLE.value); }
+
+        final Chat chat = new Chat(id, type, title, photoUrl, username, extra);
+        return pool != null ? pool.chat(chat) : chat;
+    }
+
+    private static <P> String[] names(P[] properties, Function<P, String> value) {
+        final String[] names = new String[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            names[i] = value.apply(properties[i]);
+        }
+        return names;
+    }
+}
+
+/**
+ * Minimal pull reader of a single JSON object with scalar properties.
+ * <p>
+ * {@link #readValue()} consumes the value of the current property and remembers its kind and bounds; property names
+ * and string values are materialized only when requested, so known names and skipped values cost no allocation.
+ * Nested objects and arrays are validated and skipped, up to {@link #MAX_DEPTH} levels deep like Jackson's default
+ * {@code StreamReadConstraints}, so deeply nested input fails with {@link SyntaxException} instead of overflowing the stack.
+ */
+final class FlatJsonReader {
+    static final int MAX_DEPTH = 1000;
+
+    private static final int STRING = 0;
+    private static final int NUMBER = 1;
+    private static final int TRUE = 2;
+    private static final int FALSE = 3;
+    private static final int NULL = 4;
+    private static final int STRUCT = 5;
+
+    private final String input;
+    private int pos;
+    // nesting depth of the value being read, the top-level object being 1
+    private int depth = 1;
+    private int kind;
+    private int valueStart;
+    private int valueEnd;
+    private boolean valueEscaped;
+    private int nameStart;
+    private int nameEnd;
+    private boolean nameEscaped;
+
+    FlatJsonReader(String input) {
+        this.input = input;
+    }
+
+    /**
+     * Moves to the first property of the top-level object.
+     *
+     * @return {@code false} if there is none (including the case when the top-level value is not an object at all)
+     */
+    boolean firstField() throws SyntaxException {
+        skipWhitespace();
+        if (pos < input.length() && input.charAt(pos) == '{') {
+            pos++;
+            skipWhitespace();
+            if (pos < input.length() && input.charAt(pos) == '}') {
+                pos++;
+                return false;
+            }
+            skipFieldName();
+            return true;
+        }
+        readValue();
+        return false;
+    }
+
+    /**
+     * Moves to the next property.
+     *
+     * @return {@code false} once the object is closed
+     */
+    boolean nextField() throws SyntaxException {
+        skipWhitespace();
+        final char c = next();
+        if (c == '}') { return false; }
+        if (c != ',') { throw unexpected(c, "',' or '}'"); }
+        skipWhitespace();
+        skipFieldName();
+        return true;
+    }
+
+    /**
+     * @return index of the current property name in {@code names}, or {@code -1} if it is not there
+     */
+    int fieldIndex(String[] names) {
+        if (nameEscaped) {
+            final String name = fieldName();
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) { return i; }
+            }
+            return -1;
+        }
+        final int length = nameEnd - nameStart;
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].length() == length && input.startsWith(names[i], nameStart)) { return i; }
+        }
+        return -1;
+    }
+
+    String fieldName() {
+        return nameEscaped ? unescape(nameStart, nameEnd) : input.substring(nameStart, nameEnd);
+    }
+
+    /**
+     * Same as {@link #fieldName()}, canonicalized through {@code pool} if one is given.
+     */
+    String fieldName(@Nullable InternPool pool) {
+        if (pool == null) { return fieldName(); }
+        return nameEscaped ? pool.string(unescape(nameStart, nameEnd)) : pool.string(input, nameStart, nameEnd);
+    }
+
+    /**
+     * Checks that nothing but whitespace follows the top-level value.
+     */
+    void end() throws SyntaxException {
+        skipWhitespace();
+        if (pos < input.length()) { throw unexpected(next(), "end of input"); }
+    }
+
+    void readValue() throws SyntaxException {
+        skipWhitespace();
+        final char c = next();
+        switch (c) {
+            case '"':
+                kind = STRING;
+                valueStart = pos;
+                valueEscaped = skipString();
+                valueEnd = pos - 1;
+                return;
+            case '{':
+            case '[':
+                kind = STRUCT;
+                skipStruct(c);
+                return;
+            case 't':
+                kind = TRUE;
+                literal("rue");
+                return;
+            case 'f':
+                kind = FALSE;
+                literal("alse");
+                return;
+            case 'n':
+                kind = NULL;
+                literal("ull");
+                return;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    kind = NUMBER;
+                    valueStart = pos - 1;
+                    skipNumber();
+                    valueEnd = pos;
+                    return;
+                }
+                throw unexpected(c, "value");
+        }
+    }
+
+    // =================================================================================================================
+    // typed access to the last read value
+    // =================================================================================================================
+    /**
+     * @return text of the value; numbers and booleans as written, {@code ""} for objects and arrays
+     */
+    @Nullable String textValue() {
+        switch (kind) {
+            case STRING: return string();
+            case NUMBER: return input.substring(valueStart, valueEnd);
+            case TRUE: return "true";
+            case FALSE: return "false";
+            case STRUCT: return "";
+            default: return null;
+        }
+    }
+
+    /**
+     * Same as {@link #textValue()}, canonicalized through {@code pool} if one is given; an unescaped string is
+     * only copied out of the input when the pool doesn't hold it yet.
+     */
+    @Nullable String textValue(@Nullable InternPool pool) {
+        if (pool == null) { return textValue(); }
+        if (kind == STRING && !valueEscaped) { return pool.string(input, valueStart, valueEnd); }
+        return pool.string(textValue());
+    }
+
+    /**
+     * @return numeric value; fractional numbers are truncated, non-numeric strings, objects and arrays give {@code 0}
+     */
+    @Nullable Long longValue() {
+        switch (kind) {
+            case NUMBER: return integerValue();
+            case STRING: {
+                final String text = string().trim();
+                return isNumber(text) ? toLong(text) : 0L;
+            }
+            case TRUE: return 1L;
+            case NULL: return null;
+            default: return 0L;
+        }
+    }
+
+    /**
+     * @return boolean value; non-zero integers and {@code "true"} give {@code true}, other values {@code false}
+     */
+    @Nullable Boolean booleanValue() {
+        switch (kind) {
+            case TRUE: return true;
+            case NUMBER: {
+                final String text = input.substring(valueStart, valueEnd);
+                return isInteger(text) && new BigDecimal(text).signum() != 0;
+            }
+            case STRING: return "true".equals(string().trim());
+            case NULL: return null;
+            default: return false;
+        }
+    }
+
+    /**
+     * @return text of string values; {@code null} for any other value, as extras keep only strings
+     */
+    @Nullable String extraValue() {
+        return kind == STRING ? string() : null;
+    }
+
+    /**
+     * Parses the current number in place if it is an integer fitting into 18 digits, which covers all Telegram ids.
+     */
+    private long integerValue() {
+        final boolean negative = input.charAt(valueStart) == '-';
+        final int start = negative ? valueStart + 1 : valueStart;
+        if (valueEnd - start > 18) { return toLong(input.substring(valueStart, valueEnd)); }
+        long value = 0;
+        for (int i = start; i < valueEnd; i++) {
+            final char c = input.charAt(i);
+            if (c < '0' || c > '9') { return toLong(input.substring(valueStart, valueEnd)); }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private String string() {
+        return valueEscaped ? unescape(valueStart, valueEnd) : input.substring(valueStart, valueEnd);
+    }
+
+    private static long toLong(String number) {
+        if (isInteger(number) && number.length() <= 18) {
+            return Long.parseLong(number);
+        }
+        return new BigDecimal(number).longValue();
+    }
+
+    private static boolean isInteger(String number) {
+        for (int i = 0; i < number.length(); i++) {
+            final char c = number.charAt(i);
+            if ((c < '0' || c > '9') && !(i == 0 && c == '-')) { return false; }
+        }
+        return true;
+    }
+
+    private static boolean isNumber(String text) {
+        if (text.isEmpty()) { return false; }
+        try {
+            new BigDecimal(text);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    // =================================================================================================================
+    // scanning
+    // =================================================================================================================
+    private void skipFieldName() throws SyntaxException {
+        final char quote = next();
+        if (quote != '"') { throw unexpected(quote, "property name"); }
+        nameStart = pos;
+        nameEscaped = skipString();
+        nameEnd = pos - 1;
+        skipColon();
+    }
+
+    /**
+     * Same as {@link #skipFieldName()} for properties of nested objects, whose names are never needed.
+     */
+    private void skipNestedFieldName() throws SyntaxException {
+        final char quote = next();
+        if (quote != '"') { throw unexpected(quote, "property name"); }
+        skipString();
+        skipColon();
+    }
+
+    private void skipColon() throws SyntaxException {
+        skipWhitespace();
+        final char colon = next();
+        if (colon != ':') { throw unexpected(colon, "':'"); }
+    }
+
+    /**
+     * Moves past the closing quote of the string whose opening quote was just consumed.
+     *
+     * @return whether the string contains escape sequences
+     */
+    private boolean skipString() throws SyntaxException {
+        boolean escaped = false;
+        while (true) {
+            final char c = next();
+            if (c == '"') { return escaped; }
+            if (c == '\\') {
+                escaped = true;
+                final char e = next();
+                if (e == 'u') {
+                    for (int i = 0; i < 4; i++) {
+                        final char h = next();
+                        if (Character.digit(h, 16) < 0) { throw unexpected(h, "hex digit"); }
+                    }
+                } else if ("\"\\/bfnrt".indexOf(e) < 0) {
+                    throw unexpected(e, "escape character");
+                }
+            } else if (c < 0x20) {
+                throw unexpected(c, "closing quote");
+            }
+        }
+    }
+
+    private String unescape(int start, int end) {
+        final StringBuilder sb = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            final char c = input.charAt(i);
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            final char e = input.charAt(++i);
+            switch (e) {
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case 'u':
+                    sb.append((char) Integer.parseInt(input.substring(i + 1, i + 5), 16));
+                    i += 4;
+                    break;
+                default: sb.append(e);
+            }
+        }
+        return sb.toString();
+    }
+
+    private void skipNumber() throws SyntaxException {
+        if (input.charAt(pos - 1) == '-') {
+            final char first = next();
+            if (first < '0' || first > '9') { throw unexpected(first, "digit"); }
+        }
+        if (input.charAt(pos - 1) != '0') { skipDigits(); }
+        if (pos < input.length() && input.charAt(pos) == '.') {
+            pos++;
+            requireDigits();
+        }
+        if (pos < input.length() && (input.charAt(pos) == 'e' || input.charAt(pos) == 'E')) {
+            pos++;
+            if (pos < input.length() && (input.charAt(pos) == '+' || input.charAt(pos) == '-')) { pos++; }
+            requireDigits();
+        }
+    }
+
+    private void requireDigits() throws SyntaxException {
+        final char c = next();
+        if (c < '0' || c > '9') { throw unexpected(c, "digit"); }
+        skipDigits();
+    }
+
+    private void skipDigits() {
+        while (pos < input.length() && input.charAt(pos) >= '0' && input.charAt(pos) <= '9') { pos++; }
+    }
+
+    /**
+     * Skips the object or array whose opening bracket was just consumed.
+     */
+    private void skipStruct(char open) throws SyntaxException {
+        if (++depth > MAX_DEPTH) {
+            throw new SyntaxException("Nesting depth exceeds " + MAX_DEPTH + " at position " + (pos - 1));
+        }
+        final char close = open == '{' ? '}' : ']';
+        skipWhitespace();
+        if (pos < input.length() && input.charAt(pos) == close) {
+            pos++;
+            depth--;
+            return;
+        }
+        while (true) {
+            if (open == '{') { skipNestedFieldName(); }
+            final int kind = this.kind;
+            readValue();
+            this.kind = kind;
+            skipWhitespace();
+            final char c = next();
+            if (c == close) {
+                depth--;
+                return;
+            }
+            if (c != ',') { throw unexpected(c, "',' or '" + close + "'"); }
+            skipWhitespace();
+        }
+    }
+
+    private void literal(String rest) throws SyntaxException {
+        if (!input.startsWith(rest, pos)) {
+            throw new SyntaxException("Unrecognized token at position " + (pos - 1));
+        }
+        pos += rest.length();
+    }
+
+    private void skipWhitespace() {
+        while (pos < input.length()) {
+            final char c = input.charAt(pos);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') { return; }
+            pos++;
+        }
+    }
+
+    private char next() throws SyntaxException {
+        if (pos >= input.length()) {
+            throw new SyntaxException("Unexpected end of input at position " + pos);
+        }
+        return input.charAt(pos++);
+    }
+
+    private SyntaxException unexpected(char c, String expected) {
+        return new SyntaxException("Unexpected character '" + c + "' at position " + (pos - 1) + ", expected " + expected);
+    }
+
+    static final class SyntaxException extends Exception {
+        SyntaxException(String message) {
+            super(message);
+        }
+    }
+}
@@ -61,7 +61,7 @@ public class Chat {
         this.title = title;
         this.photoUrl = photoUrl;
         this.username = username;
-        this.extra = extra == null ? Map.of() : extra;
+        this.extra = extra == null || extra.isEmpty() ? Map.of() : extra;
     }
 
     public Chat(
@@ -95,7 +95,15 @@ public class Chat {
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, type, title, photoUrl, username, extra);
+        // same value as Objects.hash over all fields, without boxing; not cached, as an int field would take
+        // the otherwise unpadded instance to the next 8-byte boundary
+        int result = 1;
+        result = 31 * result + Long.hashCode(id);
+        result = 31 * result + Objects.hashCode(type);
+        result = 31 * result + Objects.hashCode(title);
+        result = 31 * result + Objects.hashCode(photoUrl);
+        result = 31 * result + Objects.hashCode(username);
+        return 31 * result + extra.hashCode();
     }
 
     @Override
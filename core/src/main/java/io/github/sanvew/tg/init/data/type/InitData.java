@@ -0,0 +1,260 @@
+package io.github.sanvew.tg.init.data.type;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Represents the full set of Telegram Init Data parameters passed to a Web App.
+ * <p>
+ * This class models all known fields provided by Telegram, including both required and optional values.
+ * It is intended to be used for parsing, validating, and working with authenticated init data payloads.
+ * <p>
+ * Instances returned by the lazy parsing methods (e.g. {@code InitDataUtils.parseLazy}) override
+ * {@link #getUser()}, {@link #getChat()} and {@link #getReceiver()} to decode the JSON on first access,
+ * so {@code equals}, {@code hashCode} and {@code toString} go through the getters.
+ * <p>
+ * A {@code hash} of 64 lowercase hex characters, the form Telegram sends, is kept as four {@code long}s
+ * rather than a {@code String}; {@link #getHash()} encodes it back on the first call only, and {@code equals} and
+ * {@code hashCode} work on the packed form.
+ *
+ * @see <a href="https://docs.telegram-mini-apps.com/platform/init-data#parameters-list">Telegram Init Data – Parameters List</a>
+ */public class InitData {
+    private static final int HASH_LENGTH = 64;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    public enum Param {
+        AUTH_DATE("auth_date"),
+        CAN_SEND_AFTER("can_send_after"),
+        CHAT("chat"),
+        CHAT_TYPE("chat_type"),
+        CHAT_INSTANCE("chat_instance"),
+        HASH("hash"),
+        QUERY_ID("query_id"),
+        RECEIVER("receiver"),
+        START_PARAM("start_param"),
+        USER("user"),
+        ;
+        public final String value;
+
+        Param(String value) {
+            this.value = value;
+        }
+    }
+
+    private final long authDate;
+    private final Long canSendAfter;
+    private final Chat chat;
+    private final ChatType chatType;
+    private final String chatInstance;
+    // encoded lazily from hash0..hash3 when packedHash is set
+    private String hash;
+    private final boolean packedHash;
+    // the 32 bytes of the hash, big-endian; used only when packedHash is set
+    private final long hash0;
+    private final long hash1;
+    private final long hash2;
+    private final long hash3;
+    private final String queryId;
+    private final User receiver;
+    private final String startParam;
+    private final User user;
+    private final Map<String, String> extra;
+    private int cachedHashCode;
+
+    public InitData(
+            long authDate,
+            @Nullable Long canSendAfter,
+            @Nullable Chat chat,
+            @Nullable ChatType chatType,
+            @Nullable String chatInstance,
+            @NotNull String hash,
+            @Nullable String queryId,
+            @Nullable User receiver,
+            @Nullable String startParam,
+            @Nullable User user,
+            @Nullable Map<String, String> extra
+    ) {
+        this.authDate = authDate;
+        this.canSendAfter = canSendAfter;
+        this.chat = chat;
+        this.chatType = chatType;
+        this.chatInstance = chatInstance;
+        this.packedHash = isLowerHex(hash);
+        if (packedHash) {
+            this.hash0 = parseHex(hash, 0);
+            this.hash1 = parseHex(hash, 16);
+            this.hash2 = parseHex(hash, 32);
+            this.hash3 = parseHex(hash, 48);
+        } else {
+            this.hash = hash;
+            this.hash0 = this.hash1 = this.hash2 = this.hash3 = 0;
+        }
+        this.queryId = queryId;
+        this.receiver = receiver;
+        this.startParam = startParam;
+        this.user = user;
+        this.extra = extra == null || extra.isEmpty() ? Map.of() : extra;
+    }
+
+    public InitData(
+            long authDate,
+            @Nullable Long canSendAfter,
+            @Nullable Chat chat,
+            @Nullable ChatType chatType,
+            @Nullable String chatInstance,
+            @NotNull String hash,
+            @Nullable String queryId,
+            @Nullable User receiver,
+            @Nullable String startParam,
+            @Nullable User user
+    ) {
+        this(authDate, canSendAfter, chat, chatType, chatInstance, hash, queryId, receiver, startParam, user, null);
+    }
+
+    public long getAuthDate() { return authDate; }
+    public @Nullable Long getCanSendAfter() { return canSendAfter; }
+    public @Nullable Chat getChat() { return chat; }
+    public @Nullable ChatType getChatType() { return chatType; }
+    public @Nullable String getChatInstance() { return chatInstance; }
+    public @NotNull String getHash() {
+        String result = hash;
+        if (result == null && packedHash) {
+            // racy single-check: at worst a few threads encode the same immutable String
+            result = formatHash();
+            hash = result;
+        }
+        return result;
+    }
+    public @Nullable String getQueryId() { return queryId; }
+    public @Nullable User getReceiver() { return receiver; }
+    public @Nullable String getStartParam() { return startParam; }
+    public @Nullable User getUser() { return user; }
+    public @NotNull Map<String, String> getExtra() { return extra; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof InitData)) return false;
+        InitData initData = (InitData) o;
+        return getAuthDate() == initData.getAuthDate()
+                && Objects.equals(getCanSendAfter(), initData.getCanSendAfter())
+                && Objects.equals(getChat(), initData.getChat())
+                && getChatType() == initData.getChatType()
+                && Objects.equals(getChatInstance(), initData.getChatInstance())
+                && hashEquals(initData)
+                && Objects.equals(getQueryId(), initData.getQueryId())
+                && Objects.equals(getReceiver(), initData.getReceiver())
+                && Objects.equals(getStartParam(), initData.getStartParam())
+                && Objects.equals(getUser(), initData.getUser())
+                && Objects.equals(getExtra(), initData.getExtra());
+    }
+
+    @Override
+    public int hashCode() {
+        // same value as Objects.hash over all getters, computed once and without boxing
+        int result = cachedHashCode;
+        if (result == 0) {
+            result = 1;
+            result = 31 * result + Long.hashCode(getAuthDate());
+            result = 31 * result + Objects.hashCode(getCanSendAfter());
+            result = 31 * result + Objects.hashCode(getChat());
+            result = 31 * result + Objects.hashCode(getChatType());
+            result = 31 * result + Objects.hashCode(getChatInstance());
+            result = 31 * result + hashOfHash();
+            result = 31 * result + Objects.hashCode(getQueryId());
+            result = 31 * result + Objects.hashCode(getReceiver());
+            result = 31 * result + Objects.hashCode(getStartParam());
+            result = 31 * result + Objects.hashCode(getUser());
+            result = 31 * result + getExtra().hashCode();
+            cachedHashCode = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "InitData{" +
+                "authDate=" + getAuthDate() +
+                ", canSendAfter=" + getCanSendAfter() +
+                ", chat=" + getChat() +
+                ", chatType=" + getChatType() +
+                ", chatInstance='" + getChatInstance() + '\'' +
+                ", hash='" + getHash() + '\'' +
+                ", queryId='" + getQueryId() + '\'' +
+                ", receiver=" + getReceiver() +
+                ", startParam='" + getStartParam() + '\'' +
+                ", user=" + getUser() +
+                ", extra=" + getExtra() +
+                '}';
+    }
+
+    // =================================================================================================================
+    // packed hash
+    // =================================================================================================================
+    private boolean hashEquals(InitData other) {
+        if (packedHash && other.packedHash) {
+            return hash0 == other.hash0 && hash1 == other.hash1 && hash2 == other.hash2 && hash3 == other.hash3;
+        }
+        return Objects.equals(getHash(), other.getHash());
+    }
+
+    /**
+     * @return {@code getHash().hashCode()}, computed from the packed form without encoding it
+     */
+    private int hashOfHash() {
+        if (!packedHash || hash != null) {
+            return Objects.hashCode(getHash());
+        }
+        return hexHashCode(hexHashCode(hexHashCode(hexHashCode(0, hash0), hash1), hash2), hash3);
+    }
+
+    /**
+     * @return {@link String#hashCode()} of a string starting with chars hashed to {@code result}
+     *         and followed by the 16 hex digits of {@code value}
+     */
+    private static int hexHashCode(int result, long value) {
+        for (int shift = 60; shift >= 0; shift -= 4) {
+            result = 31 * result + HEX_DIGITS[(int) (value >>> shift) & 0xf];
+        }
+        return result;
+    }
+
+    private String formatHash() {
+        final char[] chars = new char[HASH_LENGTH];
+        formatHex(hash0, chars, 0);
+        formatHex(hash1, chars, 16);
+        formatHex(hash2, chars, 32);
+        formatHex(hash3, chars, 48);
+        return new String(chars);
+    }
+
+    private static void formatHex(long value, char[] chars, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            chars[offset + i] = HEX_DIGITS[(int) value & 0xf];
+            value >>>= 4;
+        }
+    }
+
+    private static long parseHex(String hex, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 16; i++) {
+            value = (value << 4) | Character.digit(hex.charAt(i), 16);
+        }
+        return value;
+    }
+
+    private static boolean isLowerHex(String hash) {
+        if (hash == null || hash.length() != HASH_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < HASH_LENGTH; i++) {
+            final char c = hash.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
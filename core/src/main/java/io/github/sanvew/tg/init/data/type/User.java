@@ -46,17 +46,21 @@ import java.util.stream.Collectors;
         }
     }
 
-    private final Boolean addedToAttachmentMenu;
-    private final Boolean allowsWriteToPm;
-    private final Boolean isPremium;
-    private final String firstName;
+    // every optional boolean takes two bits of FLAGS: "present" and its value
+    private static final int ADDED_TO_ATTACHMENT_MENU = 0;
+    private static final int ALLOWS_WRITE_TO_PM = 2;
+    private static final int IS_PREMIUM = 4;
+    private static final int IS_BOT = 6;
+
     private final long id;
-    private final Boolean isBot;
+    private final String firstName;
     private final String lastName;
     private final String languageCode;
     private final String photoUrl;
     private final String username;
     private final Map<String, String> extra;
+    private final byte flags;
+    private int cachedHashCode;
 
     public User(
             @Nullable Boolean addedToAttachmentMenu,
@@ -71,17 +75,17 @@ import java.util.stream.Collectors;
             @Nullable String username,
             @Nullable Map<String, String> extra
     ) {
-        this.addedToAttachmentMenu = addedToAttachmentMenu;
-        this.allowsWriteToPm = allowsWriteToPm;
-        this.isPremium = isPremium;
+        this.flags = (byte) (flag(addedToAttachmentMenu, ADDED_TO_ATTACHMENT_MENU)
+                | flag(allowsWriteToPm, ALLOWS_WRITE_TO_PM)
+                | flag(isPremium, IS_PREMIUM)
+                | flag(isBot, IS_BOT));
         this.firstName = firstName;
         this.id = id;
-        this.isBot = isBot;
         this.lastName = lastName;
         this.languageCode = languageCode;
         this.photoUrl = photoUrl;
         this.username = username;
-        this.extra = extra == null ? Map.of() : extra;
+        this.extra = extra == null || extra.isEmpty() ? Map.of() : extra;
     }
 
     public User(
@@ -102,12 +106,12 @@ import java.util.stream.Collectors;
         );
     }
 
-    public @Nullable Boolean isAddedToAttachmentMenu() { return addedToAttachmentMenu; }
-    public @Nullable Boolean allowsWriteToPm() { return allowsWriteToPm; }
-    public @Nullable Boolean isPremium() { return isPremium; }
+    public @Nullable Boolean isAddedToAttachmentMenu() { return flag(ADDED_TO_ATTACHMENT_MENU); }
+    public @Nullable Boolean allowsWriteToPm() { return flag(ALLOWS_WRITE_TO_PM); }
+    public @Nullable Boolean isPremium() { return flag(IS_PREMIUM); }
     public @NotNull String getFirstName() { return firstName; }
     public long getId() { return id; }
-    public @Nullable Boolean isBot() { return isBot; }
+    public @Nullable Boolean isBot() { return flag(IS_BOT); }
     public @Nullable String getLastName() { return lastName; }
     public @Nullable String getLanguageCode() { return languageCode; }
     public @Nullable String getPhotoUrl() { return photoUrl; }
@@ -119,11 +123,8 @@ import java.util.stream.Collectors;
         if (!(o instanceof User)) return false;
         User user = (User) o;
         return id == user.id
-                && Objects.equals(addedToAttachmentMenu, user.addedToAttachmentMenu)
-                && Objects.equals(allowsWriteToPm, user.allowsWriteToPm)
-                && Objects.equals(isPremium, user.isPremium)
+                && flags == user.flags
                 && Objects.equals(firstName, user.firstName)
-                && Objects.equals(isBot, user.isBot)
                 && Objects.equals(lastName, user.lastName)
                 && Objects.equals(languageCode, user.languageCode)
                 && Objects.equals(photoUrl, user.photoUrl)
@@ -133,21 +134,35 @@ import java.util.stream.Collectors;
 
     @Override
     public int hashCode() {
-        return Objects.hash(
-                addedToAttachmentMenu, allowsWriteToPm, isPremium, firstName, id, isBot, lastName, languageCode,
-                photoUrl, username, extra
-        );
+        // same value as Objects.hash over all fields, computed once and without boxing
+        int result = cachedHashCode;
+        if (result == 0) {
+            result = 1;
+            result = 31 * result + Objects.hashCode(isAddedToAttachmentMenu());
+            result = 31 * result + Objects.hashCode(allowsWriteToPm());
+            result = 31 * result + Objects.hashCode(isPremium());
+            result = 31 * result + Objects.hashCode(firstName);
+            result = 31 * result + Long.hashCode(id);
+            result = 31 * result + Objects.hashCode(isBot());
+            result = 31 * result + Objects.hashCode(lastName);
+            result = 31 * result + Objects.hashCode(languageCode);
+            result = 31 * result + Objects.hashCode(photoUrl);
+            result = 31 * result + Objects.hashCode(username);
+            result = 31 * result + extra.hashCode();
+            cachedHashCode = result;
+        }
+        return result;
     }
 
     @Override
     public String toString() {
         return "User{" +
-                "addedToAttachmentMenu=" + addedToAttachmentMenu +
-                ", allowsWriteToPm=" + allowsWriteToPm +
-                ", isPremium=" + isPremium +
+                "addedToAttachmentMenu=" + isAddedToAttachmentMenu() +
+                ", allowsWriteToPm=" + allowsWriteToPm() +
+                ", isPremium=" + isPremium() +
                 ", firstName='" + firstName + '\'' +
                 ", id=" + id +
-                ", isBot=" + isBot +
+                ", isBot=" + isBot() +
                 ", lastName='" + lastName + '\'' +
                 ", languageCode='" + languageCode + '\'' +
                 ", photoUrl='" + photoUrl + '\'' +
@@ -155,4 +170,13 @@ import java.util.stream.Collectors;
                 ", extra=" + extra +
                 '}';
     }
-}
\ No newline at end of file
+
+    private static int flag(Boolean value, int shift) {
+        return value == null ? 0 : (value ? 0b11 : 0b01) << shift;
+    }
+
+    private Boolean flag(int shift) {
+        final int bits = flags >> shift;
+        return (bits & 0b01) == 0 ? null : Boolean.valueOf((bits & 0b10) != 0);
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.sanvew.tg.init.data;
+
+/**
+ * Id of the current thread, used to spread threads over the slots of a {@link Pool}.
+ * <p>
+ * Java 21+ variant of the class, packaged under {@code META-INF/versions/21} of the multi-release jar.
+ */
+final class ThreadIds {
+    private ThreadIds() {}
+
+    /**
+     * @return non-negative id of the current thread
+     */
+    static long current() {
+        return Thread.currentThread().threadId();
+    }
+}
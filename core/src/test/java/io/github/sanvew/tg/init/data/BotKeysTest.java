@@ -0,0 +1,53 @@
+package io.github.sanvew.tg.init.data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.github.sanvew.tg.init.data.InitDataValidatorTest.STUB_BOT_TOKEN;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotKeysTest {
+    @Nested
+    class constructorTest {
+        @Test
+        void constructor_withoutTokens_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> new BotKeys((List<String>) null));
+            assertThrows(IllegalArgumentException.class, () -> new BotKeys(List.of()));
+            assertThrows(IllegalArgumentException.class, () -> new BotKeys((String) null));
+            assertThrows(IllegalArgumentException.class, () -> new BotKeys(" "));
+            assertThrows(IllegalArgumentException.class, () -> new BotKeys(Arrays.asList(STUB_BOT_TOKEN, null)));
+        }
+
+        @Test
+        void constructor_withTokens_keepsOrder() {
+            final BotKeys keys = new BotKeys(List.of(STUB_BOT_TOKEN, "1:OTHER"));
+
+            assertEquals(2, keys.size());
+            assertSame(keys, keys.current());
+            assertArrayEquals(new BotKeys(STUB_BOT_TOKEN).newHmac(0).doFinal(), keys.newHmac(0).doFinal());
+            assertFalse(Arrays.equals(keys.newHmac(0).doFinal(), keys.newHmac(1).doFinal()));
+        }
+
+        @Test
+        void acquireHmac_afterRelease_reusesInstance() {
+            final BotKeys keys = new BotKeys(List.of(STUB_BOT_TOKEN, "1:OTHER"));
+            final Mac primary = keys.acquireHmac(0);
+            final byte[] expected = keys.newHmac(0).doFinal();
+            assertArrayEquals(expected, primary.doFinal());
+            keys.releaseHmac(0, primary);
+
+            assertSame(primary, keys.acquireHmac(0));
+            assertNotSame(primary, keys.acquireHmac(1));
+            assertArrayEquals(expected, primary.doFinal());
+        }
+
+        @Test
+        void toString_doesNotExposeTokens() {
+            assertFalse(new BotKeys(STUB_BOT_TOKEN).toString().contains("TEST_FAKE"));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.sanvew.tg.init.data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+
+import static io.github.sanvew.tg.init.data.InitDataValidatorTest.STUB_BOT_TOKEN;
+import static io.github.sanvew.tg.init.data.InitDataValidatorTest.STUB_VALID_INIT_DATA;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileBotKeySourceTest {
+    static final String OTHER_BOT_TOKEN = "987654321:OTHER_FAKE_BOT_TOKEN_EXAMPLE";
+
+    @TempDir
+    Path dir;
+
+    Path write(String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content);
+    }
+
+    /** Replaces {@code file} atomically, the way a deployment tool should. */
+    void replace(Path file, String content) throws IOException {
+        final Path tmp = write(file.getFileName() + ".tmp", content);
+        Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Nested
+    class constructorTest {
+        @Test
+        void constructor_withTokenFile_readsTokensInOrder() throws IOException {
+            final Path file = write("tokens", "# bot tokens\n\n" + OTHER_BOT_TOKEN + "\n  " + STUB_BOT_TOKEN + "  \n");
+
+            try (FileBotKeySource underTest = new FileBotKeySource(file)) {
+                final InitDataValidator validator = new InitDataValidator(underTest, null, null);
+
+                assertEquals(2, underTest.current().size());
+                assertEquals(1, validator.validate(STUB_VALID_INIT_DATA).getKeyIndex());
+            }
+        }
+
+        @Test
+        void constructor_withInvalidArguments_throws() throws IOException {
+            final Path empty = write("empty", "# no tokens\n");
+            final Path file = write("tokens", STUB_BOT_TOKEN);
+
+            assertThrows(IllegalArgumentException.class, () -> new FileBotKeySource(null));
+            assertThrows(IllegalArgumentException.class, () -> new FileBotKeySource(empty));
+            assertThrows(UncheckedIOException.class, () -> new FileBotKeySource(dir.resolve("missing")));
+            assertThrows(IllegalArgumentException.class, () -> new FileBotKeySource(file, Duration.ZERO));
+            assertThrows(IllegalArgumentException.class, () -> new FileBotKeySource(file, null));
+        }
+    }
+
+    @Nested
+    class reloadTest {
+        @Test
+        void reload_afterFileChange_publishesNewKeys() throws IOException {
+            final Path file = write("tokens", OTHER_BOT_TOKEN);
+
+            try (FileBotKeySource underTest = new FileBotKeySource(file)) {
+                final InitDataValidator validator = new InitDataValidator(underTest, null, null);
+                assertFalse(validator.isValid(STUB_VALID_INIT_DATA));
+
+                replace(file, STUB_BOT_TOKEN + "\n" + OTHER_BOT_TOKEN);
+                underTest.reload();
+
+                assertTrue(validator.isValid(STUB_VALID_INIT_DATA));
+                assertEquals(0, validator.validate(STUB_VALID_INIT_DATA).getKeyIndex());
+            }
+        }
+
+        @Test
+        void reload_withEmptyFile_keepsCurrentKeys() throws IOException {
+            final Path file = write("tokens", STUB_BOT_TOKEN);
+
+            try (FileBotKeySource underTest = new FileBotKeySource(file)) {
+                final BotKeys before = underTest.current();
+
+                replace(file, "\n");
+
+                assertThrows(IllegalArgumentException.class, underTest::reload);
+                assertSame(before, underTest.current());
+            }
+        }
+
+        @Test
+        void poll_afterFileChange_publishesNewKeys() throws Exception {
+            final Path file = write("tokens", OTHER_BOT_TOKEN);
+
+            try (FileBotKeySource underTest = new FileBotKeySource(file, Duration.ofMillis(10))) {
+                final BotKeys before = underTest.current();
+
+                replace(file, STUB_BOT_TOKEN);
+
+                final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+                while (underTest.current() == before && System.nanoTime() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertNotSame(before, underTest.current());
+                assertTrue(new InitDataValidator(underTest, null, null).isValid(STUB_VALID_INIT_DATA));
+            }
+        }
+    }
+}
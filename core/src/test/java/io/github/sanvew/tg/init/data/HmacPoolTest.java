@@ -0,0 +1,48 @@
+package io.github.sanvew.tg.init.data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HmacPoolTest {
+    @Nested
+    class signTest {
+        @Test
+        void sign_matchesJceHmac() {
+            final byte[] message = "auth_date=1749945600&user=123".getBytes(StandardCharsets.UTF_8);
+            for (int keyLength : new int[]{1, 32, 64, 65, 200}) {
+                final byte[] key = new byte[keyLength];
+                Arrays.fill(key, (byte) keyLength);
+                final HmacPool.Hmac hmac = new HmacPool(key, 8, 1).acquire();
+
+                for (int length : new int[]{0, 8, message.length}) {
+                    hmac.sign(message, length);
+
+                    assertArrayEquals(
+                            InitDataUtils.hmacSHA256(key).doFinal(Arrays.copyOf(message, length)),
+                            hmac.digest,
+                            "key length " + keyLength + ", message length " + length
+                    );
+                }
+            }
+        }
+    }
+
+    @Nested
+    class acquireTest {
+        final HmacPool underTest = new HmacPool(new byte[32], 16, 2);
+
+        @Test
+        void acquire_afterRelease_reusesInstance() {
+            final HmacPool.Hmac hmac = underTest.acquire();
+            underTest.release(hmac);
+
+            assertSame(hmac, underTest.acquire());
+            assertEquals(16, hmac.buffer.length);
+        }
+    }
+}
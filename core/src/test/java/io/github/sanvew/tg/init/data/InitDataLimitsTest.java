@@ -0,0 +1,139 @@
+package io.github.sanvew.tg.init.data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import io.github.sanvew.tg.init.data.exception.AuthDateInvalidException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static io.github.sanvew.tg.init.data.InitDataValidatorTest.STUB_AUTH_DATE;
+import static io.github.sanvew.tg.init.data.InitDataValidatorTest.STUB_VALID_INIT_DATA;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InitDataLimitsTest {
+    static final String STUB_HASH = "d88ca7df91a7a28bb3b34857ed9e0ec4d99dfa2bf81fd9321e21e3abf84a8ae3";
+
+    @Nested
+    class constructorTest {
+        @Test
+        void constructor_withNonPositiveLimits_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> new InitDataLimits(0, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> new InitDataLimits(1, -1, 1));
+            assertThrows(IllegalArgumentException.class, () -> new InitDataLimits(1, 1, 0));
+        }
+
+        @Test
+        void constructor_withValidLimits_keepsThem() {
+            final InitDataLimits limits = new InitDataLimits(100, 5, 50);
+
+            assertEquals(100, limits.getMaxLength());
+            assertEquals(5, limits.getMaxPairs());
+            assertEquals(50, limits.getMaxValueLength());
+        }
+    }
+
+    @Nested
+    class checkTest {
+        final Clock clock = Clock.fixed(Instant.ofEpochSecond(STUB_AUTH_DATE + 60), ZoneOffset.UTC);
+        final Duration expiresIn = Duration.ofHours(1);
+        final InitDataLimits underTest = new InitDataLimits(1024, 8, 512);
+
+        ValidationResult check(String initData) {
+            return underTest.check(InitDataTokens.source(initData), expiresIn, clock);
+        }
+
+        @Test
+        void check_withValidInitData_returnsNull() {
+            assertNull(check(STUB_VALID_INIT_DATA));
+            assertNull(InitDataLimits.DEFAULT.check(InitDataTokens.source(STUB_VALID_INIT_DATA), expiresIn, clock));
+        }
+
+        @Test
+        void check_withBadSignature_returnsNull() {
+            assertNull(check(STUB_VALID_INIT_DATA.replace("referral123", "referral124")));
+        }
+
+        @Test
+        void check_withByteInput_matchesStringInput() {
+            final byte[] bytes = STUB_VALID_INIT_DATA.getBytes(StandardCharsets.UTF_8);
+            final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+            final byte[] tooLong = ("auth_date=" + STUB_AUTH_DATE + "&hash=" + STUB_HASH + "&x=" + "a".repeat(1024))
+                    .getBytes(StandardCharsets.UTF_8);
+
+            assertNull(underTest.check(InitDataTokens.source(bytes, 0, bytes.length), expiresIn, clock));
+            assertNull(underTest.check(InitDataTokens.source(direct), expiresIn, clock));
+            assertEquals(ValidationStatus.MALFORMED,
+                    underTest.check(InitDataTokens.source(tooLong, 0, tooLong.length), expiresIn, clock).getStatus());
+        }
+
+        @Test
+        void check_exceedingLimits_returnsMalformed() {
+            final String valid = "auth_date=" + STUB_AUTH_DATE + "&hash=" + STUB_HASH;
+
+            assertEquals(ValidationStatus.MALFORMED, check(valid + "&x=" + "a".repeat(1024)).getStatus());
+            assertEquals(ValidationStatus.MALFORMED, check(valid + "&user=" + "a".repeat(513)).getStatus());
+            assertEquals(ValidationStatus.MALFORMED, check(valid + "&a&b&c&d&e&f&g").getStatus());
+            assertNull(check(valid + "&user=" + "a".repeat(512)));
+            assertNull(check(valid + "&a&b&c&d&e&f&&&"));
+        }
+
+        @Test
+        void check_withMalformedHash_returnsSignatureStatus() {
+            final String authDate = "auth_date=" + STUB_AUTH_DATE;
+
+            assertEquals(ValidationStatus.SIGNATURE_MISSING, check(authDate).getStatus());
+            assertEquals(ValidationStatus.SIGNATURE_MISSING, check(authDate + "&hash=").getStatus());
+            assertEquals(ValidationStatus.SIGNATURE_MISSING, check(authDate + "&hash").getStatus());
+            assertEquals(ValidationStatus.BAD_SIGNATURE, check(authDate + "&hash=" + STUB_HASH.toUpperCase()).getStatus());
+            assertEquals(ValidationStatus.BAD_SIGNATURE, check(authDate + "&hash=" + STUB_HASH.substring(2)).getStatus());
+            assertEquals(ValidationStatus.BAD_SIGNATURE, check(authDate + "&hash=" + STUB_HASH + "0").getStatus());
+        }
+
+        @Test
+        void check_withDuplicatedHash_usesLastOccurrence() {
+            final String authDate = "auth_date=" + STUB_AUTH_DATE;
+
+            assertNull(check("hash=zz&" + authDate + "&hash=" + STUB_HASH));
+            assertEquals(ValidationStatus.BAD_SIGNATURE, check("hash=" + STUB_HASH + "&" + authDate + "&hash=zz").getStatus());
+        }
+
+        @Test
+        void check_withImplausibleAuthDate_returnsAuthDateStatus() {
+            final String hash = "&hash=" + STUB_HASH;
+
+            assertEquals(ValidationStatus.AUTH_DATE_MISSING, check(hash.substring(1)).getStatus());
+            assertEquals(ValidationStatus.AUTH_DATE_MISSING, check("auth_date=" + hash).getStatus());
+            assertEquals(ValidationStatus.AUTH_DATE_INVALID, check("auth_date=-1" + hash).getStatus());
+            assertEquals(ValidationStatus.AUTH_DATE_INVALID, check("auth_date=17e8" + hash).getStatus());
+            assertEquals(ValidationStatus.AUTH_DATE_INVALID, check("auth_date=" + "9".repeat(18) + hash).getStatus());
+            assertEquals(ValidationStatus.AUTH_DATE_INVALID, check("auth_date=" + "1".repeat(19) + hash).getStatus());
+
+            final ValidationResult invalid = check("auth_date=abc" + hash);
+            assertEquals(ValidationStatus.AUTH_DATE_INVALID, invalid.getStatus());
+            assertEquals("abc", assertThrows(AuthDateInvalidException.class, invalid::orThrow).getInvalidAuthDate());
+        }
+
+        @Test
+        void check_withExpiredAuthDate_returnsExpiredWithDetails() {
+            final ValidationResult result = check("auth_date=" + (STUB_AUTH_DATE - 7200) + "&hash=" + STUB_HASH);
+
+            assertEquals(ValidationStatus.EXPIRED, result.getStatus());
+            assertEquals(STUB_AUTH_DATE - 7200, result.getAuthDate());
+            assertEquals(STUB_AUTH_DATE - 3600, result.getExpiresAt());
+            assertEquals(STUB_AUTH_DATE + 60, result.getNow());
+        }
+
+        @Test
+        void check_withoutExpiresIn_ignoresAuthDate() {
+            final String hash = "hash=" + STUB_HASH;
+
+            assertNull(underTest.check(InitDataTokens.source(hash), null, clock));
+            assertNull(underTest.check(InitDataTokens.source("auth_date=abc&" + hash), null, clock));
+        }
+    }
+}
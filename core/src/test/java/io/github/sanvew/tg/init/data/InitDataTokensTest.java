@@ -0,0 +1,191 @@
+package io.github.sanvew.tg.init.data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import io.github.sanvew.tg.init.data.type.InitData;
+
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InitDataTokensTest {
+    @Nested
+    class tokenizeTest {
+        @Test
+        void tokenize_withKnownParams_mapsToSlots() {
+            final InitDataTokens underTest = InitDataTokens.tokenize(
+                    "auth_date=1749945600&hash=abc&start_param=a%20b+c&user=%7B%22id%22%3A1%7D"
+            );
+
+            assertEquals("1749945600", underTest.get(InitData.Param.AUTH_DATE));
+            assertEquals("abc", underTest.get(InitData.Param.HASH));
+            assertEquals("a b c", underTest.get(InitData.Param.START_PARAM));
+            assertEquals("{\"id\":1}", underTest.get(InitData.Param.USER));
+            assertFalse(underTest.contains(InitData.Param.CHAT));
+            assertNull(underTest.get(InitData.Param.CHAT));
+            assertEquals(Map.of(), underTest.extra());
+        }
+
+        @Test
+        void tokenize_withUnknownParams_keepsExtra() {
+            final InitDataTokens underTest = InitDataTokens.tokenize("foo=bar&auth_date=1&b%61z=q%C3%BCx&flag");
+
+            final Map<String, String> expected = new HashMap<>();
+            expected.put("foo", "bar");
+            expected.put("baz", "qüx");
+            expected.put("flag", null);
+            assertEquals(expected, underTest.extra());
+        }
+
+        @Test
+        void tokenize_withoutExtras_skipsUnknownParams() {
+            final InitDataTokens underTest = InitDataTokens.tokenize("foo=bar&auth_date=1&b%61z=%zz&flag&&hash=abc", false);
+
+            assertEquals("1", underTest.get(InitData.Param.AUTH_DATE));
+            assertEquals("abc", underTest.get(InitData.Param.HASH));
+            assertEquals(0, underTest.extraCount());
+            assertEquals(Map.of(), underTest.extra());
+        }
+
+        @Test
+        void tokenize_withDuplicatedKeys_lastOccurrenceWins() {
+            final InitDataTokens underTest = InitDataTokens.tokenize("hash=a&foo=1&hash=b&foo=2");
+
+            assertEquals("b", underTest.get(InitData.Param.HASH));
+            assertEquals(Map.of("foo", "2"), underTest.extra());
+        }
+
+        @Test
+        void tokenize_withManyUnsortedExtras_sortsAndKeepsLastDuplicate() {
+            final StringBuilder input = new StringBuilder("auth_date=1&hash=x");
+            final Map<String, String> expected = new TreeMap<>();
+            for (int i = 50_000; i > 0; i--) {
+                input.append("&k").append(i).append('=').append(i);
+                expected.put("k" + i, Integer.toString(i));
+            }
+            input.append("&k7=last");
+            expected.put("k7", "last");
+
+            final InitDataTokens underTest = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> InitDataTokens.tokenize(input.toString()));
+
+            assertEquals(expected, underTest.extra());
+            assertEquals(referenceDataCheckString(input.toString()), underTest.dataCheckString());
+        }
+
+        @Test
+        void tokenize_withManyPairsWithoutValue_scansEachPairOnce() {
+            final String input = "ab&".repeat(300_000) + "auth_date=1&hash=x";
+
+            final InitDataTokens underTest = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> InitDataTokens.tokenize(input, false));
+
+            assertEquals("1", underTest.get(InitData.Param.AUTH_DATE));
+            assertEquals("x", underTest.get(InitData.Param.HASH));
+        }
+
+        @Test
+        void tokenize_withMalformedEscape_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    InitDataTokens.tokenize("auth_date=1&hash=%zz").get(InitData.Param.HASH)
+            );
+            assertThrows(IllegalArgumentException.class, () ->
+                    InitDataTokens.tokenize("auth_date=1&hash=%a").get(InitData.Param.HASH)
+            );
+        }
+    }
+
+    @Nested
+    class decodeHexTest {
+        @Test
+        void decodeHex_withLowercaseHex_decodesBytes() {
+            final byte[] dst = new byte[3];
+
+            assertTrue(InitDataTokens.tokenize("hash=00ff7a").decodeHex(InitData.Param.HASH, dst));
+            assertArrayEquals(new byte[]{0, (byte) 0xff, 0x7a}, dst);
+            assertTrue(InitDataTokens.tokenize(ByteBuffer.wrap("hash=%30%30ff7a".getBytes(StandardCharsets.UTF_8)))
+                    .decodeHex(InitData.Param.HASH, dst));
+            assertArrayEquals(new byte[]{0, (byte) 0xff, 0x7a}, dst);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"hash=00FF7A", "hash=00ff7", "hash=00ff7a00", "hash=00fg7a", "hash=", "foo=00ff7a"})
+        void decodeHex_withMalformedHex_returnsFalse(String input) {
+            assertFalse(InitDataTokens.tokenize(input).decodeHex(InitData.Param.HASH, new byte[3]));
+        }
+    }
+
+    @Nested
+    class dataCheckStringTest {
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "query_id=AAHdF6IQAAAAAN0XohDhrOrc&user=%7B%22id%22%3A279058397%7D&auth_date=1662771648&hash=c501",
+                "auth_date=1&chat_type=group&chat_instance=-123&chat=%7B%7D&signature=abc&hash=x&zzz=1&aaa=2",
+                "auth_date=1&hash=x&foo",
+                "auth_date=1&&hash=x&",
+                "&auth_date=1&hash=x&&",
+                "=value&auth_date=&hash=x",
+                "auth_date=1&hash=x&auth_date=2&can_send_after=5",
+                "auth_date=1&hash=x&k%65y=v+a%20l&start_param=%E2%9C%93",
+                "auth_date=1&hash=x&raw=ü%C3%BC",
+                "auth_date&hash=x&a=b=c",
+        })
+        void dataCheckString_matchesSplitAndUrlDecoderReference(String input) {
+            assertEquals(referenceDataCheckString(input), InitDataTokens.tokenize(input).dataCheckString());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "query_id=AAHdF6IQAAAAAN0XohDhrOrc&user=%7B%22id%22%3A279058397%7D&auth_date=1662771648&hash=c501",
+                "auth_date=1&chat_type=group&chat_instance=-123&chat=%7B%7D&signature=abc&hash=x&zzz=1&aaa=2",
+                "&auth_date=1&hash=x&&",
+                "auth_date=1&hash=x&k%65y=v+a%20l&start_param=%E2%9C%93",
+                "auth_date=1&hash=x&raw=ü%C3%BC&start_param=\uD83D\uDE00",
+        })
+        void dataCheckString_withByteInput_matchesStringInput(String input) {
+            final String expected = InitDataTokens.tokenize(input).dataCheckString();
+            final byte[] bytes = ("xx" + input + "yy").getBytes(StandardCharsets.UTF_8);
+            final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+            direct.position(2).limit(bytes.length - 2);
+
+            assertEquals(expected, InitDataTokens.tokenize(bytes, 2, bytes.length - 4).dataCheckString());
+            assertEquals(expected, InitDataTokens.tokenize(ByteBuffer.wrap(bytes, 2, bytes.length - 4)).dataCheckString());
+            assertEquals(expected, InitDataTokens.tokenize(direct).dataCheckString());
+            assertEquals(2, direct.position());
+        }
+    }
+
+    /** Previous {@code split}/{@code URLDecoder}/{@code TreeMap} implementation, kept as the behavioural reference. */
+    private static String referenceDataCheckString(String queryString) {
+        final Map<String, String> parameters = new TreeMap<>();
+        for (String pair : queryString.split("&")) {
+            int idx = pair.indexOf("=");
+            final String key = idx > 0 ? URLDecoder.decode(pair.substring(0, idx), StandardCharsets.UTF_8) : pair;
+            final String value = idx > 0 && pair.length() > idx + 1
+                    ? URLDecoder.decode(pair.substring(idx + 1), StandardCharsets.UTF_8)
+                    : null;
+            parameters.put(key, value);
+        }
+        parameters.remove(InitData.Param.HASH.value);
+
+        final StringBuilder builder = new StringBuilder();
+        final Iterator<Map.Entry<String, String>> entriesIterator = parameters.entrySet().iterator();
+        while (entriesIterator.hasNext()) {
+            final Map.Entry<String, String> entry = entriesIterator.next();
+            builder.append(entry.getKey()).append("=").append(entry.getValue());
+            if (entriesIterator.hasNext()) {
+                builder.append("\n");
+            }
+        }
+        return builder.toString();
+    }
+}
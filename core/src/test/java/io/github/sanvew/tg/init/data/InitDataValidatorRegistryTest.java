@@ -0,0 +1,80 @@
+package io.github.sanvew.tg.init.data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InitDataValidatorRegistryTest {
+    final String STUB_BOT_TOKEN = InitDataValidatorTest.STUB_BOT_TOKEN;
+    final String STUB_VALID_INIT_DATA = InitDataValidatorTest.STUB_VALID_INIT_DATA;
+    final String OTHER_BOT_TOKEN = "987654321:OTHER_FAKE_BOT_TOKEN_EXAMPLE123456";
+
+    @Nested
+    class botIdTest {
+        @Test
+        void botId_withValidToken_returnsNumericPrefix() {
+            assertEquals(5768337691L, InitDataValidatorRegistry.botId("5768337691:AAH5YkoiEuPk8-FZa32hStHTqXiLPtAEhx8"));
+        }
+
+        @Test
+        void botId_withMalformedToken_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> InitDataValidatorRegistry.botId("no_colon"));
+            assertThrows(IllegalArgumentException.class, () -> InitDataValidatorRegistry.botId(":secret"));
+            assertThrows(IllegalArgumentException.class, () -> InitDataValidatorRegistry.botId("abc:secret"));
+            assertThrows(IllegalArgumentException.class, () -> InitDataValidatorRegistry.botId(" "));
+        }
+    }
+
+    @Nested
+    class isValidTest {
+        @Test
+        void isValid_byBotId_usesMatchingBot() {
+            final InitDataValidatorRegistry underTest = new InitDataValidatorRegistry();
+            final long botId = underTest.register(STUB_BOT_TOKEN);
+            final long otherBotId = underTest.register(OTHER_BOT_TOKEN);
+
+            assertTrue(underTest.isValid(STUB_VALID_INIT_DATA, botId));
+            assertFalse(underTest.isValid(STUB_VALID_INIT_DATA, otherBotId));
+        }
+
+        @Test
+        void isValid_byHint_usesMatchingBot() {
+            final InitDataValidatorRegistry underTest = new InitDataValidatorRegistry();
+            underTest.register(STUB_BOT_TOKEN, "shop", "/shop/api");
+            underTest.register(OTHER_BOT_TOKEN, "game");
+
+            assertTrue(underTest.isValid(STUB_VALID_INIT_DATA, "shop"));
+            assertTrue(underTest.isValid(STUB_VALID_INIT_DATA, "/shop/api"));
+            assertFalse(underTest.isValid(STUB_VALID_INIT_DATA, "game"));
+        }
+
+        @Test
+        void isValid_withUnknownBot_throwsIllegalArgumentException() {
+            final InitDataValidatorRegistry underTest = new InitDataValidatorRegistry();
+
+            assertThrows(IllegalArgumentException.class, () -> underTest.isValid(STUB_VALID_INIT_DATA, 1L));
+            assertThrows(IllegalArgumentException.class, () -> underTest.isValid(STUB_VALID_INIT_DATA, "unknown"));
+        }
+    }
+
+    @Nested
+    class unregisterTest {
+        @Test
+        void unregister_removesBotAndItsHints() {
+            final InitDataValidatorRegistry underTest = new InitDataValidatorRegistry();
+            final long botId = underTest.register(STUB_BOT_TOKEN, "shop");
+            final long otherBotId = underTest.register(OTHER_BOT_TOKEN, "game");
+
+            assertTrue(underTest.unregister(botId));
+
+            assertNull(underTest.get(botId));
+            assertNull(underTest.get("shop"));
+            assertNotNull(underTest.get("game"));
+            assertEquals(Set.of(otherBotId), underTest.botIds());
+            assertFalse(underTest.unregister(botId));
+        }
+    }
+}
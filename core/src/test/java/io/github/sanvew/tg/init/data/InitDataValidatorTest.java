@@ -0,0 +1,970 @@
+package io.github.sanvew.tg.init.data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import io.github.sanvew.tg.init.data.exception.AuthDateMissingException;
+import io.github.sanvew.tg.init.data.exception.ExpiredException;
+import io.github.sanvew.tg.init.data.exception.ReplayGuardFullException;
+import io.github.sanvew.tg.init.data.exception.ReplayedException;
+import io.github.sanvew.tg.init.data.exception.SignatureMissingException;
+import io.github.sanvew.tg.init.data.type.InitData;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InitDataValidatorTest {
+    static final long STUB_AUTH_DATE = 1749945600;
+    static final String STUB_BOT_TOKEN = "123456789:TEST_FAKE_BOT_TOKEN_EXAMPLE123456";
+    static final String STUB_VALID_INIT_DATA = "auth_date=" + STUB_AUTH_DATE +
+            "&chat_type=group" +
+            "&query_id=AAHdF6IQAAAAAN0XohDhrOrc" +
+            "&start_param=referral123" +
+            "&user=%7B%22id%22%3A123456789%2C%22first_name%22%3A%22John%22%2C%22last_name%22%3A%22Doe%22%2C%22username%22%3A%22johndoe%22%2C%22language_code%22%3A%22en%22%2C%22is_bot%22%3Afalse%2C%22is_premium%22%3Atrue%2C%22allows_write_to_pm%22%3Atrue%2C%22photo_url%22%3A%22https%3A%2F%2Fexample.com%2Favatar%2F4843.jpg%22%7D" +
+            "&hash=d88ca7df91a7a28bb3b34857ed9e0ec4d99dfa2bf81fd9321e21e3abf84a8ae3";
+
+    @Nested
+    class constructorTest {
+        @Test
+        void constructor_withNullBotToken_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> new InitDataValidator(null));
+        }
+
+        @Test
+        void constructor_withBlankBotToken_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> new InitDataValidator("   "));
+        }
+    }
+
+    @Nested
+    class isValidTest {
+        final InitDataValidator underTest = new InitDataValidator(STUB_BOT_TOKEN);
+
+        @Test
+        void isValid_withValidInitData_returnsTrue() {
+            assertTrue(underTest.isValid(STUB_VALID_INIT_DATA));
+        }
+
+        @Test
+        void isValid_calledRepeatedly_returnsSameResult() {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(underTest.isValid(STUB_VALID_INIT_DATA));
+            }
+        }
+
+        @Test
+        void isValid_withDifferentBotToken_returnsFalse() {
+            final InitDataValidator differentBot =
+                    new InitDataValidator("123456789:DIFFERENT_TEST_FAKE_BOT_TOKEN_EXAMPLE123456");
+
+            assertFalse(differentBot.isValid(STUB_VALID_INIT_DATA));
+        }
+
+        @Test
+        void isValid_withBlankInitData_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> underTest.isValid(null));
+            assertThrows(IllegalArgumentException.class, () -> underTest.isValid("  "));
+        }
+
+        @Test
+        void isValid_withMissingHash_throwsSignatureMissingException() {
+            assertThrows(SignatureMissingException.class, () -> underTest.isValid("auth_date=" + STUB_AUTH_DATE));
+        }
+
+        @Test
+        void isValid_withMissingAuthDateAndExpiresIn_throwsAuthDateMissingException() {
+            final InitDataValidator expiring = new InitDataValidator(STUB_BOT_TOKEN, Duration.ofMinutes(5));
+
+            assertThrows(AuthDateMissingException.class, () -> expiring.isValid("hash=dummyhash"));
+        }
+
+        @Test
+        void isValid_withPercentEncodedHash_returnsTrue() {
+            final String hash = STUB_VALID_INIT_DATA.substring(STUB_VALID_INIT_DATA.indexOf("&hash=") + 6);
+            final String encoded = STUB_VALID_INIT_DATA.replace("&hash=" + hash, "&hash=%" + Integer.toHexString(hash.charAt(0)) + hash.substring(1));
+
+            assertTrue(underTest.isValid(encoded));
+        }
+
+        @Test
+        void isValid_withMalformedHash_returnsFalse() {
+            final String hash = STUB_VALID_INIT_DATA.substring(STUB_VALID_INIT_DATA.indexOf("&hash=") + 6);
+
+            assertFalse(underTest.isValid(STUB_VALID_INIT_DATA.replace(hash, hash.toUpperCase())));
+            assertFalse(underTest.isValid(STUB_VALID_INIT_DATA.replace(hash, hash.substring(2))));
+            assertFalse(underTest.isValid(STUB_VALID_INIT_DATA.replace(hash, hash + "00")));
+            assertFalse(underTest.isValid(STUB_VALID_INIT_DATA.replace(hash, "zz" + hash.substring(2))));
+        }
+
+        @Test
+        void isValid_withEmptyHash_throwsSignatureMissingException() {
+            assertThrows(SignatureMissingException.class, () ->
+                    underTest.isValid("auth_date=" + STUB_AUTH_DATE + "&hash=")
+            );
+        }
+
+        @Test
+        void isValid_withClockBeforeExpiration_returnsTrue() {
+            final Clock fixedClock = Clock.fixed(
+                    Instant.ofEpochSecond(STUB_AUTH_DATE).plus(Duration.ofMinutes(30)), ZoneOffset.UTC
+            );
+            final InitDataValidator expiring = new InitDataValidator(STUB_BOT_TOKEN, Duration.ofHours(1), fixedClock);
+
+            assertTrue(expiring.isValid(STUB_VALID_INIT_DATA));
+        }
+
+        @Test
+        void isValid_withClockAfterExpiration_throwsExpiredException() {
+            final Clock expiredClock = Clock.fixed(
+                    Instant.ofEpochSecond(STUB_AUTH_DATE).plus(Duration.ofHours(1)).plusSeconds(1), ZoneOffset.UTC
+            );
+            final InitDataValidator expiring = new InitDataValidator(STUB_BOT_TOKEN, Duration.ofHours(1), expiredClock);
+
+            assertThrows(ExpiredException.class, () -> expiring.isValid(STUB_VALID_INIT_DATA));
+        }
+
+        @Test
+        void isValid_fromConcurrentThreads_returnsTrue() throws Exception {
+            final ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                final List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < 64; i++) {
+                    results.add(executor.submit(() -> underTest.isValid(STUB_VALID_INIT_DATA)));
+                }
+                for (Future<Boolean> result : results) {
+                    assertTrue(result.get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    class isValidBytesTest {
+        final InitDataValidator underTest = new InitDataValidator(STUB_BOT_TOKEN);
+        final byte[] STUB_VALID_INIT_DATA_BYTES = STUB_VALID_INIT_DATA.getBytes(StandardCharsets.UTF_8);
+
+        @Test
+        void isValidBytes_withByteArray_returnsTrue() {
+            assertTrue(underTest.isValidBytes(STUB_VALID_INIT_DATA_BYTES));
+        }
+
+        @Test
+        void isValidBytes_withByteArrayRange_returnsTrue() {
+            final byte[] framed = ("initData: " + STUB_VALID_INIT_DATA + "\r\n").getBytes(StandardCharsets.UTF_8);
+
+            assertTrue(underTest.isValidBytes(framed, 10, STUB_VALID_INIT_DATA_BYTES.length));
+        }
+
+        @Test
+        void isValidBytes_withHeapAndDirectByteBuffer_returnsTrueAndKeepsPosition() {
+            final ByteBuffer heap = ByteBuffer.wrap(STUB_VALID_INIT_DATA_BYTES);
+            final ByteBuffer direct = ByteBuffer.allocateDirect(STUB_VALID_INIT_DATA_BYTES.length)
+                    .put(STUB_VALID_INIT_DATA_BYTES)
+                    .flip();
+
+            assertTrue(underTest.isValidBytes(heap));
+            assertTrue(underTest.isValidBytes(direct));
+            assertEquals(0, direct.position());
+            assertEquals(STUB_VALID_INIT_DATA_BYTES.length, direct.limit());
+        }
+
+        @Test
+        void isValidBytes_withTamperedBytes_returnsFalse() {
+            final byte[] tampered = STUB_VALID_INIT_DATA.replace("referral123", "referral124")
+                    .getBytes(StandardCharsets.UTF_8);
+
+            assertFalse(underTest.isValidBytes(tampered));
+            assertFalse(underTest.isValidBytes(ByteBuffer.allocateDirect(tampered.length).put(tampered).flip()));
+        }
+
+        @Test
+        void isValidBytes_withRawNonAsciiValue_matchesStringInput() {
+            final String initData = "auth_date=" + STUB_AUTH_DATE + "&start_param=привет&hash="
+                    + sign("auth_date=" + STUB_AUTH_DATE + "\nstart_param=привет");
+
+            assertTrue(underTest.isValid(initData));
+            assertTrue(underTest.isValidBytes(initData.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        @Test
+        void isValidBytes_withBlankOrNullBytes_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> underTest.isValidBytes((byte[]) null));
+            assertThrows(IllegalArgumentException.class, () -> underTest.isValidBytes((ByteBuffer) null));
+            assertThrows(IllegalArgumentException.class, () -> underTest.isValidBytes(new byte[0]));
+            assertThrows(IllegalArgumentException.class, () -> underTest.isValidBytes(ByteBuffer.wrap(" \t".getBytes())));
+        }
+
+        @Test
+        void isValidBytes_withRangeOutOfBounds_throwsIndexOutOfBoundsException() {
+            assertThrows(IndexOutOfBoundsException.class, () -> underTest.isValidBytes(STUB_VALID_INIT_DATA_BYTES, 1, STUB_VALID_INIT_DATA_BYTES.length));
+        }
+
+        @Test
+        void isValidBytes_withMissingHash_throwsSignatureMissingException() {
+            assertThrows(SignatureMissingException.class, () ->
+                    underTest.isValidBytes(("auth_date=" + STUB_AUTH_DATE).getBytes(StandardCharsets.UTF_8))
+            );
+        }
+    }
+
+    @Nested
+    class replayGuardTest {
+        final Clock fixedClock = Clock.fixed(
+                Instant.ofEpochSecond(STUB_AUTH_DATE).plus(Duration.ofMinutes(30)), ZoneOffset.UTC
+        );
+        final InitDataValidator underTest =
+                new InitDataValidator(STUB_BOT_TOKEN, Duration.ofHours(1), fixedClock, new ReplayGuard(100));
+
+        @Test
+        void constructor_withReplayGuardWithoutExpiresIn_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new InitDataValidator(STUB_BOT_TOKEN, null, null, new ReplayGuard(100))
+            );
+        }
+
+        @Test
+        void isValid_withReplayedInitData_throwsReplayedException() {
+            assertTrue(underTest.isValid(STUB_VALID_INIT_DATA));
+
+            assertThrows(ReplayedException.class, () -> underTest.isValid(STUB_VALID_INIT_DATA));
+            assertThrows(ReplayedException.class, () ->
+                    underTest.isValidBytes(STUB_VALID_INIT_DATA.getBytes(StandardCharsets.UTF_8))
+            );
+            assertThrows(ReplayedException.class, () -> underTest.validateAndParse(STUB_VALID_INIT_DATA));
+        }
+
+        @Test
+        void isValid_withFullReplayGuard_throwsReplayGuardFullException() {
+            final ReplayGuard full = new ReplayGuard(1);
+            final long expiresAt = fixedClock.instant().getEpochSecond() + 3_600;
+            for (int i = 1; full.tryRecord(ByteBuffer.allocate(8).putLong(i).array(), expiresAt, expiresAt - 3_600)
+                    == ReplayGuard.RECORDED; i++) {
+                // fill the guard up with live entries
+            }
+            final InitDataValidator guarded = new InitDataValidator(STUB_BOT_TOKEN, Duration.ofHours(1), fixedClock, full);
+
+            assertThrows(ReplayGuardFullException.class, () -> guarded.isValid(STUB_VALID_INIT_DATA));
+            assertEquals(ValidationStatus.REPLAY_GUARD_FULL, guarded.validate(STUB_VALID_INIT_DATA).getStatus());
+            assertArrayEquals(
+                    new ValidationStatus[]{ValidationStatus.REPLAY_GUARD_FULL},
+                    guarded.validateAll(List.of(STUB_VALID_INIT_DATA))
+            );
+        }
+
+        @Test
+        void isValid_withBadSignature_isNotRecorded() {
+            final String badSignature = STUB_VALID_INIT_DATA.replace("referral123", "referral124");
+
+            assertFalse(underTest.isValid(badSignature));
+            assertFalse(underTest.isValid(badSignature));
+            assertEquals(0, underTest.getReplayGuard().size());
+        }
+
+        @Test
+        void validateAll_withRepeatedInitData_reportsReplayed() {
+            final ValidationStatus[] statuses = underTest.validateAll(List.of(STUB_VALID_INIT_DATA, STUB_VALID_INIT_DATA));
+
+            assertArrayEquals(new ValidationStatus[]{ValidationStatus.VALID, ValidationStatus.REPLAYED}, statuses);
+        }
+    }
+
+    @Nested
+    class cacheTest {
+        final MutableClock clock = new MutableClock(STUB_AUTH_DATE + 1800);
+        final InitDataValidator underTest =
+                new InitDataValidator(STUB_BOT_TOKEN, Duration.ofHours(1), clock, null, new ValidationCache(100));
+
+        @Test
+        void constructor_withReplayGuardAndCache_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> new InitDataValidator(
+                    STUB_BOT_TOKEN, Duration.ofHours(1), null, new ReplayGuard(100), new ValidationCache(100)
+            ));
+        }
+
+        @Test
+        void validateAndParse_withRepeatedInitData_returnsCachedResult() {
+            final InitData first = underTest.validateAndParse(STUB_VALID_INIT_DATA);
+            final InitData second = underTest.validateAndParse(new String(STUB_VALID_INIT_DATA.toCharArray()));
+
+            assertNotNull(first);
+            assertSame(first, second);
+            assertEquals(1, underTest.getCache().size());
+        }
+
+        @Test
+        void validateAndParse_afterIsValid_parsesOnce() {
+            assertTrue(underTest.isValid(STUB_VALID_INIT_DATA));
+            assertTrue(underTest.isValid(STUB_VALID_INIT_DATA));
+
+            final InitData parsed = underTest.validateAndParse(STUB_VALID_INIT_DATA);
+
+            assertNotNull(parsed);
+            assertSame(parsed, underTest.validateAndParse(STUB_VALID_INIT_DATA));
+        }
+
+        @Test
+        void isValid_withSameHashAndDifferentBody_isNotServedFromCache() {
+            assertTrue(underTest.isValid(STUB_VALID_INIT_DATA));
+
+            assertFalse(underTest.isValid(STUB_VALID_INIT_DATA.replace("referral123", "referral124")));
+            assertNull(underTest.validateAndParse(STUB_VALID_INIT_DATA.replace("referral123", "referral124")));
+        }
+
+        @Test
+        void isValid_withCachedInitDataAfterExpiration_throwsExpiredException() {
+            assertTrue(underTest.isValid(STUB_VALID_INIT_DATA));
+
+            clock.epochSecond = STUB_AUTH_DATE + 3601;
+
+            assertThrows(ExpiredException.class, () -> underTest.isValid(STUB_VALID_INIT_DATA));
+            assertThrows(ExpiredException.class, () -> underTest.validateAndParse(STUB_VALID_INIT_DATA));
+        }
+
+        @Test
+        void isValid_withCachedInitDataWithinLastSecondAfterExpiration_throwsExpiredException() {
+            assertTrue(underTest.isValid(STUB_VALID_INIT_DATA));
+            assertNotNull(underTest.validateAndParse(STUB_VALID_INIT_DATA));
+
+            clock.epochSecond = STUB_AUTH_DATE + 3600;
+            clock.nano = 500_000_000;
+
+            assertThrows(ExpiredException.class, () -> underTest.isValid(STUB_VALID_INIT_DATA));
+            assertThrows(ExpiredException.class, () -> underTest.validateAndParse(STUB_VALID_INIT_DATA));
+            assertEquals(ValidationStatus.EXPIRED, underTest.validate(STUB_VALID_INIT_DATA).getStatus());
+        }
+
+        @Test
+        void isValid_withCacheSharedByBots_isNotServedForOtherBot() {
+            final InitDataValidator otherBot = new InitDataValidator(
+                    "123456789:DIFFERENT_TEST_FAKE_BOT_TOKEN_EXAMPLE123456", Duration.ofHours(1), clock, null, underTest.getCache()
+            );
+
+            assertTrue(underTest.isValid(STUB_VALID_INIT_DATA));
+
+            assertFalse(otherBot.isValid(STUB_VALID_INIT_DATA));
+        }
+    }
+
+    static final class MutableClock extends Clock {
+        long epochSecond;
+        int nano;
+
+        MutableClock(long epochSecond) {
+            this.epochSecond = epochSecond;
+        }
+
+        @Override
+        public ZoneOffset getZone() { return ZoneOffset.UTC; }
+
+        @Override
+        public Clock withZone(ZoneId zone) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public Instant instant() { return Instant.ofEpochSecond(epochSecond, nano); }
+    }
+
+    @Nested
+    class validateTest {
+        final Clock clock = Clock.fixed(Instant.ofEpochSecond(STUB_AUTH_DATE + 60), ZoneOffset.UTC);
+        final InitDataValidator underTest = new InitDataValidator(STUB_BOT_TOKEN, Duration.ofHours(1), clock);
+
+        @Test
+        void validate_withValidInitData_returnsValidResultWithDetails() {
+            final ValidationResult result = underTest.validate(STUB_VALID_INIT_DATA);
+
+            assertTrue(result.isValid());
+            assertEquals(ValidationStatus.VALID, result.getStatus());
+            assertEquals(STUB_AUTH_DATE, result.getAuthDate());
+            assertEquals(STUB_AUTH_DATE + 3600, result.getExpiresAt());
+            assertEquals(STUB_AUTH_DATE + 60, result.getNow());
+        }
+
+        @Test
+        void validate_withRejectedPayloads_returnsStatusWithoutThrowing() {
+            final String expired = "auth_date=" + (STUB_AUTH_DATE - 7200);
+            final String invalidAuthDate = "auth_date=abc";
+
+            assertEquals(ValidationStatus.BAD_SIGNATURE,
+                    underTest.validate(STUB_VALID_INIT_DATA.replace("referral123", "referral124")).getStatus());
+            assertEquals(ValidationStatus.SIGNATURE_MISSING, underTest.validate("auth_date=" + STUB_AUTH_DATE).getStatus());
+            assertEquals(ValidationStatus.AUTH_DATE_MISSING, underTest.validate("hash=" + sign("")).getStatus());
+            assertEquals(ValidationStatus.AUTH_DATE_INVALID,
+                    underTest.validate(invalidAuthDate + "&hash=" + sign(invalidAuthDate)).getStatus());
+            assertEquals(ValidationStatus.MALFORMED, underTest.validate(
+                    "auth_date=" + STUB_AUTH_DATE + "&start_param=%zz&hash=" + sign("")
+            ).getStatus());
+            assertEquals(ValidationStatus.MALFORMED, underTest.validate(" ").getStatus());
+            assertEquals(ValidationStatus.MALFORMED, underTest.validate(null).getStatus());
+
+            final ValidationResult expiredResult = underTest.validate(expired + "&hash=" + sign(expired));
+            assertEquals(ValidationStatus.EXPIRED, expiredResult.getStatus());
+            assertEquals(STUB_AUTH_DATE - 7200, expiredResult.getAuthDate());
+            assertEquals(STUB_AUTH_DATE - 3600, expiredResult.getExpiresAt());
+            assertEquals(STUB_AUTH_DATE + 60, expiredResult.getNow());
+        }
+
+        @Test
+        void validate_withoutExpiresIn_returnsNoAuthDateDetails() {
+            final ValidationResult result = new InitDataValidator(STUB_BOT_TOKEN).validate(STUB_VALID_INIT_DATA);
+
+            assertTrue(result.isValid());
+            assertNull(result.getAuthDate());
+            assertNull(result.getExpiresAt());
+            assertNull(result.getNow());
+        }
+
+        @Test
+        void validate_withReplayGuard_returnsReplayed() {
+            final InitDataValidator guarded = new InitDataValidator(
+                    STUB_BOT_TOKEN, Duration.ofHours(1), clock, new ReplayGuard(16)
+            );
+
+            assertEquals(ValidationStatus.VALID, guarded.validate(STUB_VALID_INIT_DATA).getStatus());
+            assertEquals(ValidationStatus.REPLAYED, guarded.validate(STUB_VALID_INIT_DATA).getStatus());
+        }
+
+        @Test
+        void validate_withCacheHit_returnsValidResult() {
+            final InitDataValidator cached = new InitDataValidator(
+                    STUB_BOT_TOKEN, Duration.ofHours(1), clock, null, new ValidationCache(16)
+            );
+
+            assertTrue(cached.validate(STUB_VALID_INIT_DATA).isValid());
+            final ValidationResult hit = cached.validate(STUB_VALID_INIT_DATA);
+
+            assertTrue(hit.isValid());
+            assertEquals(STUB_AUTH_DATE + 3600, hit.getExpiresAt());
+        }
+    }
+
+    @Nested
+    class exceptionTest {
+        @Test
+        void isValid_withRejectedPayload_throwsStacklessExceptionWithDetails() {
+            final Clock lateClock = Clock.fixed(Instant.ofEpochSecond(STUB_AUTH_DATE + 7200), ZoneOffset.UTC);
+            final InitDataValidator expiring = new InitDataValidator(STUB_BOT_TOKEN, Duration.ofHours(1), lateClock);
+
+            final ExpiredException e = assertThrows(ExpiredException.class, () -> expiring.isValid(STUB_VALID_INIT_DATA));
+
+            assertEquals(0, e.getStackTrace().length);
+            assertEquals(STUB_AUTH_DATE + 3600, e.getExpiresAt());
+            assertEquals(STUB_AUTH_DATE + 7200, e.getNow());
+            assertEquals(
+                    "initData is expired, auth_date expires at " + (STUB_AUTH_DATE + 3600) + " but now is " + (STUB_AUTH_DATE + 7200),
+                    e.getMessage()
+            );
+        }
+
+        @Test
+        void isValid_withMissingHash_throwsStacklessSignatureMissingException() {
+            final SignatureMissingException e = assertThrows(SignatureMissingException.class, () ->
+                    new InitDataValidator(STUB_BOT_TOKEN).isValid("auth_date=" + STUB_AUTH_DATE)
+            );
+
+            assertEquals(0, e.getStackTrace().length);
+            assertEquals("Property 'hash' is missing", e.getMessage());
+        }
+    }
+
+    @Nested
+    class validateAllTest {
+        final Clock fixedClock = Clock.fixed(
+                Instant.ofEpochSecond(STUB_AUTH_DATE).plus(Duration.ofMinutes(30)), ZoneOffset.UTC
+        );
+        final InitDataValidator underTest = new InitDataValidator(STUB_BOT_TOKEN, Duration.ofHours(1), fixedClock);
+
+        @Test
+        void validateAll_withMixedPayloads_returnsStatusPerItem() {
+            final String expired = "auth_date=" + (STUB_AUTH_DATE - 7200);
+            final String invalidAuthDate = "auth_date=abc";
+            final ValidationStatus[] statuses = underTest.validateAll(Arrays.asList(
+                    STUB_VALID_INIT_DATA,
+                    STUB_VALID_INIT_DATA.replace("referral123", "referral124"),
+                    expired + "&hash=" + sign(expired),
+                    "auth_date=" + STUB_AUTH_DATE,
+                    "hash=" + sign(""),
+                    invalidAuthDate + "&hash=" + sign(invalidAuthDate),
+                    "auth_date=" + STUB_AUTH_DATE + "&start_param=%zz&hash=" + sign(""),
+                    " ",
+                    null
+            ));
+
+            assertArrayEquals(new ValidationStatus[]{
+                    ValidationStatus.VALID,
+                    ValidationStatus.BAD_SIGNATURE,
+                    ValidationStatus.EXPIRED,
+                    ValidationStatus.SIGNATURE_MISSING,
+                    ValidationStatus.AUTH_DATE_MISSING,
+                    ValidationStatus.AUTH_DATE_INVALID,
+                    ValidationStatus.MALFORMED,
+                    ValidationStatus.MALFORMED,
+                    ValidationStatus.MALFORMED,
+            }, statuses);
+        }
+
+        @Test
+        void validateAll_withLargeBatchOnExecutor_matchesSequentialValidation() throws Exception {
+            final String badSignature = STUB_VALID_INIT_DATA.replace("referral123", "referral124");
+            final String[] batch = new String[5000];
+            for (int i = 0; i < batch.length; i++) {
+                batch[i] = i % 3 == 0 ? badSignature : STUB_VALID_INIT_DATA;
+            }
+
+            final ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                final ValidationStatus[] statuses = underTest.validateAll(batch, executor);
+
+                assertEquals(batch.length, statuses.length);
+                for (int i = 0; i < batch.length; i++) {
+                    assertEquals(underTest.isValid(batch[i]), statuses[i].isValid(), "item " + i);
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        void validateAll_withEmptyBatch_returnsEmptyArray() {
+            assertEquals(0, underTest.validateAll(List.of()).length);
+        }
+
+        @Test
+        void validateAll_withNullBatch_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> underTest.validateAll((List<String>) null));
+            assertThrows(IllegalArgumentException.class, () -> underTest.validateAll((String[]) null));
+        }
+
+        @Test
+        void chunkSize_isNeverBelowMinimum() {
+            assertTrue(BatchValidation.chunkSize(1) >= 64);
+            assertTrue(BatchValidation.chunkSize(1_000_000) * Runtime.getRuntime().availableProcessors() <= 1_000_000);
+        }
+    }
+
+    @Nested
+    class validateAndParseTest {
+        final InitDataValidator underTest = new InitDataValidator(STUB_BOT_TOKEN);
+
+        @Test
+        void validateAndParse_withValidInitData_returnsSameAsParse() {
+            final InitData expected = InitDataUtils.parse(STUB_VALID_INIT_DATA);
+
+            assertEquals(expected, underTest.validateAndParse(STUB_VALID_INIT_DATA));
+        }
+
+        @Test
+        void validateAndParse_withDifferentBotToken_returnsNull() {
+            final InitDataValidator differentBot =
+                    new InitDataValidator("123456789:DIFFERENT_TEST_FAKE_BOT_TOKEN_EXAMPLE123456");
+
+            assertNull(differentBot.validateAndParse(STUB_VALID_INIT_DATA));
+        }
+
+        @Test
+        void validateAndParse_withTamperedParameter_returnsNull() {
+            final String tampered = STUB_VALID_INIT_DATA.replace("referral123", "referral124");
+
+            assertNull(underTest.validateAndParse(tampered));
+        }
+
+        @Test
+        void validateAndParse_withMissingHash_throwsSignatureMissingException() {
+            assertThrows(SignatureMissingException.class, () ->
+                    underTest.validateAndParse("auth_date=" + STUB_AUTH_DATE)
+            );
+        }
+
+        @Test
+        void validateAndParse_withClockAfterExpiration_throwsExpiredException() {
+            final Clock expiredClock = Clock.fixed(
+                    Instant.ofEpochSecond(STUB_AUTH_DATE).plus(Duration.ofHours(1)).plusSeconds(1), ZoneOffset.UTC
+            );
+            final InitDataValidator expiring = new InitDataValidator(STUB_BOT_TOKEN, Duration.ofHours(1), expiredClock);
+
+            assertThrows(ExpiredException.class, () -> expiring.validateAndParse(STUB_VALID_INIT_DATA));
+        }
+    }
+
+    @Nested
+    class validateAndParseProjectionTest {
+        final InitDataValidator underTest = new InitDataValidator(STUB_BOT_TOKEN);
+
+        @Test
+        void validateAndParse_withProjection_returnsRequestedParams() {
+            final InitData actual = underTest.validateAndParse(
+                    STUB_VALID_INIT_DATA, EnumSet.of(InitData.Param.START_PARAM), false, null
+            );
+
+            assertNotNull(actual);
+            assertEquals(STUB_AUTH_DATE, actual.getAuthDate());
+            assertEquals("referral123", actual.getStartParam());
+            assertNull(actual.getUser());
+            assertNull(actual.getQueryId());
+        }
+
+        @Test
+        void validateAndParse_withProjectionAndTamperedSkippedParam_returnsNull() {
+            final String tampered = STUB_VALID_INIT_DATA.replace("AAHdF6IQAAAAAN0XohDhrOrc", "AAHdF6IQAAAAAN0XohDhrOrd");
+
+            assertNull(underTest.validateAndParse(tampered, EnumSet.of(InitData.Param.START_PARAM), false, null));
+        }
+    }
+
+    @Nested
+    class validateAndParseLazyTest {
+        final InitDataValidator underTest = new InitDataValidator(STUB_BOT_TOKEN);
+
+        @Test
+        void validateAndParseLazy_withValidInitData_equalsEagerResult() {
+            assertEquals(underTest.validateAndParse(STUB_VALID_INIT_DATA), underTest.validateAndParseLazy(STUB_VALID_INIT_DATA));
+        }
+
+        @Test
+        void validateAndParseLazy_withTamperedParameter_returnsNull() {
+            final String tampered = STUB_VALID_INIT_DATA.replace("referral123", "referral124");
+
+            assertNull(underTest.validateAndParseLazy(tampered));
+        }
+
+        @Test
+        void validateAndParseLazy_withCache_skipsSignatureAndKeepsEagerEntry() {
+            final InitDataValidator cached = new InitDataValidator(STUB_BOT_TOKEN, null, null, null, new ValidationCache(16));
+            final InitData eager = cached.validateAndParse(STUB_VALID_INIT_DATA);
+
+            final InitData lazy = cached.validateAndParseLazy(STUB_VALID_INIT_DATA);
+
+            assertNotNull(lazy);
+            assertNotSame(eager, lazy);
+            assertEquals(eager, lazy);
+            assertSame(eager, cached.validateAndParse(STUB_VALID_INIT_DATA));
+        }
+    }
+
+    @Nested
+    class listenerTest {
+        final ValidationMetrics metrics = new ValidationMetrics();
+        final InitDataValidator underTest = new InitDataValidator(
+                STUB_BOT_TOKEN, Duration.ofDays(1), Clock.fixed(Instant.ofEpochSecond(STUB_AUTH_DATE), ZoneOffset.UTC),
+                null, null, metrics
+        );
+
+        @Test
+        void isValid_withListener_reportsOutcomesAndPhases() {
+            underTest.isValid(STUB_VALID_INIT_DATA);
+            underTest.isValid(STUB_VALID_INIT_DATA.replace("referral123", "referral124"));
+            assertThrows(SignatureMissingException.class, () -> underTest.isValid("auth_date=" + STUB_AUTH_DATE));
+            assertThrows(AuthDateMissingException.class, () -> underTest.isValid("hash=" + sign("")));
+            assertThrows(IllegalArgumentException.class, () -> underTest.isValid(
+                    "auth_date=" + STUB_AUTH_DATE + "&start_param=%zz&hash=" + sign("")
+            ));
+
+            assertEquals(1, metrics.count(ValidationStatus.VALID));
+            assertEquals(1, metrics.count(ValidationStatus.BAD_SIGNATURE));
+            assertEquals(1, metrics.count(ValidationStatus.SIGNATURE_MISSING));
+            assertEquals(1, metrics.count(ValidationStatus.AUTH_DATE_MISSING));
+            assertEquals(1, metrics.count(ValidationStatus.MALFORMED));
+            assertEquals(5, metrics.count(ValidationListener.Phase.TOKENIZE));
+            // the malformed escape is hit while writing the data-check string, which still counts as a signature phase
+            assertEquals(3, metrics.count(ValidationListener.Phase.SIGNATURE));
+            assertEquals(0, metrics.count(ValidationListener.Phase.JSON_DECODE));
+        }
+
+        @Test
+        void validateAndParse_withListener_reportsJsonDecoding() {
+            final String brokenUser = "auth_date=" + STUB_AUTH_DATE + "&user=%7B%22id%22%3A1%7D";
+            final String signed = brokenUser + "&hash=" + sign("auth_date=" + STUB_AUTH_DATE + "\nuser={\"id\":1}");
+
+            assertNotNull(underTest.validateAndParse(STUB_VALID_INIT_DATA));
+            assertThrows(RuntimeException.class, () -> underTest.validateAndParse(signed));
+
+            assertEquals(2, metrics.count(ValidationStatus.VALID));
+            assertEquals(2, metrics.count(ValidationListener.Phase.JSON_DECODE));
+            assertEquals(1, metrics.jsonErrors());
+        }
+
+        @Test
+        void validateAndParseLazy_withListener_reportsDecodingOnAccess() {
+            final InitData initData = underTest.validateAndParseLazy(STUB_VALID_INIT_DATA);
+
+            assertEquals(0, metrics.count(ValidationListener.Phase.JSON_DECODE));
+            assertNotNull(initData.getUser());
+            assertEquals(1, metrics.count(ValidationListener.Phase.JSON_DECODE));
+        }
+
+        @Test
+        void isValid_withCacheHit_reportsValidOutcome() {
+            final InitDataValidator cached = new InitDataValidator(
+                    STUB_BOT_TOKEN, null, null, null, new ValidationCache(16), metrics
+            );
+
+            cached.isValid(STUB_VALID_INIT_DATA);
+            cached.isValid(STUB_VALID_INIT_DATA);
+
+            assertEquals(2, metrics.count(ValidationStatus.VALID));
+            assertEquals(1, metrics.count(ValidationListener.Phase.SIGNATURE));
+        }
+
+        @Test
+        void constructor_withoutListener_usesNoop() {
+            assertSame(ValidationListener.NOOP, new InitDataValidator(STUB_BOT_TOKEN).getListener());
+        }
+    }
+
+    @Nested
+    class preFilterTest {
+        final Clock clock = Clock.fixed(Instant.ofEpochSecond(STUB_AUTH_DATE + 60), ZoneOffset.UTC);
+        final ValidationMetrics metrics = new ValidationMetrics();
+        final InitDataValidator underTest = new InitDataValidator(
+                STUB_BOT_TOKEN, Duration.ofHours(1), clock, null, null, metrics, new InitDataLimits(1024, 16, 512)
+        );
+        final InitDataValidator unfiltered = new InitDataValidator(STUB_BOT_TOKEN, Duration.ofHours(1), clock);
+
+        @Test
+        void validate_withLimits_matchesUnfilteredValidation() {
+            final String expired = "auth_date=" + (STUB_AUTH_DATE - 7200);
+            final String invalidAuthDate = "auth_date=abc";
+            final String[] payloads = {
+                    STUB_VALID_INIT_DATA,
+                    STUB_VALID_INIT_DATA.replace("referral123", "referral124"),
+                    "auth_date=" + STUB_AUTH_DATE,
+                    "hash=" + sign(""),
+                    invalidAuthDate + "&hash=" + sign(invalidAuthDate),
+                    expired + "&hash=" + sign(expired),
+                    "auth_date=" + STUB_AUTH_DATE + "&hash=XYZ",
+            };
+
+            for (String payload : payloads) {
+                final ValidationResult expected = unfiltered.validate(payload);
+                final ValidationResult actual = underTest.validate(payload);
+
+                assertEquals(expected.getStatus(), actual.getStatus(), payload);
+                assertEquals(expected.getExpiresAt(), actual.getExpiresAt(), payload);
+            }
+            // everything but the valid and the badly signed payload is rejected before the HMAC
+            assertEquals(2, metrics.count(ValidationListener.Phase.SIGNATURE));
+            assertEquals(2, metrics.count(ValidationListener.Phase.TOKENIZE));
+        }
+
+        @Test
+        void isValid_exceedingLimits_throwsIllegalArgumentException() {
+            final String oversized = STUB_VALID_INIT_DATA + "&padding=" + "a".repeat(1024);
+
+            assertFalse(unfiltered.isValid(oversized));
+            assertThrows(IllegalArgumentException.class, () -> underTest.isValid(oversized));
+            assertThrows(IllegalArgumentException.class,
+                    () -> underTest.isValidBytes(oversized.getBytes(StandardCharsets.UTF_8)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> underTest.isValidBytes(ByteBuffer.wrap(oversized.getBytes(StandardCharsets.UTF_8))));
+            assertThrows(IllegalArgumentException.class, () -> underTest.validateAndParse(oversized));
+            assertEquals(ValidationStatus.MALFORMED, underTest.validate(oversized).getStatus());
+            assertEquals(5, metrics.count(ValidationStatus.MALFORMED));
+            assertEquals(0, metrics.count(ValidationListener.Phase.TOKENIZE));
+        }
+
+        @Test
+        void validateAndParse_withExpiredPayload_throwsBeforeParsing() {
+            final String expired = "auth_date=" + (STUB_AUTH_DATE - 7200) + "&user=%7Bbroken&hash=" + sign("");
+
+            assertThrows(ExpiredException.class, () -> underTest.validateAndParse(expired));
+            assertThrows(ExpiredException.class, () -> underTest.validateAndParseLazy(expired));
+            assertThrows(ExpiredException.class,
+                    () -> underTest.validateAndParse(expired, EnumSet.noneOf(InitData.Param.class), false, null));
+            assertNull(underTest.validateAndParse(STUB_VALID_INIT_DATA.replace("referral123", "referral124")));
+            assertNotNull(underTest.validateAndParse(STUB_VALID_INIT_DATA));
+        }
+
+        @Test
+        void validateAll_withLimits_reportsPreFilterStatuses() {
+            final ValidationStatus[] statuses = underTest.validateAll(List.of(
+                    STUB_VALID_INIT_DATA,
+                    STUB_VALID_INIT_DATA + "&padding=" + "a".repeat(1024),
+                    "auth_date=" + STUB_AUTH_DATE
+            ));
+
+            assertArrayEquals(
+                    new ValidationStatus[]{ValidationStatus.VALID, ValidationStatus.MALFORMED, ValidationStatus.SIGNATURE_MISSING},
+                    statuses
+            );
+        }
+
+        @Test
+        void constructor_withoutLimits_doesNotPreFilter() {
+            assertNull(unfiltered.getLimits());
+            assertSame(InitDataLimits.DEFAULT, new InitDataValidator(
+                    STUB_BOT_TOKEN, null, null, null, null, null, InitDataLimits.DEFAULT
+            ).getLimits());
+        }
+    }
+
+    @Nested
+    class keySourceTest {
+        static final String NEW_BOT_TOKEN = "123456789:NEW_TEST_FAKE_BOT_TOKEN_EXAMPLE";
+
+        final RotatingBotKeySource keySource = new RotatingBotKeySource(List.of(STUB_BOT_TOKEN));
+        final InitDataValidator underTest = new InitDataValidator(keySource, null, null);
+
+        @Test
+        void validate_duringRotation_acceptsBothKeysAndReportsMatch() {
+            assertEquals(0, underTest.validate(STUB_VALID_INIT_DATA).getKeyIndex());
+
+            keySource.rotate(List.of(NEW_BOT_TOKEN, STUB_BOT_TOKEN));
+            final ValidationResult result = underTest.validate(STUB_VALID_INIT_DATA);
+
+            assertTrue(result.isValid());
+            assertEquals(1, result.getKeyIndex());
+            assertTrue(underTest.isValid(STUB_VALID_INIT_DATA));
+            assertNotNull(underTest.validateAndParse(STUB_VALID_INIT_DATA));
+        }
+
+        @Test
+        void validate_afterRetiringKey_rejectsOldSignature() {
+            keySource.rotate(List.of(NEW_BOT_TOKEN));
+
+            final ValidationResult result = underTest.validate(STUB_VALID_INIT_DATA);
+            assertEquals(ValidationStatus.BAD_SIGNATURE, result.getStatus());
+            assertEquals(-1, result.getKeyIndex());
+            assertFalse(underTest.isValidBytes(STUB_VALID_INIT_DATA.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        @Test
+        void validateAll_duringRotation_acceptsBothKeys() {
+            keySource.rotate(List.of(NEW_BOT_TOKEN, STUB_BOT_TOKEN));
+            final List<String> batch = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                batch.add(i % 2 == 0 ? STUB_VALID_INIT_DATA : STUB_VALID_INIT_DATA.replace("referral123", "referral124"));
+            }
+
+            final ValidationStatus[] statuses = underTest.validateAll(batch);
+
+            for (int i = 0; i < statuses.length; i++) {
+                assertEquals(i % 2 == 0 ? ValidationStatus.VALID : ValidationStatus.BAD_SIGNATURE, statuses[i]);
+            }
+        }
+
+        @Test
+        void validate_withCache_dropsEntriesOfRetiredKeys() {
+            final InitDataValidator cached = new InitDataValidator(
+                    keySource, null, null, null, new ValidationCache(16), null, null
+            );
+
+            assertTrue(cached.isValid(STUB_VALID_INIT_DATA));
+            final ValidationResult hit = cached.validate(STUB_VALID_INIT_DATA);
+            assertTrue(hit.isValid());
+            assertEquals(0, hit.getKeyIndex());
+
+            keySource.rotate(List.of(NEW_BOT_TOKEN));
+
+            assertFalse(cached.isValid(STUB_VALID_INIT_DATA));
+            assertNull(cached.validateAndParse(STUB_VALID_INIT_DATA));
+        }
+
+        @Test
+        void constructor_withoutKeySource_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> new InitDataValidator((BotKeySource) null, null, null));
+        }
+    }
+
+    @Nested
+    class asyncTest {
+        final InitDataValidator underTest = new InitDataValidator(STUB_BOT_TOKEN);
+
+        @Test
+        void validateAsync_onExecutor_completesWithResult() throws Exception {
+            final ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                final CompletableFuture<ValidationResult> valid = underTest.validateAsync(STUB_VALID_INIT_DATA, executor);
+                final CompletableFuture<ValidationResult> invalid =
+                        underTest.validateAsync(STUB_VALID_INIT_DATA.replace("referral123", "referral124"), executor);
+
+                assertEquals(ValidationStatus.VALID, valid.get().getStatus());
+                assertEquals(ValidationStatus.BAD_SIGNATURE, invalid.get().getStatus());
+                assertEquals(ValidationStatus.MALFORMED, underTest.validateAsync(null).get().getStatus());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void validateAsync_runsOnGivenExecutor() {
+            final List<Runnable> tasks = new ArrayList<>();
+            final CompletableFuture<ValidationResult> future = underTest.validateAsync(STUB_VALID_INIT_DATA, tasks::add);
+
+            assertFalse(future.isDone());
+            assertEquals(1, tasks.size());
+            tasks.get(0).run();
+            assertTrue(future.join().isValid());
+        }
+
+        @Test
+        void validateAndParseAsync_completesWithParsedOrNull() {
+            final InitData parsed = underTest.validateAndParseAsync(STUB_VALID_INIT_DATA, null).join();
+
+            assertEquals(underTest.validateAndParse(STUB_VALID_INIT_DATA), parsed);
+            assertNull(underTest.validateAndParseAsync(STUB_VALID_INIT_DATA.replace("referral123", "referral124"), null).join());
+        }
+
+        @Test
+        void validateAndParseAsync_withRejectedPayload_completesExceptionally() {
+            final CompletableFuture<InitData> missingHash = underTest.validateAndParseAsync("auth_date=" + STUB_AUTH_DATE, null);
+            final CompletableFuture<InitData> blank = underTest.validateAndParseAsync(" ", Runnable::run);
+
+            final CompletionException missingHashException = assertThrows(CompletionException.class, missingHash::join);
+            assertInstanceOf(SignatureMissingException.class, missingHashException.getCause());
+            assertInstanceOf(IllegalArgumentException.class, assertThrows(CompletionException.class, blank::join).getCause());
+        }
+
+        @Test
+        void validate_afterFailureMidSignature_reusesCleanHmac() {
+            final String malformed = "auth_date=" + STUB_AUTH_DATE + "&start_param=%zz&hash=" + sign("");
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(ValidationStatus.MALFORMED, underTest.validate(malformed).getStatus());
+                assertEquals(ValidationStatus.VALID, underTest.validate(STUB_VALID_INIT_DATA).getStatus());
+            }
+        }
+
+        @Test
+        void validateAsync_concurrently_matchesSequentialResult() throws Exception {
+            final String invalid = STUB_VALID_INIT_DATA.replace("referral123", "referral124");
+            final ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                final List<CompletableFuture<ValidationResult>> futures = new ArrayList<>();
+                for (int i = 0; i < 1_000; i++) {
+                    futures.add(underTest.validateAsync(i % 3 == 0 ? invalid : STUB_VALID_INIT_DATA, executor));
+                }
+
+                for (int i = 0; i < futures.size(); i++) {
+                    assertEquals(i % 3 != 0, futures.get(i).get().isValid());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    static String sign(String dataCheckString) {
+        final byte[] secretKey = InitDataUtils.hmacDigest(
+                STUB_BOT_TOKEN.getBytes(StandardCharsets.UTF_8), InitDataUtils.SECRET_KEY_INPUT
+        );
+        return InitDataUtils.bytesToHex(
+                InitDataUtils.hmacDigest(dataCheckString.getBytes(StandardCharsets.UTF_8), secretKey)
+        );
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.sanvew.tg.init.data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoolTest {
+    @Nested
+    class acquireTest {
+        final AtomicInteger created = new AtomicInteger();
+        final Pool<Object> underTest = new Pool<>(2, () -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+
+        @Test
+        void acquire_afterRelease_reusesObject() {
+            final Object value = underTest.acquire();
+            underTest.release(value);
+
+            assertSame(value, underTest.acquire());
+            assertEquals(1, created.get());
+        }
+
+        @Test
+        void acquire_withAllInUse_createsNewObject() {
+            final Object first = underTest.acquire();
+            final Object second = underTest.acquire();
+
+            assertNotSame(first, second);
+            assertEquals(2, created.get());
+        }
+
+        @Test
+        void release_beyondCapacity_dropsObject() {
+            final List<Object> released = List.of(underTest.acquire(), underTest.acquire(), underTest.acquire());
+            released.forEach(underTest::release);
+
+            assertTrue(released.contains(underTest.acquire()));
+            assertTrue(released.contains(underTest.acquire()));
+            assertFalse(released.contains(underTest.acquire()));
+        }
+
+        @Test
+        void acquire_concurrently_neverSharesObject() throws Exception {
+            final Pool<AtomicInteger> pool = new Pool<>(2, AtomicInteger::new);
+            final Thread[] threads = new Thread[4];
+            final boolean[] exclusive = new boolean[threads.length];
+            for (int t = 0; t < threads.length; t++) {
+                final int idx = t;
+                threads[t] = new Thread(() -> {
+                    boolean allExclusive = true;
+                    for (int i = 0; i < 10_000; i++) {
+                        final AtomicInteger owner = pool.acquire();
+                        allExclusive &= owner.compareAndSet(0, idx + 1);
+                        owner.set(0);
+                        pool.release(owner);
+                    }
+                    exclusive[idx] = allExclusive;
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            for (boolean allExclusive : exclusive) {
+                assertTrue(allExclusive);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.sanvew.tg.init.data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayGuardTest {
+    static final long NOW = 1749945600;
+
+    @Nested
+    class constructorTest {
+        @Test
+        void constructor_withNonPositiveCapacity_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> new ReplayGuard(0));
+            assertThrows(IllegalArgumentException.class, () -> new ReplayGuard(-1));
+        }
+    }
+
+    @Nested
+    class tryRecordTest {
+        final ReplayGuard underTest = new ReplayGuard(100);
+
+        @Test
+        void tryRecord_withNewHash_returnsRecorded() {
+            assertEquals(ReplayGuard.RECORDED, underTest.tryRecord(hash(1), NOW + 60, NOW));
+            assertEquals(ReplayGuard.RECORDED, underTest.tryRecord(hash(2), NOW + 60, NOW));
+            assertEquals(2, underTest.size());
+        }
+
+        @Test
+        void tryRecord_withRecordedHash_returnsReplayedUntilExpired() {
+            assertEquals(ReplayGuard.RECORDED, underTest.tryRecord(hash(1), NOW + 60, NOW));
+
+            assertEquals(ReplayGuard.REPLAYED, underTest.tryRecord(hash(1), NOW + 60, NOW + 1));
+            assertEquals(ReplayGuard.REPLAYED, underTest.tryRecord(hash(1), NOW + 60, NOW + 60));
+            assertEquals(ReplayGuard.RECORDED, underTest.tryRecord(hash(1), NOW + 120, NOW + 61));
+            assertEquals(1, underTest.size());
+        }
+
+        @Test
+        void tryRecord_withZeroPrefix_isRecorded() {
+            assertEquals(ReplayGuard.RECORDED, underTest.tryRecord(new byte[32], NOW + 60, NOW));
+            assertEquals(ReplayGuard.REPLAYED, underTest.tryRecord(new byte[32], NOW + 60, NOW));
+        }
+
+        @Test
+        void tryRecord_whenFull_returnsFullUntilEntriesExpire() {
+            int recorded = 0;
+            while (underTest.tryRecord(hash(recorded), NOW + 60, NOW) == ReplayGuard.RECORDED) {
+                recorded++;
+            }
+
+            assertTrue(recorded >= 100, "recorded " + recorded);
+            assertEquals(ReplayGuard.FULL, underTest.tryRecord(hash(recorded), NOW + 60, NOW));
+            assertEquals(ReplayGuard.REPLAYED, underTest.tryRecord(hash(0), NOW + 60, NOW));
+            assertEquals(ReplayGuard.RECORDED, underTest.tryRecord(hash(recorded), NOW + 120, NOW + 61));
+        }
+
+        @Test
+        void tryRecord_afterSweep_keepsLiveEntries() {
+            final Random random = new Random(42);
+            final List<byte[]> live = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                final byte[] hash = randomHash(random);
+                final boolean longLived = i % 10 == 0;
+                assertEquals(ReplayGuard.RECORDED, underTest.tryRecord(hash, longLived ? NOW + 1_000 : NOW + 1 + i / 25, NOW + i / 25));
+                if (longLived) { live.add(hash); }
+            }
+
+            for (byte[] hash : live) {
+                assertEquals(ReplayGuard.REPLAYED, underTest.tryRecord(hash, NOW + 1_000, NOW + 100));
+            }
+        }
+
+        @Test
+        void clear_forgetsRecordedHashes() {
+            underTest.tryRecord(hash(1), NOW + 60, NOW);
+
+            underTest.clear();
+
+            assertEquals(0, underTest.size());
+            assertEquals(ReplayGuard.RECORDED, underTest.tryRecord(hash(1), NOW + 60, NOW));
+        }
+    }
+
+    @Nested
+    class concurrencyTest {
+        @Test
+        void tryRecord_concurrently_acceptsEachHashOnce() throws Exception {
+            final ReplayGuard underTest = new ReplayGuard(100_000);
+            final AtomicInteger accepted = new AtomicInteger();
+            final ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                final List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    futures.add(executor.submit(() -> {
+                        final Random random = new Random(7);
+                        for (int i = 0; i < 20_000; i++) {
+                            if (underTest.tryRecord(randomHash(random), NOW + 60, NOW) == ReplayGuard.RECORDED) {
+                                accepted.incrementAndGet();
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            assertEquals(20_000, accepted.get());
+            assertEquals(20_000, underTest.size());
+        }
+    }
+
+    static byte[] hash(long prefix) {
+        return ByteBuffer.allocate(32).putLong(prefix * 0x9E3779B97F4A7C15L).array();
+    }
+
+    static byte[] randomHash(Random random) {
+        final byte[] hash = new byte[32];
+        random.nextBytes(hash);
+        return hash;
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.sanvew.tg.init.data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.github.sanvew.tg.init.data.InitDataValidatorTest.STUB_BOT_TOKEN;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RotatingBotKeySourceTest {
+    @Nested
+    class rotateTest {
+        final RotatingBotKeySource underTest = new RotatingBotKeySource(List.of(STUB_BOT_TOKEN));
+
+        @Test
+        void rotate_publishesNewSnapshot() {
+            final BotKeys before = underTest.current();
+            final BotKeys rotated = new BotKeys(List.of("1:NEW", STUB_BOT_TOKEN));
+
+            underTest.rotate(rotated);
+
+            assertSame(rotated, underTest.current());
+            assertNotSame(before, underTest.current());
+            assertEquals(1, before.size());
+        }
+
+        @Test
+        void rotate_withInvalidKeys_keepsCurrentKeys() {
+            final BotKeys before = underTest.current();
+
+            assertThrows(IllegalArgumentException.class, () -> underTest.rotate((BotKeys) null));
+            assertThrows(IllegalArgumentException.class, () -> underTest.rotate(List.of()));
+            assertSame(before, underTest.current());
+        }
+
+        @Test
+        void constructor_withoutKeys_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> new RotatingBotKeySource((BotKeys) null));
+            assertThrows(IllegalArgumentException.class, () -> new RotatingBotKeySource(List.of(" ")));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package io.github.sanvew.tg.init.data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import io.github.sanvew.tg.init.data.type.InitData;
+
+import java.nio.CharBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static io.github.sanvew.tg.init.data.InitDataValidatorTest.STUB_AUTH_DATE;
+import static io.github.sanvew.tg.init.data.InitDataValidatorTest.STUB_BOT_TOKEN;
+import static io.github.sanvew.tg.init.data.InitDataValidatorTest.STUB_VALID_INIT_DATA;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionTokensTest {
+    static final long STUB_USER_ID = 123456789;
+    static final String STUB_CHAT_INSTANCE = "-3788475317572404878";
+    static final Instant STUB_NOW = Instant.ofEpochSecond(STUB_AUTH_DATE + 60);
+
+    final InitData initData = InitDataUtils.parse(STUB_VALID_INIT_DATA + "&chat_instance=" + STUB_CHAT_INSTANCE);
+    final Duration ttl = Duration.ofMinutes(15);
+    final SessionTokens underTest = tokensAt(STUB_NOW);
+
+    SessionTokens tokensAt(Instant now) {
+        return new SessionTokens(STUB_BOT_TOKEN, ttl, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Nested
+    class constructorTest {
+        @Test
+        void constructor_withInvalidArguments_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> new SessionTokens((String) null, ttl));
+            assertThrows(IllegalArgumentException.class, () -> new SessionTokens(" ", ttl));
+            assertThrows(IllegalArgumentException.class, () -> new SessionTokens(STUB_BOT_TOKEN, null));
+            assertThrows(IllegalArgumentException.class, () -> new SessionTokens(STUB_BOT_TOKEN, Duration.ofMillis(999)));
+            assertThrows(IllegalArgumentException.class, () -> new SessionTokens(STUB_BOT_TOKEN, Duration.ofMinutes(-1)));
+            assertThrows(IllegalArgumentException.class, () -> new SessionTokens((byte[]) null, ttl, null));
+            assertThrows(IllegalArgumentException.class, () -> new SessionTokens(new byte[31], ttl, null));
+        }
+
+        @Test
+        void toString_doesNotExposeSecret() {
+            assertEquals("SessionTokens{ttl=PT15M}", underTest.toString());
+        }
+    }
+
+    @Nested
+    class issueTest {
+        @Test
+        void issue_withValidatedInitData_returnsFixedLengthUrlSafeToken() {
+            final String token = underTest.issue(initData);
+
+            assertEquals(SessionTokens.TOKEN_LENGTH, token.length());
+            assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+            assertEquals(41, Base64.getUrlDecoder().decode(token).length);
+        }
+
+        @Test
+        void issue_isDeterministicForSameInputAndTime() {
+            assertEquals(underTest.issue(initData), tokensAt(STUB_NOW).issue(initData));
+            assertNotEquals(underTest.issue(initData), tokensAt(STUB_NOW.plusSeconds(1)).issue(initData));
+        }
+
+        @Test
+        void issue_withUnsupportedInitData_throwsIllegalArgumentException() {
+            final String withoutUser = "auth_date=" + STUB_AUTH_DATE + "&hash=abc";
+
+            assertThrows(IllegalArgumentException.class, () -> underTest.issue(null));
+            assertThrows(IllegalArgumentException.class, () -> underTest.issue(InitDataUtils.parse(withoutUser)));
+            assertThrows(IllegalArgumentException.class, () ->
+                    underTest.issue(InitDataUtils.parse(STUB_VALID_INIT_DATA + "&chat_instance=abc"))
+            );
+            assertThrows(IllegalArgumentException.class, () ->
+                    underTest.issue(InitDataUtils.parse(STUB_VALID_INIT_DATA.replace("auth_date=" + STUB_AUTH_DATE, "auth_date=-1")))
+            );
+            assertThrows(IllegalArgumentException.class, () ->
+                    tokensAt(Instant.ofEpochSecond(0xFFFF_FFFFL)).issue(initData)
+            );
+        }
+    }
+
+    @Nested
+    class verifyTest {
+        final String token = underTest.issue(initData);
+
+        @Test
+        void verify_withIssuedToken_returnsClaims() {
+            final SessionToken expected = new SessionToken(
+                    STUB_USER_ID, STUB_AUTH_DATE, STUB_NOW.getEpochSecond() + ttl.getSeconds(), STUB_CHAT_INSTANCE
+            );
+
+            assertEquals(expected, underTest.verify(token));
+            assertTrue(underTest.isValid(token));
+            assertEquals(STUB_USER_ID, underTest.verifyUserId(token));
+        }
+
+        @Test
+        void verify_withoutChatInstance_returnsNullChatInstance() {
+            final String withoutChatInstance = underTest.issue(InitDataUtils.parse(STUB_VALID_INIT_DATA));
+
+            assertNull(underTest.verify(withoutChatInstance).getChatInstance());
+        }
+
+        @Test
+        void verify_withCharSequenceView_acceptsIt() {
+            final CharBuffer header = CharBuffer.wrap("Session " + token).position(8);
+
+            assertTrue(underTest.isValid(header));
+            assertTrue(underTest.isValid(new StringBuilder(token)));
+        }
+
+        @Test
+        void verify_atExpiration_acceptsUntilSecondPassed() {
+            final Instant expiresAt = STUB_NOW.plus(ttl);
+
+            assertTrue(tokensAt(expiresAt).isValid(token));
+            assertFalse(tokensAt(expiresAt.plusMillis(1)).isValid(token));
+            assertNull(tokensAt(expiresAt.plusSeconds(1)).verify(token));
+            assertEquals(SessionTokens.INVALID_USER_ID, tokensAt(expiresAt.plusSeconds(1)).verifyUserId(token));
+        }
+
+        @Test
+        void verify_withOtherKey_rejectsToken() {
+            final SessionTokens other = new SessionTokens("1:OTHER", ttl, Clock.fixed(STUB_NOW, ZoneOffset.UTC));
+
+            assertFalse(other.isValid(token));
+            assertTrue(other.isValid(other.issue(initData)));
+        }
+
+        @Test
+        void verify_withTamperedToken_rejectsIt() {
+            for (int i = 0; i < token.length(); i++) {
+                final char replacement = token.charAt(i) == 'A' ? 'B' : 'A';
+                final String tampered = token.substring(0, i) + replacement + token.substring(i + 1);
+
+                assertFalse(underTest.isValid(tampered), tampered);
+            }
+        }
+
+        @Test
+        void verify_withMalformedToken_rejectsIt() {
+            assertFalse(underTest.isValid(null));
+            assertFalse(underTest.isValid(""));
+            assertFalse(underTest.isValid(token.substring(1)));
+            assertFalse(underTest.isValid(token + "A"));
+            assertFalse(underTest.isValid(token.replace(token.charAt(10), '+')));
+            assertFalse(underTest.isValid(token.substring(0, 20) + 'é' + token.substring(21)));
+            assertNull(underTest.verify("A".repeat(SessionTokens.TOKEN_LENGTH)));
+        }
+
+        @Test
+        void verify_withNonCanonicalTrailingBits_rejectsToken() {
+            final char last = token.charAt(token.length() - 1);
+            final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+            final char nonCanonical = alphabet.charAt(alphabet.indexOf(last) | 1);
+
+            assertFalse(underTest.isValid(token.substring(0, token.length() - 1) + nonCanonical));
+        }
+
+        @Test
+        void verify_concurrently_matchesSequentialResult() throws Exception {
+            final Thread[] threads = new Thread[4];
+            final boolean[] valid = new boolean[threads.length];
+            for (int t = 0; t < threads.length; t++) {
+                final int idx = t;
+                threads[t] = new Thread(() -> {
+                    boolean allValid = true;
+                    for (int i = 0; i < 1_000; i++) {
+                        allValid &= underTest.verifyUserId(token) == STUB_USER_ID && !underTest.isValid(token + "A");
+                    }
+                    valid[idx] = allValid;
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            for (boolean allValid : valid) {
+                assertTrue(allValid);
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.sanvew.tg.init.data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import io.github.sanvew.tg.init.data.exception.ExpiredException;
+import io.github.sanvew.tg.init.data.exception.SignatureMissingException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThirdPartyInitDataValidatorTest {
+    static final long STUB_BOT_ID = 7342037359L;
+    static final long STUB_AUTH_DATE = 1749945600;
+    static final String STUB_INIT_DATA_UNSIGNED = "auth_date=" + STUB_AUTH_DATE +
+            "&chat_instance=-4206943243143040712" +
+            "&chat_type=sender" +
+            "&user=%7B%22id%22%3A279058397%2C%22first_name%22%3A%22Vladislav%22%2C%22last_name%22%3A%22Kibenko%22%7D" +
+            "&hash=0000000000000000000000000000000000000000000000000000000000000000";
+    static final KeyPair KEY_PAIR = generateKeyPair();
+    static final String PUBLIC_KEY = publicKeyHex(KEY_PAIR);
+    static final String STUB_VALID_INIT_DATA = signed(STUB_INIT_DATA_UNSIGNED, STUB_BOT_ID);
+
+    @Nested
+    class constructorTest {
+        @Test
+        void constructor_withTelegramPublicKeys_succeeds() {
+            assertDoesNotThrow(() -> new ThirdPartyInitDataValidator());
+            assertDoesNotThrow(() -> new ThirdPartyInitDataValidator(ThirdPartyInitDataValidator.TEST_PUBLIC_KEY, null, null));
+        }
+
+        @Test
+        void constructor_withInvalidPublicKey_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> new ThirdPartyInitDataValidator(null, null, null));
+            assertThrows(IllegalArgumentException.class, () -> new ThirdPartyInitDataValidator("abcd", null, null));
+            assertThrows(IllegalArgumentException.class, () ->
+                    new ThirdPartyInitDataValidator(PUBLIC_KEY.replace(PUBLIC_KEY.charAt(0), 'x'), null, null)
+            );
+        }
+    }
+
+    @Nested
+    class isValidTest {
+        final ThirdPartyInitDataValidator underTest = new ThirdPartyInitDataValidator(PUBLIC_KEY, null, null);
+
+        @Test
+        void isValid_withValidSignature_returnsTrue() {
+            assertTrue(underTest.isValid(STUB_VALID_INIT_DATA, STUB_BOT_ID));
+        }
+
+        @Test
+        void isValid_withDifferentBotId_returnsFalse() {
+            assertFalse(underTest.isValid(STUB_VALID_INIT_DATA, STUB_BOT_ID + 1));
+        }
+
+        @Test
+        void isValid_withTamperedData_returnsFalse() {
+            assertFalse(underTest.isValid(STUB_VALID_INIT_DATA.replace("sender", "private"), STUB_BOT_ID));
+        }
+
+        @Test
+        void isValid_withDifferentHash_returnsTrue() {
+            assertTrue(underTest.isValid(STUB_VALID_INIT_DATA.replace("hash=0", "hash=1"), STUB_BOT_ID));
+        }
+
+        @Test
+        void isValid_withDifferentPublicKey_returnsFalse() {
+            final ThirdPartyInitDataValidator production = new ThirdPartyInitDataValidator();
+
+            assertFalse(production.isValid(STUB_VALID_INIT_DATA, STUB_BOT_ID));
+        }
+
+        @Test
+        void isValid_withMalformedSignature_returnsFalse() {
+            assertFalse(underTest.isValid(STUB_INIT_DATA_UNSIGNED + "&signature=!!!", STUB_BOT_ID));
+            assertFalse(underTest.isValid(STUB_INIT_DATA_UNSIGNED + "&signature=AAAA", STUB_BOT_ID));
+        }
+
+        @Test
+        void isValid_withMissingSignature_throwsSignatureMissingException() {
+            assertThrows(SignatureMissingException.class, () -> underTest.isValid(STUB_INIT_DATA_UNSIGNED, STUB_BOT_ID));
+            assertThrows(SignatureMissingException.class, () ->
+                    underTest.isValid(STUB_INIT_DATA_UNSIGNED + "&signature=", STUB_BOT_ID)
+            );
+        }
+
+        @Test
+        void isValid_withBlankInitData_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> underTest.isValid(null, STUB_BOT_ID));
+            assertThrows(IllegalArgumentException.class, () -> underTest.isValid(" ", STUB_BOT_ID));
+        }
+
+        @Test
+        void isValid_withClockAfterExpiration_throwsExpiredException() {
+            final Clock fixedClock = Clock.fixed(
+                    Instant.ofEpochSecond(STUB_AUTH_DATE).plus(Duration.ofHours(2)), ZoneOffset.UTC
+            );
+            final ThirdPartyInitDataValidator expiring =
+                    new ThirdPartyInitDataValidator(PUBLIC_KEY, Duration.ofHours(1), fixedClock);
+
+            assertThrows(ExpiredException.class, () -> expiring.isValid(STUB_VALID_INIT_DATA, STUB_BOT_ID));
+        }
+    }
+
+    @Nested
+    class validateAllTest {
+        final ThirdPartyInitDataValidator underTest = new ThirdPartyInitDataValidator(PUBLIC_KEY, null, null);
+
+        @Test
+        void validateAll_withMixedPayloads_returnsStatusPerItem() {
+            final ValidationStatus[] statuses = underTest.validateAll(Arrays.asList(
+                    STUB_VALID_INIT_DATA,
+                    STUB_VALID_INIT_DATA.replace("sender", "private"),
+                    STUB_INIT_DATA_UNSIGNED,
+                    STUB_VALID_INIT_DATA.replace("&hash=", "&start_param=%zz&hash="),
+                    STUB_VALID_INIT_DATA
+            ), STUB_BOT_ID);
+
+            assertArrayEquals(new ValidationStatus[]{
+                    ValidationStatus.VALID,
+                    ValidationStatus.BAD_SIGNATURE,
+                    ValidationStatus.SIGNATURE_MISSING,
+                    ValidationStatus.MALFORMED,
+                    ValidationStatus.VALID,
+            }, statuses);
+        }
+
+        @Test
+        void validateAll_withLargeBatch_matchesSingleValidation() {
+            final String tampered = STUB_VALID_INIT_DATA.replace("sender", "private");
+            final List<String> batch = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                batch.add(i % 4 == 0 ? tampered : STUB_VALID_INIT_DATA);
+            }
+
+            final ValidationStatus[] statuses = underTest.validateAll(batch, STUB_BOT_ID);
+
+            for (int i = 0; i < batch.size(); i++) {
+                assertEquals(underTest.isValid(batch.get(i), STUB_BOT_ID), statuses[i].isValid(), "item " + i);
+            }
+        }
+    }
+
+    static KeyPair generateKeyPair() {
+        try {
+            return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String publicKeyHex(KeyPair keyPair) {
+        final byte[] encoded = keyPair.getPublic().getEncoded();
+        return InitDataUtils.bytesToHex(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length));
+    }
+
+    /**
+     * Signs {@code initData} the way Telegram does and appends the {@code signature} parameter.
+     */
+    static String signed(String initData, long botId) {
+        final String checkString = botId + ":WebAppData\n" + InitDataTokens.tokenize(initData).dataCheckString();
+        try {
+            final Signature signer = Signature.getInstance("Ed25519");
+            signer.initSign(KEY_PAIR.getPrivate());
+            signer.update(checkString.getBytes(StandardCharsets.UTF_8));
+            return initData + "&signature=" + Base64.getUrlEncoder().withoutPadding().encodeToString(signer.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.sanvew.tg.init.data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationCacheTest {
+    static final long NOW = 1749945600;
+    static final Object OWNER = new Object();
+
+    @Nested
+    class constructorTest {
+        @Test
+        void constructor_withNonPositiveCapacity_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> new ValidationCache(0));
+        }
+
+        @Test
+        void constructor_roundsCapacityUpToPowerOfTwo() {
+            assertEquals(4, new ValidationCache(1).getCapacity());
+            assertEquals(128, new ValidationCache(100).getCapacity());
+        }
+    }
+
+    @Nested
+    class keyTest {
+        @Test
+        void key_withHashParam_readsHexPrefix() {
+            assertEquals(0x0123456789abcdefL, ValidationCache.key("auth_date=1&hash=0123456789abcdef00"));
+            assertEquals(0x0123456789abcdefL, ValidationCache.key("hash=0123456789abcdef00&auth_date=1"));
+            assertEquals(0x0123456789abcdefL, ValidationCache.key("hash=0123456789abcdef00&xhash=fedcba9876543210"));
+        }
+
+        @Test
+        void key_withoutUsableHashParam_returnsZero() {
+            assertEquals(0, ValidationCache.key("auth_date=1"));
+            assertEquals(0, ValidationCache.key("auth_date=1&hash=0123"));
+            assertEquals(0, ValidationCache.key("auth_date=1&hash=%30123456789abcdef"));
+        }
+    }
+
+    @Nested
+    class getTest {
+        final ValidationCache underTest = new ValidationCache(4);
+
+        @Test
+        void get_withEqualInitData_returnsEntry() {
+            underTest.put(OWNER, initData(1, "a"), NOW + 60, 0, null, null, at(NOW));
+
+            assertNotNull(underTest.get(OWNER, initData(1, "a"), at(NOW)));
+        }
+
+        @Test
+        void get_withSameHashDifferentBody_returnsNull() {
+            underTest.put(OWNER, initData(1, "a"), NOW + 60, 0, null, null, at(NOW));
+
+            assertNull(underTest.get(OWNER, initData(1, "b"), at(NOW)));
+        }
+
+        @Test
+        void get_withDifferentOwner_returnsNull() {
+            underTest.put(OWNER, initData(1, "a"), NOW + 60, 0, null, null, at(NOW));
+
+            assertNull(underTest.get(new Object(), initData(1, "a"), at(NOW)));
+        }
+
+        @Test
+        void get_afterExpiration_returnsNull() {
+            underTest.put(OWNER, initData(1, "a"), NOW + 60, 0, null, null, at(NOW));
+
+            assertNotNull(underTest.get(OWNER, initData(1, "a"), at(NOW + 60)));
+            assertNull(underTest.get(OWNER, initData(1, "a"), at(NOW + 61)));
+        }
+
+        @Test
+        void get_withinLastSecondAfterExpiration_returnsNull() {
+            underTest.put(OWNER, initData(1, "a"), NOW + 60, 0, null, null, at(NOW));
+
+            assertNull(underTest.get(OWNER, initData(1, "a"), Instant.ofEpochSecond(NOW + 60, 500_000_000)));
+        }
+    }
+
+    @Nested
+    class evictionTest {
+        @Test
+        void put_whenSetIsFull_evictsLeastFrequentlyUsed() {
+            final ValidationCache underTest = new ValidationCache(4);
+            for (int i = 0; i < 4; i++) {
+                underTest.put(OWNER, initData(i, "a"), NOW + 60, 0, null, null, at(NOW));
+            }
+            for (int i = 0; i < 4; i++) {
+                if (i == 2) { continue; }
+                underTest.get(OWNER, initData(i, "a"), at(NOW));
+                underTest.get(OWNER, initData(i, "a"), at(NOW));
+            }
+
+            underTest.put(OWNER, initData(4, "a"), NOW + 60, 0, null, null, at(NOW));
+
+            assertEquals(4, underTest.size());
+            assertNull(underTest.get(OWNER, initData(2, "a"), at(NOW)));
+            assertNotNull(underTest.get(OWNER, initData(4, "a"), at(NOW)));
+            assertNotNull(underTest.get(OWNER, initData(0, "a"), at(NOW)));
+        }
+
+        @Test
+        void put_whenSetIsFull_replacesExpiredEntryFirst() {
+            final ValidationCache underTest = new ValidationCache(4);
+            for (int i = 0; i < 4; i++) {
+                underTest.put(OWNER, initData(i, "a"), i == 3 ? NOW : NOW + 60, 0, null, null, at(NOW));
+                underTest.get(OWNER, initData(i, "a"), at(NOW));
+            }
+
+            underTest.put(OWNER, initData(4, "a"), NOW + 60, 0, null, null, Instant.ofEpochSecond(NOW, 1));
+
+            assertNull(underTest.get(OWNER, initData(3, "a"), at(NOW)));
+            for (int i = 0; i < 3; i++) {
+                assertNotNull(underTest.get(OWNER, initData(i, "a"), at(NOW + 1)));
+            }
+        }
+
+        @Test
+        void clear_dropsAllEntries() {
+            final ValidationCache underTest = new ValidationCache(4);
+            underTest.put(OWNER, initData(1, "a"), NOW + 60, 0, null, null, at(NOW));
+
+            underTest.clear();
+
+            assertEquals(0, underTest.size());
+        }
+    }
+
+    static String initData(int hash, String startParam) {
+        return "auth_date=" + NOW + "&start_param=" + startParam + "&hash=" + String.format("%064x", hash + 1);
+    }
+
+    static Instant at(long epochSecond) {
+        return Instant.ofEpochSecond(epochSecond);
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.sanvew.tg.init.data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationMetricsTest {
+    @Nested
+    class onPhaseTest {
+        final ValidationMetrics underTest = new ValidationMetrics();
+
+        @Test
+        void onPhase_withDurations_countsPerBucket() {
+            underTest.onPhase(ValidationListener.Phase.SIGNATURE, 100);
+            underTest.onPhase(ValidationListener.Phase.SIGNATURE, 256);
+            underTest.onPhase(ValidationListener.Phase.SIGNATURE, 511);
+            underTest.onPhase(ValidationListener.Phase.SIGNATURE, TimeUnit.SECONDS.toNanos(5));
+
+            final long[] histogram = underTest.histogram(ValidationListener.Phase.SIGNATURE);
+
+            assertEquals(ValidationMetrics.BUCKETS, histogram.length);
+            assertEquals(1, histogram[0]);
+            assertEquals(2, histogram[1]);
+            assertEquals(1, histogram[ValidationMetrics.BUCKETS - 1]);
+            assertEquals(4, underTest.count(ValidationListener.Phase.SIGNATURE));
+            assertEquals(100 + 256 + 511 + TimeUnit.SECONDS.toNanos(5), underTest.totalNanos(ValidationListener.Phase.SIGNATURE));
+            assertEquals(0, underTest.count(ValidationListener.Phase.TOKENIZE));
+        }
+
+        @Test
+        void bucket_matchesUpperBounds() {
+            assertEquals(0, ValidationMetrics.bucket(-1));
+            assertEquals(0, ValidationMetrics.bucket(0));
+            for (int i = 0; i < ValidationMetrics.BUCKETS - 1; i++) {
+                final long upperBound = ValidationMetrics.bucketUpperBoundNanos(i);
+
+                assertEquals(i, ValidationMetrics.bucket(upperBound - 1));
+                assertEquals(i + 1, ValidationMetrics.bucket(upperBound));
+            }
+            assertEquals(ValidationMetrics.BUCKETS - 1, ValidationMetrics.bucket(Long.MAX_VALUE));
+            assertThrows(IndexOutOfBoundsException.class, () -> ValidationMetrics.bucketUpperBoundNanos(ValidationMetrics.BUCKETS));
+        }
+    }
+
+    @Nested
+    class onOutcomeTest {
+        final ValidationMetrics underTest = new ValidationMetrics();
+
+        @Test
+        void onOutcome_fromConcurrentThreads_countsEveryEvent() throws Exception {
+            final ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                final Future<?>[] futures = new Future<?>[4];
+                for (int i = 0; i < futures.length; i++) {
+                    futures[i] = executor.submit(() -> {
+                        for (int j = 0; j < 10_000; j++) {
+                            underTest.onOutcome(ValidationStatus.VALID);
+                            underTest.onOutcome(ValidationStatus.EXPIRED);
+                            underTest.onJsonError();
+                        }
+                    });
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            assertEquals(40_000, underTest.count(ValidationStatus.VALID));
+            assertEquals(40_000, underTest.count(ValidationStatus.EXPIRED));
+            assertEquals(40_000, underTest.jsonErrors());
+            assertEquals(0, underTest.count(ValidationStatus.BAD_SIGNATURE));
+        }
+    }
+}
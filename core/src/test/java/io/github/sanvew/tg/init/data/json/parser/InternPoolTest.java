@@ -0,0 +1,104 @@
+package io.github.sanvew.tg.init.data.json.parser;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import io.github.sanvew.tg.init.data.type.Chat;
+import io.github.sanvew.tg.init.data.type.ChatType;
+import io.github.sanvew.tg.init.data.type.User;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InternPoolTest {
+    @Nested
+    class constructorTest {
+        @Test
+        void constructor_withNonPositiveCapacity_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> new InternPool(0, 1));
+            assertThrows(IllegalArgumentException.class, () -> new InternPool(1, -1));
+        }
+    }
+
+    @Nested
+    class stringTest {
+        final InternPool underTest = new InternPool();
+
+        @Test
+        void string_withEqualValue_returnsPooledInstance() {
+            final String first = underTest.string(new String("en"));
+
+            assertSame(first, underTest.string(new String("en")));
+            assertNull(underTest.string(null));
+        }
+
+        @Test
+        void string_withRegionOfSource_returnsPooledInstance() {
+            final String first = underTest.string("{\"language_code\":\"en\"}", 18, 20);
+
+            assertEquals("en", first);
+            assertSame(first, underTest.string("xxen", 2, 4));
+            assertSame(first, underTest.string("en".toCharArray(), 0, 2));
+            assertSame(first, underTest.string(new String("en")));
+        }
+
+        @Test
+        void string_withCollidingValues_keepsLastValue() {
+            final InternPool singleSlot = new InternPool(1, 1);
+            singleSlot.string(new String("en"));
+            final String ru = singleSlot.string(new String("ru"));
+
+            assertSame(ru, singleSlot.string(new String("ru")));
+            assertEquals("en", singleSlot.string("en"));
+        }
+    }
+
+    @Nested
+    class userTest {
+        final InternPool underTest = new InternPool();
+
+        @Test
+        void user_withEqualUser_returnsPooledInstance() {
+            final User first = underTest.user(user(1, "Alice"));
+
+            assertSame(first, underTest.user(user(1, "Alice")));
+            assertNull(underTest.user(null));
+        }
+
+        @Test
+        void user_withChangedUser_replacesPooledInstance() {
+            final User first = underTest.user(user(1, "Alice"));
+            final User renamed = user(1, "Alicia");
+
+            assertSame(renamed, underTest.user(renamed));
+            assertNotSame(first, underTest.user(user(1, "Alice")));
+        }
+
+        @Test
+        void user_withMoreIdsThanCapacity_staysBounded() {
+            final InternPool small = new InternPool(1, 4);
+            for (long id = 0; id < 1000; id++) {
+                small.user(user(id, "User"));
+            }
+            final User last = small.user(user(999, "User"));
+
+            assertSame(last, small.user(user(999, "User")));
+        }
+
+        User user(long id, String firstName) {
+            return new User(null, null, null, firstName, id, null, null, "en", null, null);
+        }
+    }
+
+    @Nested
+    class chatTest {
+        final InternPool underTest = new InternPool();
+
+        @Test
+        void chat_withEqualChat_returnsPooledInstance() {
+            final Chat first = underTest.chat(new Chat(-100, ChatType.GROUP, "Group", null, null));
+
+            assertSame(first, underTest.chat(new Chat(-100, ChatType.GROUP, "Group", null, null)));
+            assertNotSame(first, underTest.chat(new Chat(-100, ChatType.SUPERGROUP, "Group", null, null)));
+            assertNull(underTest.chat(null));
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package io.github.sanvew.tg.init.data.json.parser.impl;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import io.github.sanvew.tg.init.data.exception.JsonParseException;
+import io.github.sanvew.tg.init.data.exception.JsonPropertyMissingException;
+import io.github.sanvew.tg.init.data.json.parser.InitDataJsonTypesParser;
+import io.github.sanvew.tg.init.data.json.parser.InternPool;
+import io.github.sanvew.tg.init.data.type.Chat;
+import io.github.sanvew.tg.init.data.type.ChatType;
+import io.github.sanvew.tg.init.data.type.User;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimpleInitDataJsonTypesParserTest {
+    final InitDataJsonTypesParser underTest = new SimpleInitDataJsonTypesParser();
+
+    @Nested
+    class parseUserTest {
+        @Test
+        void parseUser_withAllFieldsProvided_returnsUser() {
+            final String inputAllFieldsProvided = "{"
+                    + "\"id\":123456789,"
+                    + "\"is_bot\":false,"
+                    + "\"first_name\":\"Alice\","
+                    + "\"last_name\":\"Smith\","
+                    + "\"username\":\"alice123\","
+                    + "\"language_code\":\"en\","
+                    + "\"is_premium\":true,"
+                    + "\"allows_write_to_pm\":true,"
+                    + "\"added_to_attachment_menu\":true,"
+                    + "\"photo_url\":\"https://example.com/avatar.jpg\""
+                    + "}";
+
+            final User expected = new User(
+                    true, true, true, "Alice", 123456789L, false, "Smith", "en", "https://example.com/avatar.jpg",
+                    "alice123"
+            );
+
+            final User actual = underTest.parseUser(inputAllFieldsProvided);
+
+            assertEquals(expected, actual);
+        }
+
+        @Test
+        void parseUser_withOnlyRequiredFields_returnsUser() {
+            final String inputOnlyRequiredFields = "{"
+                    + "\"id\":1,"
+                    + "\"first_name\":\"A\""
+                    + "}";
+
+            final User expected = new User(null, null, null, "A", 1, null, null, null, null, null);
+
+            final User actual = underTest.parseUser( inputOnlyRequiredFields);
+
+            assertEquals(expected, actual);
+        }
+
+        @Test
+        void parseUser_withExtraFields_returnsUser() {
+            final String inputExtraFields = "{"
+                    + "\"id\":1,"
+                    + "\"first_name\":\"A\","
+                    + "\"foo\":\"bar\","
+                    + "\"bar\":null"
+                    + "}";
+
+            final Map<String, String> expectedExtra = new HashMap<>();
+            expectedExtra.put("foo", "bar");
+            expectedExtra.put("bar", null);
+            final User expected = new User(
+                    null, null, null, "A", 1, null, null, null, null, null,
+                    Collections.unmodifiableMap(expectedExtra)
+            );
+
+            final User actual = underTest.parseUser( inputExtraFields);
+
+            assertEquals(expected, actual);
+        }
+
+        @Test
+        void parseUser_withNonStringAndNestedExtraFields_keepsThemAsNull() {
+            final String inputNestedExtraFields = "{"
+                    + "\"nested\":{\"id\":2,\"first_name\":\"B\",\"deep\":[{\"x\":1}]},"
+                    + "\"list\":[1,2],"
+                    + "\"number\":42,"
+                    + "\"id\":1,"
+                    + "\"first_name\":\"A\","
+                    + "\"is_bot\":true"
+                    + "}";
+
+            final Map<String, String> expectedExtra = new HashMap<>();
+            expectedExtra.put("nested", null);
+            expectedExtra.put("list", null);
+            expectedExtra.put("number", null);
+            final User expected = new User(null, null, null, "A", 1, true, null, null, null, null, expectedExtra);
+
+            assertEquals(expected, underTest.parseUser(inputNestedExtraFields));
+        }
+
+        @Test
+        void parseUser_withNullOptionalFields_returnsUserWithNulls() {
+            final String inputNullFields = "{"
+                    + "\"id\":1,"
+                    + "\"first_name\":\"A\","
+                    + "\"last_name\":null,"
+                    + "\"is_premium\":null"
+                    + "}";
+
+            final User expected = new User(null, null, null, "A", 1, null, null, null, null, null);
+
+            assertEquals(expected, underTest.parseUser(inputNullFields));
+        }
+
+        @Test
+        void parseUser_withCoercibleValues_coercesThem() {
+            final String inputCoercibleValues = "{"
+                    + "\"id\":\"123\","
+                    + "\"first_name\":42,"
+                    + "\"is_premium\":\"true\""
+                    + "}";
+
+            final User expected = new User(null, null, true, "42", 123, null, null, null, null, null);
+
+            assertEquals(expected, underTest.parseUser(inputCoercibleValues));
+        }
+
+        @Test
+        void parseUser_withNullRequiredFirstName_throwsJsonPropertyMissingException() {
+            assertThrows(JsonPropertyMissingException.class, () ->
+                    underTest.parseUser("{\"id\":1,\"first_name\":null}")
+            );
+        }
+
+        @Test
+        void parseUser_withNonObjectJson_throwsJsonPropertyMissingException() {
+            assertThrows(JsonPropertyMissingException.class, () -> underTest.parseUser("[1,2]"));
+            assertThrows(JsonPropertyMissingException.class, () -> underTest.parseUser("\"text\""));
+        }
+
+        @Test
+        void parseUser_withNullInput_returnsNull() {
+            assertNull(underTest.parseUser(null));
+        }
+
+        @Test
+        void parseUser_withBlankInput_returnsNull() {
+            assertNull(underTest.parseUser("  "));
+        }
+
+        @Test
+        void parseUser_withMissingRequiredId_throwsJsonParseException() {
+            final String inputRequiredMissingId = "{"
+                    + "\"first_name\":\"Alice\""
+                    + "}";
+
+            assertThrows(JsonPropertyMissingException.class, () -> underTest.parseUser(inputRequiredMissingId));
+        }
+
+        @Test
+        void parseUser_withMissingRequiredFirstName_throwsJsonParseException() {
+            final String inputMissingRequiredFirstName = "{"
+                    + "\"id\":123456"
+                    + "}";
+
+            assertThrows(JsonPropertyMissingException.class, () -> underTest.parseUser(inputMissingRequiredFirstName));
+        }
+
+        @Test
+        void parseUser_withEscapedStrings_unescapesThem() {
+            final String inputEscaped = "{"
+                    + "\"id\":1,"
+                    + "\"first_name\":\"\\u0410\\u043b\\u0438\\u0441\\u0430 \\\"A\\\" \\\\ \\/\\n\","
+                    + "\"last_name\":\"\uD83D\uDE00\","
+                    + "\"f\\u006fo\":\"b\\tar\""
+                    + "}";
+
+            final User expected = new User(
+                    null, null, null, "\u0410\u043b\u0438\u0441\u0430 \"A\" \\ /\n", 1, null, "\uD83D\uDE00", null, null,
+                    null, Map.of("foo", "b\tar")
+            );
+
+            assertEquals(expected, underTest.parseUser(inputEscaped));
+        }
+
+        @Test
+        void parseUser_withNumericEdgeCases_coercesLikeJackson() {
+            assertEquals(-5, underTest.parseUser("{\"id\":-5,\"first_name\":\"A\"}").getId());
+            assertEquals(12, underTest.parseUser("{\"id\":12.9,\"first_name\":\"A\"}").getId());
+            assertEquals(1000, underTest.parseUser("{\"id\":1e3,\"first_name\":\"A\"}").getId());
+            assertEquals(0, underTest.parseUser("{\"id\":\"abc\",\"first_name\":\"A\"}").getId());
+            assertEquals(Long.MAX_VALUE, underTest.parseUser("{\"id\":9223372036854775807,\"first_name\":\"A\"}").getId());
+            assertEquals(true, underTest.parseUser("{\"id\":1,\"first_name\":\"A\",\"is_bot\":1}").isBot());
+            assertEquals(false, underTest.parseUser("{\"id\":1,\"first_name\":\"A\",\"is_bot\":\"no\"}").isBot());
+        }
+
+        @Test
+        void parseUser_withEmptyObject_throwsJsonPropertyMissingException() {
+            assertThrows(JsonPropertyMissingException.class, () -> underTest.parseUser("{ }"));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "{\"id\":1,\"first_name\":\"A\"} trailing",
+                "{\"id\":1,\"first_name\":\"A\",}",
+                "{\"id\":01,\"first_name\":\"A\"}",
+                "{\"id\":1 \"first_name\":\"A\"}",
+                "{\"id\":1,\"first_name\":\"A\\x\"}",
+                "{\"id\":1,\"first_name\":\"A\",\"nested\":[1,{\"x\":}]}",
+                "{\"id\":tru,\"first_name\":\"A\"}",
+                "{id:1}",
+        })
+        void parseUser_withInvalidJson_throwsJsonParseException(String input) {
+            assertThrows(JsonParseException.class, () -> underTest.parseUser(input));
+        }
+
+        @Test
+        void parseUser_withDeeplyNestedExtraField_throwsJsonParseException() {
+            final String input = "{\"id\":1,\"first_name\":\"A\",\"x\":" + "[".repeat(5000) + "]".repeat(5000) + "}";
+
+            assertThrows(JsonParseException.class, () -> underTest.parseUser(input));
+        }
+
+        @Test
+        void parseUser_withNestingAtMaxDepth_skipsExtraField() {
+            // the top-level object is the first level
+            final int nested = FlatJsonReader.MAX_DEPTH - 1;
+            final String input = "{\"id\":1,\"first_name\":\"A\",\"x\":" + "[".repeat(nested) + "]".repeat(nested) + "}";
+            final String tooDeep = "{\"id\":1,\"first_name\":\"A\",\"x\":" + "[".repeat(nested + 1) + "]".repeat(nested + 1) + "}";
+
+            assertEquals(1, underTest.parseUser(input).getId());
+            assertThrows(JsonParseException.class, () -> underTest.parseUser(tooDeep));
+        }
+
+        @Test
+        void parseUser_withMalformedJson_throwsJsonParseException() {
+            final String inputMalformedJson = "{bad_json:";
+
+            assertThrows(JsonParseException.class, () -> underTest.parseUser(inputMalformedJson));
+        }
+    }
+
+    @Nested
+    class parseChatTest {
+        @Test
+        void parseChat_withAllFieldsProvided_returnsChat() {
+            final String inputAllFieldsProvided = "{"
+                    + "\"id\": 1001234567890,"
+                    + "\"type\": \"supergroup\","
+                    + "\"title\": \"Test Group\","
+                    + "\"photo_url\": \"https://example.com/photo.jpg\","
+                    + "\"username\": \"testgroup\""
+                    + "}";
+
+            final Chat expected = new Chat(
+                    1001234567890L, ChatType.SUPERGROUP, "Test Group", "https://example.com/photo.jpg", "testgroup"
+            );
+
+            final Chat actual = underTest.parseChat(inputAllFieldsProvided);
+
+            assertEquals(expected, actual);
+        }
+
+        @Test
+        void parseChat_withExtraFields_returnsChat() {
+            final String inputExtraFields = "{"
+                    + "\"id\": 1001234567890,"
+                    + "\"type\": \"group\","
+                    + "\"title\": \"Extras\","
+                    + "\"foo\": \"bar\","
+                    + "\"bar\": null"
+                    + "}";
+
+            final Map<String, String> expectedExtra = new HashMap<>();
+            expectedExtra.put("foo", "bar");
+            expectedExtra.put("bar", null);
+            final Chat expected = new Chat(
+                    1001234567890L, ChatType.GROUP, "Extras", null, null, Collections.unmodifiableMap(expectedExtra)
+            );
+
+            final Chat actual = underTest.parseChat(inputExtraFields);
+
+            assertEquals(expected, actual);
+        }
+
+        @Test
+        void parseChat_withNullInput_returnsNull() {
+            assertNull(underTest.parseChat(null));
+        }
+
+        @Test
+        void parseChat_withBlankInput_returnsNull() {
+            assertNull(underTest.parseChat("   "));
+        }
+
+        @Test
+        void parseChat_withMissingRequiredId_throwsJsonParseException() {
+            final String inputMissingRequiredId = "{"
+                    + "\"type\": \"supergroup\","
+                    + "\"title\": \"Missing ID\""
+                    + "}";
+
+            assertThrows(JsonPropertyMissingException.class, () -> underTest.parseChat(inputMissingRequiredId));
+        }
+
+        @Test
+        void parseChat_withMissingRequiredType_throwsJsonParseException() {
+            final String inputMissingRequiredType = "{"
+                    + "\"id\": 1,"
+                    + "\"title\": \"Missing Type\""
+                    + "}";
+
+            assertThrows(JsonPropertyMissingException.class, () -> underTest.parseChat(inputMissingRequiredType));
+        }
+
+        @Test
+        void parseChat_withMissingRequiredTitle_throwsJsonParseException() {
+            final String missingTitle = "{"
+                    + "\"id\": 1,"
+                    + "\"type\": \"private\""
+                    + "}";
+
+            assertThrows(JsonPropertyMissingException.class, () -> underTest.parseChat(missingTitle));
+        }
+
+        @Test
+        void parseChat_withUnknownType_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    underTest.parseChat("{\"id\":1,\"type\":\"unknown\",\"title\":\"T\"}")
+            );
+        }
+
+        @Test
+        void parseChat_withMalformedJson_throwsJsonParseException() {
+            final String inputMalformedJson = "{ \"id\": 1001234567890, \"type\": \"group\", \"title\": ";
+
+            assertThrows(JsonParseException.class, () -> underTest.parseChat(inputMalformedJson));
+        }
+    }
+    @Nested
+    class internPoolTest {
+        final InternPool pool = new InternPool();
+        final InitDataJsonTypesParser pooled = new SimpleInitDataJsonTypesParser(pool);
+
+        @Test
+        void parseUser_withSamePayload_returnsPooledUser() {
+            final String input = "{\"id\":1,\"first_name\":\"Alice\",\"language_code\":\"en\"}";
+
+            final User first = pooled.parseUser(input);
+
+            assertSame(first, pooled.parseUser(input));
+            assertEquals(underTest.parseUser(input), first);
+        }
+
+        @Test
+        void parseUser_withDifferentUsers_sharesLanguageCodeAndExtraKeys() {
+            final User alice = pooled.parseUser("{\"id\":1,\"first_name\":\"Alice\",\"language_code\":\"en\",\"x_key\":\"a\"}");
+            final User bob = pooled.parseUser("{\"id\":2,\"first_name\":\"Bob\",\"language_code\":\"en\",\"x_key\":\"b\"}");
+
+            assertSame(alice.getLanguageCode(), bob.getLanguageCode());
+            assertSame(
+                    alice.getExtra().keySet().iterator().next(),
+                    bob.getExtra().keySet().iterator().next()
+            );
+        }
+
+        @Test
+        void parseChat_withSamePayload_returnsPooledChat() {
+            final String input = "{\"id\":-100,\"type\":\"group\",\"title\":\"Group\"}";
+
+            final Chat first = pooled.parseChat(input);
+
+            assertSame(first, pooled.parseChat(input));
+            assertNotSame(first, pooled.parseChat(input.replace("Group", "Renamed")));
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package io.github.sanvew.tg.init.data.type;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InitDataLayoutTest {
+    static final String STUB_HASH = "8d6f2b3c1e0a9f4d5b6c7e8f90a1b2c3d4e5f60718293a4b5c6d7e8f9a0b1c2d";
+    static final User STUB_USER = new User(
+            true, false, null, "Vladislav", 279058397, null, "Kibenko", "ru", null, "sanvew"
+    );
+
+    @Nested
+    class userTest {
+        @Test
+        void instanceSize_withPackedBooleans_isSmallerThanBoxedLayout() {
+            final long compact = ClassLayout.parseClass(User.class).instanceSize();
+            final long boxed = ClassLayout.parseClass(BoxedUser.class).instanceSize();
+
+            assertTrue(compact < boxed, "compact " + compact + " B, boxed " + boxed + " B");
+        }
+
+        @Test
+        void booleanGetters_withEveryCombination_returnConstructorValues() {
+            final Boolean[] values = {null, Boolean.TRUE, Boolean.FALSE};
+            for (Boolean a : values) {
+                for (Boolean b : values) {
+                    for (Boolean c : values) {
+                        for (Boolean d : values) {
+                            final User user = new User(a, b, c, "Name", 1, d, null, null, null, null);
+
+                            assertEquals(a, user.isAddedToAttachmentMenu());
+                            assertEquals(b, user.allowsWriteToPm());
+                            assertEquals(c, user.isPremium());
+                            assertEquals(d, user.isBot());
+                        }
+                    }
+                }
+            }
+        }
+
+        @Test
+        void hashCode_matchesObjectsHashOverAllFields() {
+            final User user = new User(true, false, null, "Name", 42, true, "Last", "en", null, "user", Map.of("k", "v"));
+
+            assertEquals(Objects.hash(
+                    true, false, null, "Name", 42L, true, "Last", "en", null, "user", Map.of("k", "v")
+            ), user.hashCode());
+            assertEquals(user.hashCode(), user.hashCode());
+        }
+
+        @Test
+        void equals_withDifferentBoolean_returnsFalse() {
+            final User nullPremium = new User(null, null, null, "Name", 1, null, null, null, null, null);
+            final User falsePremium = new User(null, null, false, "Name", 1, null, null, null, null, null);
+
+            assertNotEquals(nullPremium, falsePremium);
+            assertEquals(nullPremium, new User(null, null, null, "Name", 1, null, null, null, null, null));
+        }
+
+        @Test
+        void getExtra_withNullOrEmptyMap_returnsSharedEmptyMap() {
+            final User withNull = new User(null, null, null, "Name", 1, null, null, null, null, null, null);
+            final User withEmpty = new User(null, null, null, "Name", 1, null, null, null, null, null, new HashMap<>());
+
+            assertSame(Map.of(), withNull.getExtra());
+            assertSame(withNull.getExtra(), withEmpty.getExtra());
+        }
+    }
+
+    @Nested
+    class chatTest {
+        @Test
+        void hashCode_matchesObjectsHashOverAllFields() {
+            final Chat chat = new Chat(-100, ChatType.GROUP, "Title", null, "group");
+
+            assertEquals(Objects.hash(-100L, ChatType.GROUP, "Title", null, "group", Map.of()), chat.hashCode());
+        }
+
+        @Test
+        void getExtra_withEmptyMap_returnsSharedEmptyMap() {
+            assertSame(Map.of(), new Chat(1, ChatType.GROUP, "Title", null, null, new HashMap<>()).getExtra());
+        }
+    }
+
+    @Nested
+    class initDataTest {
+        @Test
+        void footprint_withHexHash_isSmallerThanWithStringHash() {
+            final InitData packed = initData(STUB_HASH);
+            // upper case hex is kept as the String it was given
+            final InitData unpacked = initData(STUB_HASH.toUpperCase());
+
+            final long packedSize = GraphLayout.parseInstance(packed).totalSize();
+            final long unpackedSize = GraphLayout.parseInstance(unpacked).totalSize();
+
+            assertTrue(unpackedSize - packedSize >= 64, "packed " + packedSize + " B, unpacked " + unpackedSize + " B");
+        }
+
+        @Test
+        void getHash_withHexHash_returnsOriginalValue() {
+            assertEquals(STUB_HASH, initData(STUB_HASH).getHash());
+            assertEquals(STUB_HASH.toUpperCase(), initData(STUB_HASH.toUpperCase()).getHash());
+            assertEquals("dummyhashsignature", initData("dummyhashsignature").getHash());
+            assertEquals("f".repeat(64), initData("f".repeat(64)).getHash());
+        }
+
+        @Test
+        void getHash_calledRepeatedly_encodesPackedHashOnce() {
+            final InitData initData = initData(STUB_HASH);
+
+            assertSame(initData.getHash(), initData.getHash());
+        }
+
+        @Test
+        void hashCode_withPackedHash_matchesEncodedHash() {
+            final InitData fresh = initData(STUB_HASH);
+            final InitData encoded = initData(STUB_HASH);
+            encoded.getHash();
+
+            assertEquals(encoded.hashCode(), fresh.hashCode());
+        }
+
+        @Test
+        void equals_withPackedAndStringHash_comparesHashValue() {
+            assertEquals(initData(STUB_HASH), initData(STUB_HASH));
+            assertNotEquals(initData(STUB_HASH), initData(STUB_HASH.replace('8', '9')));
+            assertNotEquals(initData(STUB_HASH), initData(STUB_HASH.toUpperCase()));
+        }
+
+        @Test
+        void hashCode_matchesObjectsHashOverAllGetters() {
+            final InitData initData = initData(STUB_HASH);
+
+            assertEquals(Objects.hash(
+                    1749945600L, null, null, ChatType.SENDER, "-42", STUB_HASH, null, null, "ref", STUB_USER, Map.of()
+            ), initData.hashCode());
+            assertEquals(initData(STUB_HASH).hashCode(), initData.hashCode());
+        }
+
+        @Test
+        void getExtra_withEmptyMap_returnsSharedEmptyMap() {
+            final InitData initData = new InitData(
+                    1, null, null, null, null, STUB_HASH, null, null, null, null, new HashMap<>()
+            );
+
+            assertSame(Map.of(), initData.getExtra());
+        }
+
+        InitData initData(String hash) {
+            return new InitData(1749945600, null, null, ChatType.SENDER, "-42", hash, null, null, "ref", STUB_USER);
+        }
+    }
+
+    /**
+     * Field layout of {@link User} with one {@code Boolean} reference per optional flag.
+     */
+    @SuppressWarnings("unused")
+    static final class BoxedUser {
+        Boolean addedToAttachmentMenu;
+        Boolean allowsWriteToPm;
+        Boolean isPremium;
+        String firstName;
+        long id;
+        Boolean isBot;
+        String lastName;
+        String languageCode;
+        String photoUrl;
+        String username;
+        Map<String, String> extra;
+    }
+}
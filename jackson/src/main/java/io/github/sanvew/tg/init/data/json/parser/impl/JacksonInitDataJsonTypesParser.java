@@ -0,0 +1,265 @@
+package io.github.sanvew.tg.init.data.json.parser.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.jetbrains.annotations.Nullable;
+import io.github.sanvew.tg.init.data.exception.JsonParseException;
+import io.github.sanvew.tg.init.data.exception.JsonPropertyMissingException;
+import io.github.sanvew.tg.init.data.json.parser.InitDataJsonTypesParser;
+import io.github.sanvew.tg.init.data.json.parser.InternPool;
+import io.github.sanvew.tg.init.data.type.Chat;
+import io.github.sanvew.tg.init.data.type.ChatType;
+import io.github.sanvew.tg.init.data.type.User;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Implementation of {@link InitDataJsonTypesParser} on top of Jackson streaming deserializers.
+ * <p>
+ * With an {@link InternPool} the {@code language_code} values and whole objects are canonicalized through it;
+ * names of unknown properties are already canonicalized by the Jackson symbol table.
+ * <p>
+ * Registered as a {@link java.util.ServiceLoader} provider, so having this module on the classpath makes it the
+ * default parser of {@link io.github.sanvew.tg.init.data.InitDataUtils} and
+ * {@link io.github.sanvew.tg.init.data.InitDataValidator}.
+ */
+public class JacksonInitDataJsonTypesParser implements InitDataJsonTypesParser {
+    public static final InitDataJsonTypesParser INSTANCE = new JacksonInitDataJsonTypesParser();
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param pool optional pool to canonicalize parsed values through; if {@code null}, nothing is pooled
+     */
+    public JacksonInitDataJsonTypesParser(@Nullable InternPool pool) {
+        final Map<Class<?>, JsonDeserializer<?>> deserializer = Map.of(
+                Chat.class, new ChatDeserializer(pool),
+                User.class, new UserDeserializer(pool)
+        );
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new SimpleModule(
+                        "SimpleModule-" + getClass().getName(), Version.unknownVersion(), deserializer
+                ));
+    }
+
+    public JacksonInitDataJsonTypesParser() {
+        this(null);
+    }
+
+    @Override
+    public @Nullable User parseUser(@Nullable String input) {
+        if (input == null || input.isBlank()) { return null; }
+        try {
+            return this.objectMapper.readValue(input, User.class);
+        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+            throw new JsonParseException(User.class, e);
+        }
+    }
+
+    @Override
+    public @Nullable Chat parseChat(@Nullable String input) {
+        if (input == null || input.isBlank()) { return null; }
+        try {
+            return this.objectMapper.readValue(input, Chat.class);
+        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+            throw new JsonParseException(Chat.class, e);
+        }
+    }
+}
+
+class ChatDeserializer extends StdDeserializer<Chat> {
+    private static final Map<String, Chat.Property> PROPERTIES = StreamingFields.byValue(Chat.Property.values(), it -> it.value);
+
+    private final InternPool pool;
+
+    public ChatDeserializer(@Nullable InternPool pool) {
+        super((Class<?>) null);
+        this.pool = pool;
+    }
+
+    public ChatDeserializer() { this(null); }
+
+    @Override
+    public Chat deserialize(JsonParser jsonParser, DeserializationContext ctx) throws IOException {
+        Long id = null;
+        ChatType type = null;
+        String title = null;
+        String photoUrl = null;
+        String username = null;
+        Map<String, String> extra = null;
+
+        for (String field = StreamingFields.firstField(jsonParser); field != null; field = jsonParser.nextFieldName()) {
+            final JsonToken token = jsonParser.nextToken();
+            final Chat.Property property = PROPERTIES.get(field);
+            if (property == null) {
+                if (extra == null) { extra = new HashMap<>(); }
+                extra.put(field, StreamingFields.extraValue(jsonParser, token));
+                continue;
+            }
+            switch (property) {
+                case ID: id = StreamingFields.longValue(jsonParser, token); break;
+                case TYPE: type = ChatType.fromValue(StreamingFields.textValue(jsonParser, token)); break;
+                case TITLE: title = StreamingFields.textValue(jsonParser, token); break;
+                case PHOTO_URL: photoUrl = StreamingFields.textValue(jsonParser, token); break;
+                case USERNAME: username = StreamingFields.textValue(jsonParser, token); break;
+            }
+        }
+
+        if (id == null) { throw new JsonPropertyMissingException(Chat.class, Chat.Property.ID.value); }
+        if (type == null) { throw new JsonPropertyMissingException(Chat.class, Chat.Property.TYPE.value); }
+        if (title == null) { throw new JsonPropertyMissingException(Chat.class, Chat.Property.TITLE.value); }
+
+        final Chat chat = new Chat(id, type, title, photoUrl, username, extra);
+        return pool != null ? pool.chat(chat) : chat;
+    }
+}
+
+class UserDeserializer extends StdDeserializer<User> {
+    private static final Map<String, User.Property> PROPERTIES = StreamingFields.byValue(User.Property.values(), it -> it.value);
+
+    private final InternPool pool;
+
+    public UserDeserializer(@Nullable InternPool pool) {
+        super((Class<?>) null);
+        this.pool = pool;
+    }
+
+    public UserDeserializer() { this(null); }
+
+    @Override
+    public User deserialize(JsonParser jsonParser, DeserializationContext ctx) throws IOException {
+        Long id = null;
+        String firstName = null;
+        Boolean isBot = null;
+        String lastName = null;
+        String username = null;
+        String languageCode = null;
+        Boolean isPremium = null;
+        Boolean allowsWriteToPm = null;
+        Boolean addedToAttachmentMenu = null;
+        String photoUrl = null;
+        Map<String, String> extra = null;
+
+        for (String field = StreamingFields.firstField(jsonParser); field != null; field = jsonParser.nextFieldName()) {
+            final JsonToken token = jsonParser.nextToken();
+            final User.Property property = PROPERTIES.get(field);
+            if (property == null) {
+                if (extra == null) { extra = new HashMap<>(); }
+                extra.put(field, StreamingFields.extraValue(jsonParser, token));
+                continue;
+            }
+            switch (property) {
+                case ID: id = StreamingFields.longValue(jsonParser, token); break;
+                case FIRST_NAME: firstName = StreamingFields.textValue(jsonParser, token); break;
+                case IS_BOT: isBot = StreamingFields.booleanValue(jsonParser, token); break;
+                case LAST_NAME: lastName = StreamingFields.textValue(jsonParser, token); break;
+                case USERNAME: username = StreamingFields.textValue(jsonParser, token); break;
+                case LANGUAGE_CODE: languageCode = StreamingFields.textValue(jsonParser, token, pool); break;
+                case IS_PREMIUM: isPremium = StreamingFields.booleanValue(jsonParser, token); break;
+                case ALLOWS_WRITE_TO_PM: allowsWriteToPm = StreamingFields.booleanValue(jsonParser, token); break;
+                case ADDED_TO_ATTACHMENT_MENU: addedToAttachmentMenu = StreamingFields.booleanValue(jsonParser, token); break;
+                case PHOTO_URL: photoUrl = StreamingFields.textValue(jsonParser, token); break;
+            }
+        }
+
+        if (id == null) { throw new JsonPropertyMissingException(User.class, User.Property.ID.value); }
+        if (firstName == null) { throw new JsonPropertyMissingException(User.class, User.Property.FIRST_NAME.value); }
+
+        final User user = new User(
+                addedToAttachmentMenu, allowsWriteToPm, isPremium, firstName, id, isBot, lastName, languageCode,
+                photoUrl, username, extra
+        );
+        return pool != null ? pool.user(user) : user;
+    }
+}
+
+/**
+ * Token-level helpers shared by the streaming deserializers: values are read straight from {@link JsonParser}
+ * tokens without building a {@code JsonNode} tree. JSON {@code null} is treated as an absent property;
+ * nested objects and arrays are skipped.
+ */
+final class StreamingFields {
+    private StreamingFields() {}
+
+    static <P> Map<String, P> byValue(P[] properties, Function<P, String> value) {
+        final Map<String, P> byValue = new HashMap<>();
+        for (P property : properties) {
+            byValue.put(value.apply(property), property);
+        }
+        return Map.copyOf(byValue);
+    }
+
+    /**
+     * @return name of the first field of the object the parser is positioned at, or {@code null} if there is none
+     *         (including the case when the value is not an object at all)
+     */
+    static @Nullable String firstField(JsonParser jsonParser) throws IOException {
+        final JsonToken token = jsonParser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return jsonParser.nextFieldName();
+        }
+        if (token == JsonToken.FIELD_NAME) {
+            return jsonParser.currentName();
+        }
+        jsonParser.skipChildren();
+        return null;
+    }
+
+    static @Nullable String textValue(JsonParser jsonParser, JsonToken token) throws IOException {
+        if (token.isStructStart()) {
+            jsonParser.skipChildren();
+            return "";
+        }
+        return jsonParser.getValueAsString();
+    }
+
+    /**
+     * Same as {@link #textValue(JsonParser, JsonToken)}, canonicalized through {@code pool} if one is given;
+     * a string is looked up straight in the parser buffer and only copied out of it on a pool miss.
+     */
+    static @Nullable String textValue(JsonParser jsonParser, JsonToken token, @Nullable InternPool pool) throws IOException {
+        if (pool == null) { return textValue(jsonParser, token); }
+        if (token == JsonToken.VALUE_STRING) {
+            return pool.string(jsonParser.getTextCharacters(), jsonParser.getTextOffset(), jsonParser.getTextLength());
+        }
+        return pool.string(textValue(jsonParser, token));
+    }
+
+    static @Nullable Long longValue(JsonParser jsonParser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) { return null; }
+        if (token.isStructStart()) {
+            jsonParser.skipChildren();
+            return 0L;
+        }
+        return jsonParser.getValueAsLong();
+    }
+
+    static @Nullable Boolean booleanValue(JsonParser jsonParser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) { return null; }
+        if (token.isStructStart()) {
+            jsonParser.skipChildren();
+            return false;
+        }
+        return jsonParser.getValueAsBoolean();
+    }
+
+    /**
+     * @return text of string values; {@code null} for any other value, as extras keep only strings
+     */
+    static @Nullable String extraValue(JsonParser jsonParser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            return jsonParser.getText();
+        }
+        jsonParser.skipChildren();
+        return null;
+    }
+}
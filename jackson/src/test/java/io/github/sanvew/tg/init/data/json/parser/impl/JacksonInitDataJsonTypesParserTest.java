@@ -2,16 +2,22 @@ package io.github.sanvew.tg.init.data.json.parser.impl;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import io.github.sanvew.tg.init.data.InitDataUtils;
 import io.github.sanvew.tg.init.data.exception.JsonParseException;
 import io.github.sanvew.tg.init.data.exception.JsonPropertyMissingException;
 import io.github.sanvew.tg.init.data.json.parser.InitDataJsonTypesParser;
+import io.github.sanvew.tg.init.data.json.parser.InternPool;
 import io.github.sanvew.tg.init.data.type.Chat;
 import io.github.sanvew.tg.init.data.type.ChatType;
+import io.github.sanvew.tg.init.data.type.InitData;
 import io.github.sanvew.tg.init.data.type.User;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.ServiceLoader;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -81,6 +87,66 @@ class JacksonInitDataJsonTypesParserTest {
             assertEquals(expected, actual);
         }
 
+        @Test
+        void parseUser_withNonStringAndNestedExtraFields_keepsThemAsNull() {
+            final String inputNestedExtraFields = "{"
+                    + "\"nested\":{\"id\":2,\"first_name\":\"B\",\"deep\":[{\"x\":1}]},"
+                    + "\"list\":[1,2],"
+                    + "\"number\":42,"
+                    + "\"id\":1,"
+                    + "\"first_name\":\"A\","
+                    + "\"is_bot\":true"
+                    + "}";
+
+            final Map<String, String> expectedExtra = new HashMap<>();
+            expectedExtra.put("nested", null);
+            expectedExtra.put("list", null);
+            expectedExtra.put("number", null);
+            final User expected = new User(null, null, null, "A", 1, true, null, null, null, null, expectedExtra);
+
+            assertEquals(expected, underTest.parseUser(inputNestedExtraFields));
+        }
+
+        @Test
+        void parseUser_withNullOptionalFields_returnsUserWithNulls() {
+            final String inputNullFields = "{"
+                    + "\"id\":1,"
+                    + "\"first_name\":\"A\","
+                    + "\"last_name\":null,"
+                    + "\"is_premium\":null"
+                    + "}";
+
+            final User expected = new User(null, null, null, "A", 1, null, null, null, null, null);
+
+            assertEquals(expected, underTest.parseUser(inputNullFields));
+        }
+
+        @Test
+        void parseUser_withCoercibleValues_coercesThem() {
+            final String inputCoercibleValues = "{"
+                    + "\"id\":\"123\","
+                    + "\"first_name\":42,"
+                    + "\"is_premium\":\"true\""
+                    + "}";
+
+            final User expected = new User(null, null, true, "42", 123, null, null, null, null, null);
+
+            assertEquals(expected, underTest.parseUser(inputCoercibleValues));
+        }
+
+        @Test
+        void parseUser_withNullRequiredFirstName_throwsJsonPropertyMissingException() {
+            assertThrows(JsonPropertyMissingException.class, () ->
+                    underTest.parseUser("{\"id\":1,\"first_name\":null}")
+            );
+        }
+
+        @Test
+        void parseUser_withNonObjectJson_throwsJsonPropertyMissingException() {
+            assertThrows(JsonPropertyMissingException.class, () -> underTest.parseUser("[1,2]"));
+            assertThrows(JsonPropertyMissingException.class, () -> underTest.parseUser("\"text\""));
+        }
+
         @Test
         void parseUser_withNullInput_returnsNull() {
             assertNull(underTest.parseUser(null));
@@ -207,4 +273,104 @@ class JacksonInitDataJsonTypesParserTest {
             assertThrows(JsonParseException.class, () -> underTest.parseChat(inputMalformedJson));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class internPoolTest {
+        final InternPool pool = new InternPool();
+        final InitDataJsonTypesParser pooled = new JacksonInitDataJsonTypesParser(pool);
+
+        @Test
+        void parseUser_withSamePayload_returnsPooledUser() {
+            final String input = "{\"id\":1,\"first_name\":\"Alice\",\"language_code\":\"en\"}";
+
+            final User first = pooled.parseUser(input);
+
+            assertSame(first, pooled.parseUser(input));
+            assertEquals(underTest.parseUser(input), first);
+        }
+
+        @Test
+        void parseUser_withDifferentUsers_sharesLanguageCodeAndExtraKeys() {
+            final User alice = pooled.parseUser("{\"id\":1,\"first_name\":\"Alice\",\"language_code\":\"en\",\"x_key\":\"a\"}");
+            final User bob = pooled.parseUser("{\"id\":2,\"first_name\":\"Bob\",\"language_code\":\"en\",\"x_key\":\"b\"}");
+
+            assertSame(alice.getLanguageCode(), bob.getLanguageCode());
+            assertSame(
+                    alice.getExtra().keySet().iterator().next(),
+                    bob.getExtra().keySet().iterator().next()
+            );
+        }
+
+        @Test
+        void parseChat_withSamePayload_returnsPooledChat() {
+            final String input = "{\"id\":-100,\"type\":\"group\",\"title\":\"Group\"}";
+
+            final Chat first = pooled.parseChat(input);
+
+            assertSame(first, pooled.parseChat(input));
+            assertNotSame(first, pooled.parseChat(input.replace("Group", "Renamed")));
+        }
+    }
+
+    @Nested
+    class simpleParityTest {
+        final InitDataJsonTypesParser simple = new SimpleInitDataJsonTypesParser();
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "{\"id\":279058397,\"first_name\":\"Vladislav\",\"last_name\":\"Kibenko\",\"username\":\"vdkfrost\",\"language_code\":\"ru\",\"is_premium\":true}",
+                "{\"id\":\" 42 \",\"first_name\":false,\"is_bot\":0,\"is_premium\":\" true \",\"allows_write_to_pm\":{\"a\":[]}}",
+                "{\"id\":-1.5e1,\"first_name\":12.50,\"username\":[1,\"x\"],\"x\":1,\"y\":\"\\u00e9\",\"z\":null}",
+                "{\"first_name\":\"A\",\"id\":1,\"first_name\":\"B\"}",
+                " {\n\t\"id\" : 7 ,\r\n\"first_name\" : \"\" } ",
+        })
+        void parseUser_matchesSimpleImplementation(String input) {
+            assertEquals(underTest.parseUser(input), simple.parseUser(input));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "{\"id\":-1001234567890,\"type\":\"supergroup\",\"title\":\"Test \\\"Group\\\"\",\"photo_url\":\"https:\\/\\/t.me\\/i.svg\"}",
+                "{\"id\":\"5\",\"type\":\"channel\",\"title\":true,\"extra\":{\"deep\":{\"deeper\":[[],{}]}}}",
+        })
+        void parseChat_matchesSimpleImplementation(String input) {
+            assertEquals(underTest.parseChat(input), simple.parseChat(input));
+        }
+
+        @Test
+        void parseUser_withDeepNesting_rejectedAtSameDepth() {
+            final String allowed = nestedUser(FlatJsonReader.MAX_DEPTH - 1);
+            final String tooDeep = nestedUser(FlatJsonReader.MAX_DEPTH);
+
+            assertEquals(underTest.parseUser(allowed), simple.parseUser(allowed));
+            assertThrows(JsonParseException.class, () -> underTest.parseUser(tooDeep));
+            assertThrows(JsonParseException.class, () -> simple.parseUser(tooDeep));
+        }
+
+        String nestedUser(int nested) {
+            return "{\"id\":1,\"first_name\":\"A\",\"x\":" + "[".repeat(nested) + "]".repeat(nested) + "}";
+        }
+    }
+
+    @Nested
+    class serviceLoaderTest {
+        @Test
+        void serviceLoader_findsJacksonParser() {
+            final InitDataJsonTypesParser found = ServiceLoader.load(InitDataJsonTypesParser.class).findFirst().orElseThrow();
+
+            assertInstanceOf(JacksonInitDataJsonTypesParser.class, found);
+        }
+
+        @Test
+        void parse_withJacksonModuleOnClasspath_usesJacksonParser() {
+            // content after the top-level value is accepted by Jackson only
+            final String user = "{\"id\":1,\"first_name\":\"A\"} }";
+            final InitData actual = InitDataUtils.parse(
+                    "auth_date=1749945600&hash=abc&user=%7B%22id%22%3A1%2C%22first_name%22%3A%22A%22%7D%20%7D"
+            );
+
+            assertEquals("A", actual.getUser().getFirstName());
+            assertThrows(JsonParseException.class, () -> SimpleInitDataJsonTypesParser.INSTANCE.parseUser(user));
+        }
+    }
+}